@@ -69,7 +69,20 @@ public class BancoUtil {
 	 */
 	private static final Date DATA_BASE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(1997, Calendar.OCTOBER, 7).getTime();
 	
-	private static final Date DATA_LIMITE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(2025, Calendar.FEBRUARY, 21).getTime();
+	/**
+	 * <p>
+	 * Menor fator de vencimento de um ciclo: a partir de 03.07.2000 (fator 1000),
+	 * ao atingir 9999 (21.02.2025) o fator é reiniciado em 1000 (22.02.2025).
+	 * </p>
+	 */
+	private static final int FATOR_MINIMO_DO_CICLO = 1000;
+	
+	/**
+	 * <p>
+	 * Quantidade de fatores distintos (de 1000 a 9999) de um ciclo.
+	 * </p>
+	 */
+	private static final int DIAS_DO_CICLO = 9000;
 	
 	/**
 	 *
@@ -92,8 +105,8 @@ public class BancoUtil {
 	 * 		vencimento do bloqueto.<br/>
 	 * 		
 	 * 		Exemplos: 03/07/2000(Fator = 1000), 05/07/2000(Fator = 1002), 
-	 * 		01/05/2002 (Fator = 1667), 05/07/2000(Fator = 1002)
-	 * 		e 21/02/2025(Fator = 9999).
+	 * 		01/05/2002 (Fator = 1667), 05/07/2000(Fator = 1002),
+	 * 		21/02/2025(Fator = 9999) e 22/02/2025(Fator = 1000).
 	 *</p>
 	 *
 	 *<p>
@@ -106,10 +119,9 @@ public class BancoUtil {
 	 *              IllegalArgumentException será lançada.
 	 *			</li>
 	 *			<li>
-	 *				A data limite para o cálculo do fator de vencimento é 
-	 *				21/02/2025 (Fator de vencimento = 9999) Caso a data de 
-	 *				vencimento seja posterior a data limite, uma exceção do tipo 
-	 *				IllegalArgumentException será lançada.
+	 *				Ao atingir 9999 (21/02/2025) o fator de vencimento é 
+	 *				reiniciado em 1000 (22/02/2025) e segue em ciclos de 9000 
+	 *				dias: fator = 1000 + (dias desde 03/07/2000) mod 9000.
 	 *			</li>
 	 *		</ul>
 	 *</p>
@@ -131,17 +143,17 @@ public class BancoUtil {
 		}
 		else {
 			dataVencTruncada = DateUtils.truncate(dataVencimento, Calendar.DATE);
-			if (
-					 dataVencTruncada.before(DATA_BASE_DO_FATOR_DE_VENCIMENTO)
-				  || dataVencTruncada.after(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)		  
-				) {
+			if (dataVencTruncada.before(DATA_BASE_DO_FATOR_DE_VENCIMENTO)) {
 				throw new JRimumException(new IllegalArgumentException("Para o cálculo do fator de" +
-					" vencimento se faz necessário informar uma data entre" +
-					" " + DateUtil.FORMAT_DD_MM_YYYY.format(DATA_BASE_DO_FATOR_DE_VENCIMENTO) +
-					" e " + DateUtil.FORMAT_DD_MM_YYYY.format(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)));
+					" vencimento se faz necessário informar uma data a partir de" +
+					" " + DateUtil.FORMAT_DD_MM_YYYY.format(DATA_BASE_DO_FATOR_DE_VENCIMENTO)));
 			}
 			else {
 				fator = (int)DateUtil.calculeDiferencaEmDias(DATA_BASE_DO_FATOR_DE_VENCIMENTO, dataVencTruncada);
+				
+				if (fator >= FATOR_MINIMO_DO_CICLO) {
+					fator = FATOR_MINIMO_DO_CICLO + (fator - FATOR_MINIMO_DO_CICLO) % DIAS_DO_CICLO;
+				}
 			}
 		}	
 		
@@ -32,10 +32,17 @@ package br.com.nordestefomento.jrimum.utilix;
 import static br.com.nordestefomento.jrimum.utilix.ObjectUtil.isNotNull;
 
 import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.time.DateUtils;
 
@@ -64,19 +71,19 @@ public class DateUtil {
 	private static final long serialVersionUID = 4339951860440604914L;
 
 	/**
-	 * Formatador de datas no padrão dd/MM/yyyy.
+	 * Formatador de datas no padrão dd/MM/yyyy, seguro para uso concorrente.
 	 */
-	public static final DateFormat FORMAT_DD_MM_YYYY = new SimpleDateFormat("dd/MM/yyyy");
+	public static final DateFormat FORMAT_DD_MM_YYYY = new ThreadSafeDateFormat("dd/MM/yyyy");
 	
 	/**
-	 * Formatador de datas no padrão ddMMyy.
+	 * Formatador de datas no padrão ddMMyy, seguro para uso concorrente.
 	 */
-	public static final DateFormat FORMAT_DDMMYY = new SimpleDateFormat("ddMMyy");
+	public static final DateFormat FORMAT_DDMMYY = new ThreadSafeDateFormat("ddMMyy");
 	
 	/**
-	 * Formatador de datas no padrão yyMMdd.
+	 * Formatador de datas no padrão yyMMdd, seguro para uso concorrente.
 	 */
-	public static final DateFormat FORMAT_YYMMDD = new SimpleDateFormat("yyMMdd");
+	public static final DateFormat FORMAT_YYMMDD = new ThreadSafeDateFormat("yyMMdd");
 	
 	/**
 	 * Representa uma data inexistente. Usada em casos que não se pode usar
@@ -86,6 +93,20 @@ public class DateUtil {
 	 */
 	public static final Date DATE_NULL;
 	
+	/**
+	 * Quantidade máxima de formatos mantidos em <code>PATTERNS</code>.
+	 */
+	private static final int MAX_CACHED_PATTERNS = 256;
+	
+	/**
+	 * Formatadores já compilados de <code>parse(String, String)</code>, nunca
+	 * usados diretamente: cada chamada usa um clone, que não repete a
+	 * interpretação do padrão nem a busca dos dados do locale. São recriados
+	 * quando o fuso ou o locale padrão mudam (percebido em até 100 ms) e a
+	 * cada dia (início do século de anos com 2 dígitos).
+	 */
+	private static final ConcurrentMap<String, CachedPattern> PATTERNS = new ConcurrentHashMap<String, CachedPattern>();
+	
 	static {
 		
 		Calendar calendar = Calendar.getInstance();
@@ -138,7 +159,22 @@ public class DateUtil {
 			throw new NullPointerException("O formato da data não pode ter valor [null].");
 		}
 		
-		return parse(dateAsString, new SimpleDateFormat(dateFormat));
+		final CachedPattern cached = PATTERNS.get(dateFormat);
+		
+		CachedPattern pattern = cached;
+		
+		if (pattern == null || !pattern.isCurrent()) {
+			
+			pattern = new CachedPattern(dateFormat);
+			
+			if (cached != null) {
+				PATTERNS.replace(dateFormat, cached, pattern);
+			} else if (PATTERNS.size() < MAX_CACHED_PATTERNS) {
+				PATTERNS.putIfAbsent(dateFormat, pattern);
+			}
+		}
+		
+		return parse(dateAsString, (SimpleDateFormat) pattern.prototype.clone());
 	}
 	
 	/**
@@ -171,7 +207,10 @@ public class DateUtil {
 		} catch (ParseException e) {
 			
 			String msg = "A String [" + dateAsString + "] deve ser uma data válida no formato";
-			if (dateFormat instanceof SimpleDateFormat) {
+			if (dateFormat instanceof ThreadSafeDateFormat) {
+				msg += " [" + ((ThreadSafeDateFormat) dateFormat).toPattern() + "].";
+				
+			} else if (dateFormat instanceof SimpleDateFormat) {
 				SimpleDateFormat sdf = (SimpleDateFormat) dateFormat;
 				msg += " [" + sdf.toPattern() + "].";
 				
@@ -203,15 +242,13 @@ public class DateUtil {
 	public static long calculeDiferencaEmDias(final Date dataInicial, final Date dataFinal) {
 		
 		long fator = 0;
-		Date dataInicialTruncada, dataFinalTruncada;
 	
 		
 		if (isNotNull(dataInicial) && isNotNull(dataFinal)) {
 			
-			dataInicialTruncada = DateUtils.truncate(dataInicial, Calendar.DATE);
-			dataFinalTruncada   = DateUtils.truncate(dataFinal, Calendar.DATE);
+			TimeZone fuso = TimeZone.getDefault();
 			
-			fator = ((dataFinalTruncada.getTime() - dataInicialTruncada.getTime()) / DateUtils.MILLIS_PER_DAY);
+			fator = diaLocal(dataFinal, fuso) - diaLocal(dataInicial, fuso);
 			
 			if (fator < 0) {
 				fator *= -1;
@@ -224,5 +261,217 @@ public class DateUtil {
 	
 		return fator;
 	}
-
+	
+	/**
+	 * Dias desde 01/01/1970 até a data local do instante no fuso informado,
+	 * sem <code>Calendar</code> e sem depender das mudanças de horário de verão.
+	 */
+	private static long diaLocal(Date date, TimeZone fuso) {
+		
+		long millis = date.getTime();
+		long local = millis + fuso.getOffset(millis);
+		long dia = local / DateUtils.MILLIS_PER_DAY;
+		
+		if (local % DateUtils.MILLIS_PER_DAY < 0) {
+			dia--;
+		}
+		
+		return dia;
+	}
+	
+	/**
+	 * Formatador de <code>PATTERNS</code> com os padrões da JVM vigentes na
+	 * sua criação.
+	 */
+	private static final class CachedPattern {
+		
+		private final SimpleDateFormat prototype;
+		
+		private final Defaults createdWith;
+		
+		CachedPattern(String pattern) {
+			
+			this.createdWith = Defaults.current();
+			this.prototype = new SimpleDateFormat(pattern);
+		}
+		
+		boolean isCurrent() {
+			
+			return createdWith == Defaults.current();
+		}
+	}
+	
+	/**
+	 * Fuso e locale padrão da JVM e dia corrente (início do século de anos com
+	 * 2 dígitos). São verificados no máximo a cada <code>CHECK_INTERVAL</code>
+	 * milissegundos: enquanto não mudam, a mesma instância é mantida e a
+	 * validade de um <code>CachedPattern</code> é uma comparação de
+	 * referências, sem clonar o fuso com <code>TimeZone.getDefault()</code> a
+	 * cada uso.
+	 */
+	private static final class Defaults {
+		
+		private static final long CHECK_INTERVAL = 100L;
+		
+		private static volatile Defaults current = new Defaults(System.currentTimeMillis());
+		
+		private final String zoneId;
+		
+		private final Locale locale;
+		
+		private final long day;
+		
+		private volatile long checkUntil;
+		
+		Defaults(long now) {
+			
+			this.zoneId = TimeZone.getDefault().getID();
+			this.locale = Locale.getDefault(Locale.Category.FORMAT);
+			this.day = now / DateUtils.MILLIS_PER_DAY;
+			this.checkUntil = now + CHECK_INTERVAL;
+		}
+		
+		static Defaults current() {
+			
+			final Defaults defaults = current;
+			final long now = System.currentTimeMillis();
+			
+			if (now < defaults.checkUntil) {
+				return defaults;
+			}
+			
+			final Defaults fresh = new Defaults(now);
+			
+			if (fresh.day == defaults.day && fresh.zoneId.equals(defaults.zoneId)
+					&& fresh.locale.equals(defaults.locale)) {
+				
+				defaults.checkUntil = fresh.checkUntil;
+				
+				return defaults;
+			}
+			
+			current = fresh;
+			
+			return fresh;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * <code>DateFormat</code> imutável e seguro para uso concorrente: cada 
+	 * thread usa a sua própria cópia de um <code>SimpleDateFormat</code> do 
+	 * padrão, sem bloqueio. Os métodos que alterariam o formatador lançam 
+	 * <code>UnsupportedOperationException</code>.
+	 * </p>
+	 */
+	private static final class ThreadSafeDateFormat extends DateFormat {
+		
+		private static final long serialVersionUID = -6121437806203655211L;
+		
+		private final String pattern;
+		
+		private final transient ThreadLocal<SimpleDateFormat> formats;
+		
+		ThreadSafeDateFormat(String pattern) {
+			
+			final SimpleDateFormat prototype = new SimpleDateFormat(pattern);
+			
+			this.pattern = pattern;
+			this.calendar = (Calendar) prototype.getCalendar().clone();
+			this.numberFormat = (NumberFormat) prototype.getNumberFormat().clone();
+			this.formats = new ThreadLocal<SimpleDateFormat>() {
+				
+				@Override
+				protected SimpleDateFormat initialValue() {
+					
+					return (SimpleDateFormat) prototype.clone();
+				}
+			};
+		}
+		
+		@Override
+		public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+			
+			return formats.get().format(date, toAppendTo, fieldPosition);
+		}
+		
+		@Override
+		public Date parse(String source, ParsePosition pos) {
+			
+			return formats.get().parse(source, pos);
+		}
+		
+		String toPattern() {
+			
+			return pattern;
+		}
+		
+		@Override
+		public Calendar getCalendar() {
+			
+			return (Calendar) calendar.clone();
+		}
+		
+		@Override
+		public NumberFormat getNumberFormat() {
+			
+			return (NumberFormat) numberFormat.clone();
+		}
+		
+		@Override
+		public TimeZone getTimeZone() {
+			
+			return (TimeZone) calendar.getTimeZone().clone();
+		}
+		
+		@Override
+		public void setCalendar(Calendar newCalendar) {
+			
+			throw new UnsupportedOperationException("Formatador compartilhado imutável!");
+		}
+		
+		@Override
+		public void setNumberFormat(NumberFormat newNumberFormat) {
+			
+			throw new UnsupportedOperationException("Formatador compartilhado imutável!");
+		}
+		
+		@Override
+		public void setTimeZone(TimeZone zone) {
+			
+			throw new UnsupportedOperationException("Formatador compartilhado imutável!");
+		}
+		
+		@Override
+		public void setLenient(boolean lenient) {
+			
+			throw new UnsupportedOperationException("Formatador compartilhado imutável!");
+		}
+		
+		/**
+		 * @return cópia - Novo <code>SimpleDateFormat</code> do padrão, que pode ser alterado.
+		 */
+		@Override
+		public Object clone() {
+			
+			return formats.get().clone();
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			return (obj instanceof ThreadSafeDateFormat) && pattern.equals(((ThreadSafeDateFormat) obj).pattern);
+		}
+		
+		@Override
+		public int hashCode() {
+			
+			return pattern.hashCode();
+		}
+		
+		private Object readResolve() {
+			
+			return new ThreadSafeDateFormat(pattern);
+		}
+	}
 }
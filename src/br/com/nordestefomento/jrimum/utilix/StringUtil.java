@@ -60,6 +60,36 @@ public class StringUtil {
 	 */
 	private static final long serialVersionUID = 7425529940068032055L;
 	
+	/**
+	 * Símbolos removidos por <code>eliminateSymbols</code>.
+	 */
+	private static final String SYMBOLS = "-_=+%*@#&:.;,!?(){}[]/\\><\"'`";
+	
+	/**
+	 * Caracteres acentuados (ç, à, á, â, ã, ä, è, ... Û, Ü) tratados por 
+	 * <code>eliminateAccent</code>, na mesma ordem de <code>UNACCENTED_CHARS</code>.
+	 */
+	private static final String ACCENTED_CHARS = 
+		"\u00E7\u00C7" +
+		"\u00E0\u00E1\u00E2\u00E3\u00E4\u00E8\u00E9\u00EA\u00EB" +
+		"\u00EC\u00ED\u00EE\u00EF\u00F2\u00F3\u00F4\u00F5\u00F6" +
+		"\u00F9\u00FA\u00FB\u00FC" +
+		"\u00C0\u00C1\u00C2\u00C3\u00C4\u00C8\u00C9\u00CA\u00CB" +
+		"\u00CC\u00CD\u00CE\u00CF\u00D2\u00D3\u00D4\u00D5\u00D6" +
+		"\u00D9\u00DA\u00DB\u00DC";
+	
+	/**
+	 * Equivalentes sem acento de <code>ACCENTED_CHARS</code>.
+	 */
+	private static final String UNACCENTED_CHARS = 
+		"cC" +
+		"aaaaaeeee" +
+		"iiiiooooo" +
+		"uuuu" +
+		"AAAAAEEEE" +
+		"IIIIOOOOO" +
+		"UUUU";
+	
 	/**
 	 * Construtor privado que previne a instanciação da classe até por reflection
 	 */
@@ -76,41 +106,7 @@ public class StringUtil {
 	 */
 	public static String eliminateSymbols(final String str){
 		
-		String modifiedStr = str;
-		
-		if(isNotNull(modifiedStr)){
-			
-			modifiedStr = StringUtils.replace(str,"-", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"_", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"=", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"+", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"%", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"*", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"@", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"#", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"&", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,":", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,".", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,";", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,",", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"!", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"?", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"(", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,")", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"{", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"}", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"[", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"]", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"/", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"\\", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,">", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"<", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"\"", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"'", StringUtils.EMPTY);
-			modifiedStr = StringUtils.replace(str,"`", StringUtils.EMPTY);
-		}
-			
-		return modifiedStr;
+		return StringUtils.replaceChars(str, SYMBOLS, StringUtils.EMPTY);
 	}
 	
 	
@@ -175,76 +171,6 @@ public class StringUtil {
 	 */
 	public static String eliminateAccent(final String value) {
 		
-		String modifiedValue = value;
-		
-		//Para ç e Ç
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E7', 'c');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C7', 'C');
-
-		//Para à, á, â, ã e ä
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E0', 'a');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E1', 'a');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E2', 'a');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E3', 'a');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E4', 'a');
-
-		//Para è, é, ê e ë
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E8', 'e');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E9', 'e');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EA', 'e');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EB', 'e');
-
-		//Para ì, í, î e ï
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EC', 'i');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00ED', 'i');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EE', 'i');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EF', 'i');
-
-		//Para ò, ó, ô, õ e ö
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F2', 'o');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F3', 'o');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F4', 'o');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F5', 'o');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F6', 'o');
-
-		//Para ù, ú, û e ü
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F9', 'u');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FA', 'u');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FB', 'u');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FC', 'u');
-
-		//Para À, Á, Â, Ã e Ä
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C0', 'A');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C1', 'A');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C2', 'A');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C3', 'A');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C4', 'A');
-
-		//Para È, É, Ê e Ë
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C8', 'E');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C9', 'E');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CA', 'E');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CB', 'E');
-
-		//Para Ì, Í, Î e Ï
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CC', 'I');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CD', 'I');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CE', 'I');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CF', 'I');
-
-		//Para Ò, Ó, Ô, Õ e Ö
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D2', 'O');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D3', 'O');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D4', 'O');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D5', 'O');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D6', 'O');
-
-		//Para Ù, Ú, Û e Ü
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D9', 'U');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DA', 'U');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DB', 'U');
-		modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DC', 'U');
-		
-		return modifiedValue;
+		return StringUtils.replaceChars(value, ACCENTED_CHARS, UNACCENTED_CHARS);
 	}
 }
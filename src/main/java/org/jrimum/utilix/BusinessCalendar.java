@@ -0,0 +1,542 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:43:45
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:43:45
+ *
+ */
+
+package org.jrimum.utilix;
+
+import java.util.Calendar;
+
+/**
+ * <p>
+ * Calendário de dias úteis bancários, para o ajuste de vencimentos que caem
+ * em fins de semana ou feriados para o próximo dia útil.
+ * </p>
+ * <p>
+ * Os dias do intervalo de anos do calendário são indexados em um mapa de bits
+ * (um bit por dia, ligado nos dias úteis) acompanhado da contagem acumulada de
+ * dias úteis a cada 64 dias e da lista ordenada dos dias úteis. Assim,
+ * {@linkplain #isBusinessDay(int)}, {@linkplain #nextBusinessDay(int)},
+ * {@linkplain #addBusinessDays(int, int)} e
+ * {@linkplain #businessDaysBetween(int, int)} são calculados em tempo
+ * constante e sem alocação de objetos. As datas são epoch days
+ * ({@linkplain EpochDays}).
+ * </p>
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads. Feriados
+ * estaduais ou municipais são acrescentados com
+ * {@linkplain #with(HolidaySet...)}:
+ * </p>
+ * 
+ * <pre>
+ * BusinessCalendar recife = BusinessCalendar.NATIONAL.with(
+ * 		BusinessCalendar.annual(3, 6), BusinessCalendar.annual(7, 16));
+ * int vencimento = recife.nextBusinessDay(EpochDays.of(2026, 3, 6)); // 09/03/2026
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class BusinessCalendar {
+
+	/**
+	 * <p>
+	 * Feriados bancários nacionais:
+	 * </p>
+	 * <ul>
+	 * <li>Fixos: 01/01, 21/04, 01/05, 07/09, 12/10, 02/11, 15/11, 20/11 (a partir
+	 * de 2024) e 25/12;</li>
+	 * <li>Móveis, calculados a partir da Páscoa: segunda e terça-feira de
+	 * Carnaval, Sexta-feira Santa e Corpus Christi.</li>
+	 * </ul>
+	 */
+	public static final HolidaySet NATIONAL_HOLIDAYS = new NationalHolidays();
+
+	/**
+	 * Calendário com os {@linkplain #NATIONAL_HOLIDAYS feriados nacionais} de
+	 * 1997 (data base do fator de vencimento) a 2099.
+	 */
+	public static final BusinessCalendar NATIONAL = of(1997, 2099, NATIONAL_HOLIDAYS);
+
+	private static final int ADDRESS_BITS_PER_WORD = 6;
+
+	private final int firstYear;
+
+	private final int lastYear;
+
+	private final HolidaySet[] holidaySets;
+
+	/**
+	 * Epoch day de 01/01 do primeiro ano.
+	 */
+	private final int firstDay;
+
+	/**
+	 * Quantidade de dias do calendário.
+	 */
+	private final int length;
+
+	/**
+	 * Mapa de bits indexado por <code>epochDay - firstDay</code>, com os dias
+	 * úteis ligados.
+	 */
+	private final long[] words;
+
+	/**
+	 * Quantidade de dias úteis antes de cada palavra do mapa de bits.
+	 */
+	private final int[] counts;
+
+	/**
+	 * Dias úteis em ordem crescente.
+	 */
+	private final int[] businessDays;
+
+	private BusinessCalendar(int firstYear, int lastYear, HolidaySet[] holidaySets) {
+
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+		this.holidaySets = holidaySets;
+		this.firstDay = (int) EpochDays.of(firstYear, 1, 1);
+		this.length = (int) EpochDays.of(lastYear + 1, 1, 1) - firstDay;
+		this.words = new long[(length + 63) >>> ADDRESS_BITS_PER_WORD];
+
+		for (int i = 0; i < length; i++) {
+
+			final int dayOfWeek = EpochDays.dayOfWeek(firstDay + i);
+
+			if (dayOfWeek != Calendar.SATURDAY && dayOfWeek != Calendar.SUNDAY) {
+				words[i >>> ADDRESS_BITS_PER_WORD] |= 1L << i;
+			}
+		}
+
+		for (HolidaySet holidays : holidaySets) {
+			for (int year = firstYear; year <= lastYear; year++) {
+				for (int holiday : holidays.holidaysOf(year)) {
+
+					final int i = holiday - firstDay;
+
+					if (i >= 0 && i < length) {
+						words[i >>> ADDRESS_BITS_PER_WORD] &= ~(1L << i);
+					}
+				}
+			}
+		}
+
+		this.counts = new int[words.length + 1];
+
+		for (int w = 0; w < words.length; w++) {
+			counts[w + 1] = counts[w] + Long.bitCount(words[w]);
+		}
+
+		this.businessDays = new int[counts[words.length]];
+
+		for (int w = 0, count = 0; w < words.length; w++) {
+
+			long word = words[w];
+
+			while (word != 0) {
+
+				businessDays[count++] = firstDay + (w << ADDRESS_BITS_PER_WORD)
+						+ Long.numberOfTrailingZeros(word);
+
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Cria um calendário para o intervalo de anos informado.
+	 * </p>
+	 * 
+	 * @param firstYear
+	 *            - Primeiro ano do calendário.
+	 * @param lastYear
+	 *            - Último ano do calendário.
+	 * @param holidaySets
+	 *            - Conjuntos de feriados; sem nenhum, apenas os fins de
+	 *            semana não são dias úteis.
+	 * @return calendário - Nova instância imutável.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o intervalo de anos seja inválido ou algum conjunto
+	 *             seja <code>null</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public static BusinessCalendar of(int firstYear, int lastYear,
+			HolidaySet... holidaySets) {
+
+		if (firstYear < 1600 || lastYear > 9999 || firstYear > lastYear) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Intervalo de anos inválido: %d a %d!", firstYear, lastYear));
+		}
+
+		return new BusinessCalendar(firstYear, lastYear, checkHolidaySets(holidaySets));
+	}
+
+	/**
+	 * <p>
+	 * Cria um novo calendário com o mesmo intervalo de anos e os feriados desta
+	 * instância acrescidos dos informados (ex.: feriados estaduais ou
+	 * municipais).
+	 * </p>
+	 * 
+	 * @param holidaySets
+	 *            - Conjuntos de feriados acrescentados.
+	 * @return calendário - Nova instância imutável.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum conjunto seja <code>null</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public BusinessCalendar with(HolidaySet... holidaySets) {
+
+		checkHolidaySets(holidaySets);
+
+		final HolidaySet[] all = new HolidaySet[this.holidaySets.length + holidaySets.length];
+
+		System.arraycopy(this.holidaySets, 0, all, 0, this.holidaySets.length);
+		System.arraycopy(holidaySets, 0, all, this.holidaySets.length, holidaySets.length);
+
+		return new BusinessCalendar(firstYear, lastYear, all);
+	}
+
+	/**
+	 * <p>
+	 * Feriado de data fixa, repetido todos os anos (ex.: aniversário da
+	 * cidade).
+	 * </p>
+	 * 
+	 * @param month
+	 *            - Mês, de 1 a 12.
+	 * @param dayOfMonth
+	 *            - Dia do mês.
+	 * @return conjunto com o feriado.
+	 * 
+	 * @since 0.2
+	 */
+	public static HolidaySet annual(final int month, final int dayOfMonth) {
+
+		return new HolidaySet() {
+
+			public int[] holidaysOf(int year) {
+
+				return new int[] { (int) EpochDays.of(year, month, dayOfMonth) };
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Feriados em datas específicas (ex.: pontos facultativos decretados).
+	 * </p>
+	 * 
+	 * @param epochDays
+	 *            - Epoch days dos feriados.
+	 * @return conjunto com os feriados.
+	 * 
+	 * @since 0.2
+	 */
+	public static HolidaySet dates(int... epochDays) {
+
+		Objects.checkNotNull(epochDays, "INVALID NULL ARRAY!");
+
+		final int[] copy = epochDays.clone();
+
+		return new HolidaySet() {
+
+			public int[] holidaysOf(int year) {
+
+				return copy;
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Calcula o domingo de Páscoa (algoritmo de Meeus/Jones/Butcher para o
+	 * calendário gregoriano).
+	 * </p>
+	 * 
+	 * @param year
+	 *            - Ano.
+	 * @return epoch day do domingo de Páscoa.
+	 * 
+	 * @since 0.2
+	 */
+	public static int easter(int year) {
+
+		final int a = year % 19;
+		final int b = year / 100;
+		final int c = year % 100;
+		final int d = b / 4;
+		final int e = b % 4;
+		final int f = (b + 8) / 25;
+		final int g = (b - f + 1) / 3;
+		final int h = (19 * a + b - d - g + 15) % 30;
+		final int i = c / 4;
+		final int k = c % 4;
+		final int l = (32 + 2 * e + 2 * i - h - k) % 7;
+		final int m = (a + 11 * h + 22 * l) / 451;
+		final int month = (h + l - 7 * m + 114) / 31;
+		final int day = (h + l - 7 * m + 114) % 31 + 1;
+
+		return (int) EpochDays.of(year, month, day);
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Data.
+	 * @return <code>true</code> se a data não é fim de semana nem feriado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data esteja fora do intervalo do calendário.
+	 * 
+	 * @since 0.2
+	 */
+	public boolean isBusinessDay(int epochDay) {
+
+		final int i = indexOf(epochDay);
+
+		return (words[i >>> ADDRESS_BITS_PER_WORD] & (1L << i)) != 0;
+	}
+
+	/**
+	 * <p>
+	 * Obtém a própria data, caso seja dia útil, ou o dia útil seguinte (ex.:
+	 * o vencimento efetivo de um título).
+	 * </p>
+	 * 
+	 * @param epochDay
+	 *            - Data.
+	 * @return epoch day do dia útil.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data ou o resultado esteja fora do intervalo do
+	 *             calendário.
+	 * 
+	 * @since 0.2
+	 */
+	public int nextBusinessDay(int epochDay) {
+
+		return businessDay(countBefore(indexOf(epochDay)));
+	}
+
+	/**
+	 * <p>
+	 * Obtém a própria data, caso seja dia útil, ou o dia útil anterior.
+	 * </p>
+	 * 
+	 * @param epochDay
+	 *            - Data.
+	 * @return epoch day do dia útil.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data ou o resultado esteja fora do intervalo do
+	 *             calendário.
+	 * 
+	 * @since 0.2
+	 */
+	public int previousBusinessDay(int epochDay) {
+
+		return businessDay(countThrough(indexOf(epochDay)) - 1);
+	}
+
+	/**
+	 * <p>
+	 * Avança ou retrocede a quantidade de dias úteis informada: com
+	 * <code>days</code> positivo, o n-ésimo dia útil após a data; negativo, o
+	 * n-ésimo dia útil antes da data; zero, o mesmo que
+	 * {@linkplain #nextBusinessDay(int)}.
+	 * </p>
+	 * 
+	 * @param epochDay
+	 *            - Data.
+	 * @param days
+	 *            - Quantidade de dias úteis.
+	 * @return epoch day do dia útil.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data ou o resultado esteja fora do intervalo do
+	 *             calendário.
+	 * 
+	 * @since 0.2
+	 */
+	public int addBusinessDays(int epochDay, int days) {
+
+		final int i = indexOf(epochDay);
+
+		if (days > 0) {
+			return businessDay((long) countThrough(i) + days - 1);
+		}
+
+		return businessDay((long) countBefore(i) + days);
+	}
+
+	/**
+	 * <p>
+	 * Conta os dias úteis após a data inicial até a data final, inclusive (ex.:
+	 * dias úteis de atraso); negativo caso a data final seja anterior à
+	 * inicial.
+	 * </p>
+	 * 
+	 * @param from
+	 *            - Data inicial.
+	 * @param to
+	 *            - Data final.
+	 * @return quantidade de dias úteis no intervalo <code>(from, to]</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso alguma data esteja fora do intervalo do calendário.
+	 * 
+	 * @since 0.2
+	 */
+	public int businessDaysBetween(int from, int to) {
+
+		return countThrough(indexOf(to)) - countThrough(indexOf(from));
+	}
+
+	/**
+	 * @return ano - Primeiro ano do calendário.
+	 */
+	public int getFirstYear() {
+
+		return firstYear;
+	}
+
+	/**
+	 * @return ano - Último ano do calendário.
+	 */
+	public int getLastYear() {
+
+		return lastYear;
+	}
+
+	@Override
+	public String toString() {
+
+		return "BusinessCalendar[" + firstYear + "-" + lastYear + ", "
+				+ businessDays.length + " dias úteis]";
+	}
+
+	private int indexOf(int epochDay) {
+
+		final int i = epochDay - firstDay;
+
+		if (i < 0 || i >= length) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Data [%d] fora do calendário de %d a %d!", epochDay,
+					firstYear, lastYear));
+		}
+
+		return i;
+	}
+
+	/**
+	 * Quantidade de dias úteis antes do índice.
+	 */
+	private int countBefore(int i) {
+
+		final int w = i >>> ADDRESS_BITS_PER_WORD;
+
+		return counts[w] + Long.bitCount(words[w] & ((1L << i) - 1));
+	}
+
+	/**
+	 * Quantidade de dias úteis até o índice, inclusive.
+	 */
+	private int countThrough(int i) {
+
+		final int w = i >>> ADDRESS_BITS_PER_WORD;
+
+		return counts[w] + Long.bitCount(words[w] & (-1L >>> (63 - (i & 63))));
+	}
+
+	private int businessDay(long rank) {
+
+		if (rank < 0 || rank >= businessDays.length) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Dia útil fora do calendário de %d a %d!", firstYear, lastYear));
+		}
+
+		return businessDays[(int) rank];
+	}
+
+	private static HolidaySet[] checkHolidaySets(HolidaySet[] holidaySets) {
+
+		Objects.checkNotNull(holidaySets, "INVALID NULL HOLIDAY SET!");
+
+		for (HolidaySet holidays : holidaySets) {
+			Objects.checkNotNull(holidays, "INVALID NULL HOLIDAY SET!");
+		}
+
+		return holidaySets.clone();
+	}
+
+	/**
+	 * Feriados bancários nacionais.
+	 */
+	private static final class NationalHolidays implements HolidaySet {
+
+		private static final int[][] FIXED = { { 1, 1 }, { 4, 21 }, { 5, 1 },
+				{ 9, 7 }, { 10, 12 }, { 11, 2 }, { 11, 15 }, { 12, 25 } };
+
+		/**
+		 * Dia Nacional de Zumbi e da Consciência Negra (Lei 14.759/2023).
+		 */
+		private static final int CONSCIENCIA_NEGRA_DESDE = 2024;
+
+		public int[] holidaysOf(int year) {
+
+			final int[] holidays = new int[FIXED.length + 4
+					+ (year >= CONSCIENCIA_NEGRA_DESDE ? 1 : 0)];
+
+			int count = 0;
+
+			for (int[] monthDay : FIXED) {
+				holidays[count++] = (int) EpochDays.of(year, monthDay[0], monthDay[1]);
+			}
+
+			if (year >= CONSCIENCIA_NEGRA_DESDE) {
+				holidays[count++] = (int) EpochDays.of(year, 11, 20);
+			}
+
+			final int easter = easter(year);
+
+			holidays[count++] = easter - 48; // Segunda-feira de Carnaval
+			holidays[count++] = easter - 47; // Terça-feira de Carnaval
+			holidays[count++] = easter - 2; // Sexta-feira Santa
+			holidays[count++] = easter + 60; // Corpus Christi
+
+			return holidays;
+		}
+	}
+}
@@ -28,15 +28,18 @@
  */
 package org.jrimum.utilix;
 
-import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 import org.apache.commons.lang.time.DateUtils;
+import org.jrimum.utilix.text.CompiledDateFormat;
+import org.jrimum.utilix.text.ConcurrentDateFormat;
 
 /**
  * <p>
@@ -63,33 +66,52 @@ public final class Dates {
      * <code>Calendar.set(1, 0, 1)</code></em> ]
      * </p>
      */
-    private static final Date DATE_NULL;
+    private static final long DATE_NULL;
 
     static {
 
         Calendar calendar = Calendar.getInstance();
         calendar.set(1, 0, 1);
         calendar.setLenient(false);
-        DATE_NULL = DateUtils.truncate(calendar.getTime(), Calendar.YEAR);
+        DATE_NULL = DateUtils.truncate(calendar.getTime(), Calendar.YEAR).getTime();
     }
 
     /**
-     * Utility class pattern: classe não instanciável
+     * <p>
+     * Data inexistente (01/01/0001) imutável, que pode ser compartilhada e
+     * comparada sem criar objetos. Qualquer tentativa de alteração lança
+     * <code>UnsupportedOperationException</code>.
+     * </p>
      *
-     * @throws IllegalStateException Caso haja alguma tentativa de utilização
-     * deste construtor.
+     * @see #isInvalidDate(long)
+     * @since 0.2
      */
-    public static final DateFormat FORMAT_YYMMDD = new SimpleDateFormat(
+    public static final Date INVALID_DATE = new InvalidDate(DATE_NULL);
+
+    /**
+     * <p>
+     * Formatador de datas no padrão <tt>yyMMdd</tt>, imutável e seguro para
+     * uso concorrente.
+     * </p>
+     */
+    public static final DateFormat FORMAT_YYMMDD = new ConcurrentDateFormat(
             "yyMMdd");
 
     /**
      * <p>
-     * Formatador de datas no padrão <tt>yyyyMMdd</tt>.
+     * Formatador de datas no padrão <tt>yyyyMMdd</tt>, imutável e seguro para
+     * uso concorrente.
      * </p>
      */
-    public static final DateFormat FORMAT_YYYYMMDD = new SimpleDateFormat(
+    public static final DateFormat FORMAT_YYYYMMDD = new ConcurrentDateFormat(
             "yyyyMMdd");
 
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
     private Dates() {
 
         Exceptions.throwIllegalStateException("Instanciação não permitida!");
@@ -102,11 +124,16 @@ public final class Dates {
      * <code>Calendar.set(1, 0, 1)</code></em> ]
      * </p>
      *
+     * <p>
+     * Cada chamada cria uma nova data, que pode ser alterada; para apenas
+     * comparar ou compartilhar, use {@linkplain #INVALID_DATE}.
+     * </p>
+     *
      * @return data invalida - 01/01/0001
      */
     public static Date invalidDate() {
 
-        return (Date) DATE_NULL.clone();
+        return new Date(DATE_NULL);
     }
 
     /**
@@ -126,10 +153,26 @@ public final class Dates {
 
         } else {
 
-            return (DATE_NULL.compareTo(date) == 0);
+            return isInvalidDate(date.getTime());
         }
     }
 
+    /**
+     * <p>
+     * Verifica se o instante é o da data invalida 01/01/0001, sem criar
+     * objetos.
+     * </p>
+     *
+     * @param millis - Instante em milissegundos desde 01/01/1970 UTC.
+     *
+     * @return igualdade - Se igual a data inválida
+     * @since 0.2
+     */
+    public static boolean isInvalidDate(long millis) {
+
+        return millis == DATE_NULL;
+    }
+
     /**
      * <p>
      * Calcula a diferença de dias entre duas datas. O resultado é modular, ou
@@ -147,29 +190,37 @@ public final class Dates {
      */
     public static long calculeDiferencaEmDias(final Date dataInicial, final Date dataFinal) {
 
-        long fator = 0;
-
-        Date dataInicialTruncada, dataFinalTruncada;
-
-        if (isNotNull(dataInicial) && isNotNull(dataFinal)) {
-
-            dataInicialTruncada = DateUtils.truncate(dataInicial, Calendar.DATE);
-            dataFinalTruncada = DateUtils.truncate(dataFinal, Calendar.DATE);
-
-            fator = ((dataFinalTruncada.getTime() - dataInicialTruncada.getTime()) / DateUtils.MILLIS_PER_DAY);
+        return calculeDiferencaEmDias(dataInicial, dataFinal, TimeZone.getDefault());
+    }
 
-            if (fator < 0) {
-                fator *= -1;
-            }
+    /**
+     * <p>
+     * Calcula a diferença de dias entre as datas locais, no fuso informado, de
+     * dois instantes. O resultado é modular, ou seja, maior ou igual a zero, e
+     * não é afetado pelas horas nem pelas mudanças de horário de verão.
+     * </p>
+     *
+     * @param dataInicial - data inicial do intervalo.
+     * @param dataFinal - data final do intervalo.
+     * @param fuso - fuso horário das datas.
+     * @return número(módulo) de dias entre as datas.
+     *
+     * @throws IllegalArgumentException Caso pelo menos um dos parâmetros seja
+     * <code>null</code>.
+     * @since 0.2
+     */
+    public static long calculeDiferencaEmDias(final Date dataInicial, final Date dataFinal, final TimeZone fuso) {
 
-        } else {
+        if (isNull(dataInicial) || isNull(dataFinal)) {
 
             Exceptions.throwIllegalArgumentException("A data inicial [" + dataInicial
                     + "] e a data final [" + dataFinal + "] "
                     + "não podem ter valor 'null'.");
         }
 
-        return fator;
+        Objects.checkNotNull(fuso, "O fuso horário não pode ter valor [null].");
+
+        return Math.abs(EpochDays.daysBetween(dataInicial, dataFinal, fuso));
     }
 
     /**
@@ -179,8 +230,8 @@ public final class Dates {
      * </p>
      * <p>
      * Utiliza a sobrecarca
-     * <code>parse(String dateAsString, String dateFormat)</code> para realizar
-     * a conversão.
+     * <code>parse(CharSequence dateAsString, String dateFormat)</code> para
+     * realizar a conversão.
      * </p>
      *
      * @param dateAsString - um valor de data em forma de <code>String</code>.
@@ -194,11 +245,47 @@ public final class Dates {
      */
     public static Date parse(String dateAsString, String dateFormat) {
 
+        return parse((CharSequence) dateAsString, dateFormat);
+    }
+
+    /**
+     * <p>
+     * Converte um texto em um objeto <code>java.util.Date</code> de acordo
+     * com o formato especificado.
+     * </p>
+     * <p>
+     * O formato é compilado uma única vez e mantido em cache por
+     * {@linkplain CompiledDateFormat#compile(String)}, de modo que chamadas
+     * com o mesmo formato não criam um novo <code>SimpleDateFormat</code>.
+     * </p>
+     *
+     * @param dateAsString - um valor de data em forma de texto.
+     * @param dateFormat - formato de data em forma de <code>String</code>.
+     * @return Objeto <code>java.util.Date</code> convertido a partir do texto.
+     *
+     * @throws IllegalArgumentException caso o texto não seja um valor válido
+     * de data suportado pelo formato ou o formato seja inválido.
+     * @since 0.2
+     */
+    public static Date parse(CharSequence dateAsString, String dateFormat) {
+
         if (dateFormat == null) {
             throw new NullPointerException("O formato da data não pode ter valor [null].");
         }
 
-        return parse(dateAsString, new SimpleDateFormat(dateFormat));
+        if (dateAsString == null) {
+            throw new NullPointerException("A String a ser convertida não pode ter valor [null].");
+        }
+
+        final Date date = CompiledDateFormat.compile(dateFormat).tryParse(
+                dateAsString, 0, dateAsString.length());
+
+        if (date == null) {
+            throw new IllegalArgumentException("A String [" + dateAsString
+                    + "] deve ser uma data válida no formato [" + dateFormat + "].");
+        }
+
+        return date;
     }
 
     /**
@@ -241,6 +328,9 @@ public final class Dates {
                 SimpleDateFormat sdf = (SimpleDateFormat) dateFormat;
                 msg += " [" + sdf.toPattern() + "].";
 
+            } else if (dateFormat instanceof ConcurrentDateFormat) {
+                msg += " [" + ((ConcurrentDateFormat) dateFormat).toPattern() + "].";
+
             } else {
                 msg += " especificado.";
             }
@@ -271,11 +361,124 @@ public final class Dates {
      * @since 0.3
      */
     public static Date truncarData(Date date) {
+
+        return truncarData(date, TimeZone.getDefault());
+    }
+
+    /**
+     * <p>
+     * Retorna um objeto <code>java.util.Date</code> com o início do dia, no
+     * fuso informado, do instante informado (ex.: datas de negócio em
+     * <tt>America/Sao_Paulo</tt> em uma JVM em UTC).
+     * </p>
+     *
+     * @param date - um data em forma de <code>java.util.Date</code>.
+     * @param zone - fuso horário da data.
+     *
+     * @return Objeto <code>java.util.Date</code> truncado a partir do objeto
+     * <code>java.util.Date</code> informado como parâmetro.
+     *
+     * @throws NullPointerException Caso a data ou o fuso esteja nulo
+     * @see #truncarData(long, TimeZone)
+     * @since 0.2
+     */
+    public static Date truncarData(Date date, TimeZone zone) {
         if (date == null) {
             throw new NullPointerException("O data não pode ser nula. Impossível realizar o truncamento da data.");
         }
 
-        return DateUtils.truncate(date, Calendar.DATE);
+        return new Date(truncarData(date.getTime(), zone));
+    }
+
+    /**
+     * <p>
+     * Calcula o início do dia, no fuso informado, do instante informado, sem
+     * <code>Calendar</code> e sem criar objetos. Nos dias em que a meia-noite
+     * não existe (início do horário de verão à meia-noite), o resultado é o
+     * primeiro instante do dia, o mesmo de um <code>Calendar</code>.
+     * </p>
+     *
+     * @param millis - Instante em milissegundos desde 01/01/1970 UTC.
+     * @param zone - fuso horário da data.
+     *
+     * @return instante do início do dia.
+     *
+     * @throws NullPointerException Caso o fuso esteja nulo
+     * @since 0.2
+     */
+    public static long truncarData(long millis, TimeZone zone) {
+        if (zone == null) {
+            throw new NullPointerException("O fuso horário não pode ser nulo. Impossível realizar o truncamento da data.");
+        }
+
+        final int offset = zone.getOffset(millis);
+        final long midnight = Math.floorDiv(millis + offset, EpochDays.MILLIS_PER_DAY) * EpochDays.MILLIS_PER_DAY;
+        final long start = midnight - offset;
+        final int startOffset = zone.getOffset(start);
+
+        // Mudança de horário entre a meia-noite e o instante.
+        return (startOffset == offset) ? start : midnight - startOffset;
+    }
+
+    /**
+     * Data imutável de {@linkplain Dates#INVALID_DATE}.
+     */
+    private static final class InvalidDate extends Date {
+
+        private static final long serialVersionUID = -2858463722851392317L;
+
+        InvalidDate(long time) {
+
+            super(time);
+        }
+
+        @Override
+        public void setTime(long time) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setYear(int year) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setMonth(int month) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setDate(int date) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setHours(int hours) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setMinutes(int minutes) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
+
+        @Override
+        @Deprecated
+        public void setSeconds(int seconds) {
+
+            Exceptions.throwUnsupportedOperationException("Data inválida imutável!");
+        }
     }
 
 }
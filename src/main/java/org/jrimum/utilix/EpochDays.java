@@ -0,0 +1,527 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:09:35
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:09:35
+ *
+ */
+
+package org.jrimum.utilix;
+
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Aritmética de datas representadas como <i>epoch days</i>: a quantidade de
+ * dias desde 01/01/1970 no calendário gregoriano proléptico (o mesmo de
+ * <code>java.time.LocalDate.toEpochDay()</code>).
+ * </p>
+ * <p>
+ * As conversões são feitas por cálculo direto, sem <code>Calendar</code> e sem
+ * alocação de objetos. Exemplo:
+ * </p>
+ * 
+ * <pre>
+ * long day = EpochDays.of(2025, 2, 22);       // 20141
+ * EpochDays.toYyyyMmDd(day + 7)               // 20250301
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class EpochDays {
+
+	/**
+	 * Milissegundos em um dia.
+	 */
+	public static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+	/**
+	 * Dias em um ciclo de 400 anos.
+	 */
+	private static final long DAYS_PER_CYCLE = 146097;
+
+	/**
+	 * Dias de 01/03/0000 até 01/01/1970.
+	 */
+	private static final int DAYS_0000_TO_1970 = 719468;
+
+	/**
+	 * Quantidade de elementos a partir da qual os cálculos em lote
+	 * paralelos são divididos entre as threads.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private EpochDays() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	/**
+	 * <p>
+	 * Calcula o epoch day da data informada. Assim como um
+	 * <code>Calendar</code> leniente, mês e dia fora dos limites avançam ou
+	 * retrocedem a data (ex.: 31/02 =&gt; 02/03 ou 03/03; mês 13 =&gt; janeiro
+	 * do ano seguinte; dia 0 =&gt; último dia do mês anterior).
+	 * </p>
+	 * 
+	 * @param year
+	 *            - Ano (0 = 1 a.C.).
+	 * @param month
+	 *            - Mês, de 1 a 12.
+	 * @param dayOfMonth
+	 *            - Dia do mês, de 1 a 31.
+	 * @return epoch day
+	 * 
+	 * @since 0.2
+	 */
+	public static long of(int year, int month, int dayOfMonth) {
+
+		long y = year;
+		int m = month;
+
+		if (m < 1 || m > 12) {
+			y += Math.floorDiv(m - 1, 12);
+			m = Math.floorMod(m - 1, 12) + 1;
+		}
+
+		if (m <= 2) {
+			y--;
+		}
+
+		final long era = Math.floorDiv(y, 400L);
+		final long yearOfEra = y - era * 400;
+		final int dayOfYear = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5;
+		final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+				+ dayOfYear;
+
+		return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970
+				+ (dayOfMonth - 1);
+	}
+
+	/**
+	 * <p>
+	 * Calcula o epoch day de uma data no formato inteiro <code>yyyyMMdd</code>
+	 * (ex.: 20250222).
+	 * </p>
+	 * 
+	 * @param yyyyMMdd
+	 *            - Data como inteiro.
+	 * @return epoch day
+	 * 
+	 * @since 0.2
+	 */
+	public static long ofYyyyMmDd(int yyyyMMdd) {
+
+		return of(yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100);
+	}
+
+	/**
+	 * <p>
+	 * Converte o epoch day para o formato inteiro <code>yyyyMMdd</code> (ex.:
+	 * 20250222), que contém ano, mês e dia calculados em uma única operação.
+	 * </p>
+	 * 
+	 * @param epochDay
+	 *            - Epoch day entre os anos 0 e 214748.
+	 * @return data como inteiro.
+	 * 
+	 * @since 0.2
+	 */
+	public static int toYyyyMmDd(long epochDay) {
+
+		final long z = epochDay + DAYS_0000_TO_1970;
+		final long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+		final int dayOfEra = (int) (z - era * DAYS_PER_CYCLE);
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int mp = (5 * dayOfYear + 2) / 153;
+		final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		final int month = mp < 10 ? mp + 3 : mp - 9;
+		final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Epoch day.
+	 * @return ano da data.
+	 * 
+	 * @since 0.2
+	 */
+	public static int year(long epochDay) {
+
+		return toYyyyMmDd(epochDay) / 10000;
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Epoch day.
+	 * @return mês da data, de 1 a 12.
+	 * 
+	 * @since 0.2
+	 */
+	public static int month(long epochDay) {
+
+		return toYyyyMmDd(epochDay) / 100 % 100;
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Epoch day.
+	 * @return dia do mês da data, de 1 a 31.
+	 * 
+	 * @since 0.2
+	 */
+	public static int dayOfMonth(long epochDay) {
+
+		return toYyyyMmDd(epochDay) % 100;
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Epoch day.
+	 * @return dia da semana, com os mesmos valores de
+	 *         <code>Calendar.DAY_OF_WEEK</code> (1 = domingo, 7 = sábado).
+	 * 
+	 * @since 0.2
+	 */
+	public static int dayOfWeek(long epochDay) {
+
+		// 01/01/1970 foi uma quinta-feira (5).
+		return (int) Math.floorMod(epochDay + 4, 7L) + 1;
+	}
+
+	/**
+	 * @param year
+	 *            - Ano.
+	 * @return <code>true</code> se o ano é bissexto no calendário gregoriano.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isLeapYear(int year) {
+
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * <p>
+	 * Converte um instante (milissegundos desde 01/01/1970 UTC) para o epoch
+	 * day em UTC.
+	 * </p>
+	 * 
+	 * @param millis
+	 *            - Instante.
+	 * @return epoch day
+	 * 
+	 * @since 0.2
+	 */
+	public static long ofMillis(long millis) {
+
+		return Math.floorDiv(millis, MILLIS_PER_DAY);
+	}
+
+	/**
+	 * @param epochDay
+	 *            - Epoch day.
+	 * @return instante do início do dia em UTC.
+	 * 
+	 * @since 0.2
+	 */
+	public static long toMillis(long epochDay) {
+
+		return epochDay * MILLIS_PER_DAY;
+	}
+
+	/**
+	 * <p>
+	 * Converte um instante para o epoch day local no fuso informado (a data
+	 * que um <code>Calendar</code> desse fuso mostraria).
+	 * </p>
+	 * 
+	 * @param date
+	 *            - Instante.
+	 * @param zone
+	 *            - Fuso horário.
+	 * @return epoch day
+	 * 
+	 * @since 0.2
+	 */
+	public static long of(Date date, TimeZone zone) {
+
+		final long millis = date.getTime();
+
+		return ofMillis(millis + zone.getOffset(millis));
+	}
+
+	/**
+	 * <p>
+	 * Calcula a quantidade de dias de uma data até outra, negativa caso a
+	 * segunda seja anterior à primeira.
+	 * </p>
+	 * 
+	 * @param epochDayA
+	 *            - Data inicial.
+	 * @param epochDayB
+	 *            - Data final.
+	 * @return dias - <code>epochDayB - epochDayA</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public static int daysBetween(int epochDayA, int epochDayB) {
+
+		return epochDayB - epochDayA;
+	}
+
+	/**
+	 * <p>
+	 * Calcula a quantidade de dias de uma data até outra, comparando as datas
+	 * locais no fuso informado. Diferente da divisão da diferença em
+	 * milissegundos, o resultado não é afetado pelas horas nem pelas mudanças
+	 * de horário de verão.
+	 * </p>
+	 * 
+	 * @param dateA
+	 *            - Data inicial.
+	 * @param dateB
+	 *            - Data final.
+	 * @param zone
+	 *            - Fuso horário das datas.
+	 * @return dias - Negativo caso a data final seja anterior à inicial.
+	 * 
+	 * @since 0.2
+	 */
+	public static long daysBetween(Date dateA, Date dateB, TimeZone zone) {
+
+		return of(dateB, zone) - of(dateA, zone);
+	}
+
+	/**
+	 * <p>
+	 * Calcula, em lote, <code>out[i] = to[i] - from[i]</code> (ex.: dias de
+	 * atraso de cada título).
+	 * </p>
+	 * 
+	 * @param from
+	 *            - Datas iniciais.
+	 * @param to
+	 *            - Datas finais.
+	 * @param out
+	 *            - Destino dos resultados, pode ser o próprio
+	 *            <code>from</code> ou <code>to</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum array seja <code>null</code> ou os arrays não
+	 *             tenham o mesmo tamanho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void daysBetween(int[] from, int[] to, int[] out) {
+
+		Objects.checkNotNull(from, "INVALID NULL FROM!");
+		Objects.checkNotNull(to, "INVALID NULL TO!");
+		Objects.checkNotNull(out, "INVALID NULL OUT!");
+		checkLengths(from.length, to.length, out.length);
+
+		daysBetween(from, to, 0, out, 0, out.length);
+	}
+
+	/**
+	 * <p>
+	 * Calcula, em lote, <code>out[i] = to - from[i]</code> (ex.: dias de
+	 * atraso de cada vencimento até hoje).
+	 * </p>
+	 * 
+	 * @param from
+	 *            - Datas iniciais.
+	 * @param to
+	 *            - Data final comum.
+	 * @param out
+	 *            - Destino dos resultados, pode ser o próprio
+	 *            <code>from</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum array seja <code>null</code> ou os arrays não
+	 *             tenham o mesmo tamanho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void daysBetween(int[] from, int to, int[] out) {
+
+		Objects.checkNotNull(from, "INVALID NULL FROM!");
+		Objects.checkNotNull(out, "INVALID NULL OUT!");
+		checkLengths(from.length, from.length, out.length);
+
+		daysBetween(from, null, to, out, 0, out.length);
+	}
+
+	/**
+	 * <p>
+	 * Mesmo cálculo de {@linkplain #daysBetween(int[], int[], int[])},
+	 * dividido entre as threads do <code>ForkJoinPool</code> comum. Indicado
+	 * para milhões de datas; em lotes pequenos equivale à versão sequencial.
+	 * </p>
+	 * 
+	 * @param from
+	 *            - Datas iniciais.
+	 * @param to
+	 *            - Datas finais.
+	 * @param out
+	 *            - Destino dos resultados.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum array seja <code>null</code> ou os arrays não
+	 *             tenham o mesmo tamanho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void parallelDaysBetween(int[] from, int[] to, int[] out) {
+
+		Objects.checkNotNull(from, "INVALID NULL FROM!");
+		Objects.checkNotNull(to, "INVALID NULL TO!");
+		Objects.checkNotNull(out, "INVALID NULL OUT!");
+		checkLengths(from.length, to.length, out.length);
+
+		ForkJoinPool.commonPool().invoke(
+				new DaysBetweenTask(from, to, 0, out, 0, out.length));
+	}
+
+	/**
+	 * <p>
+	 * Mesmo cálculo de {@linkplain #daysBetween(int[], int, int[])},
+	 * dividido entre as threads do <code>ForkJoinPool</code> comum.
+	 * </p>
+	 * 
+	 * @param from
+	 *            - Datas iniciais.
+	 * @param to
+	 *            - Data final comum.
+	 * @param out
+	 *            - Destino dos resultados.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum array seja <code>null</code> ou os arrays não
+	 *             tenham o mesmo tamanho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void parallelDaysBetween(int[] from, int to, int[] out) {
+
+		Objects.checkNotNull(from, "INVALID NULL FROM!");
+		Objects.checkNotNull(out, "INVALID NULL OUT!");
+		checkLengths(from.length, from.length, out.length);
+
+		ForkJoinPool.commonPool().invoke(
+				new DaysBetweenTask(from, null, to, out, 0, out.length));
+	}
+
+	/**
+	 * Calcula o trecho <code>[start, end)</code>; sem <code>to</code>, usa a
+	 * data final comum <code>reference</code>.
+	 */
+	private static void daysBetween(int[] from, int[] to, int reference,
+			int[] out, int start, int end) {
+
+		if (to == null) {
+
+			for (int i = start; i < end; i++) {
+				out[i] = reference - from[i];
+			}
+
+		} else {
+
+			for (int i = start; i < end; i++) {
+				out[i] = to[i] - from[i];
+			}
+		}
+	}
+
+	private static void checkLengths(int fromLength, int toLength, int outLength) {
+
+		if (fromLength != toLength || fromLength != outLength) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Arrays de tamanhos diferentes: %d, %d e %d!", fromLength,
+					toLength, outLength));
+		}
+	}
+
+	/**
+	 * Divide o trecho ao meio até {@linkplain EpochDays#PARALLEL_THRESHOLD}
+	 * elementos.
+	 */
+	@SuppressWarnings("serial")
+	private static final class DaysBetweenTask extends RecursiveAction {
+
+		private final int[] from;
+
+		private final int[] to;
+
+		private final int reference;
+
+		private final int[] out;
+
+		private final int start;
+
+		private final int end;
+
+		DaysBetweenTask(int[] from, int[] to, int reference, int[] out,
+				int start, int end) {
+
+			this.from = from;
+			this.to = to;
+			this.reference = reference;
+			this.out = out;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (end - start <= PARALLEL_THRESHOLD) {
+
+				daysBetween(from, to, reference, out, start, end);
+
+			} else {
+
+				final int middle = (start + end) >>> 1;
+
+				invokeAll(new DaysBetweenTask(from, to, reference, out, start,
+						middle), new DaysBetweenTask(from, to, reference, out,
+						middle, end));
+			}
+		}
+	}
+}
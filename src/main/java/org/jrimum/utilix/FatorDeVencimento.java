@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:41:23
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:41:23
+ *
+ */
+
+package org.jrimum.utilix;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * Cálculo do fator de vencimento dos boletos (FEBRABAN): referencial numérico
+ * de 4 dígitos do código de barras com a quantidade de dias decorridos da
+ * data base (07/10/1997, fator 0) até o vencimento.
+ * </p>
+ * <p>
+ * Ao atingir 9999 (21/02/2025) o fator é reiniciado em 1000 (22/02/2025) e
+ * passa a ser cíclico, com ciclos de 9000 dias. A partir de 03/07/2000 (fator
+ * 1000):
+ * </p>
+ * 
+ * <pre>
+ * fator = 1000 + (vencimento - 03/07/2000) mod 9000
+ * </pre>
+ * <p>
+ * Datas e fatores são tratados como epoch days ({@linkplain EpochDays}), de
+ * modo que as conversões nos dois sentidos são feitas por cálculo direto, sem
+ * tabelas e sem alocação de objetos, para qualquer quantidade de ciclos. Como
+ * um mesmo fator corresponde a uma data por ciclo, a data de vencimento de um
+ * fator é resolvida em relação a uma data de referência (ex.: a data do
+ * processamento do arquivo de retorno).
+ * </p>
+ * 
+ * <pre>
+ * FatorDeVencimento.calcule(EpochDays.of(2025, 2, 22))       // 1000
+ * FatorDeVencimento.vencimento(1000, EpochDays.of(2025, 3, 1)) // 22/02/2025
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class FatorDeVencimento {
+
+	/**
+	 * Data base do fator de vencimento (fator 0): 07/10/1997.
+	 */
+	public static final int DATA_BASE = (int) EpochDays.of(1997, 10, 7);
+
+	/**
+	 * Início do primeiro ciclo (fator 1000): 03/07/2000, 1000 dias após a
+	 * data base.
+	 */
+	public static final int INICIO_DOS_CICLOS = DATA_BASE + 1000;
+
+	/**
+	 * Menor fator de um ciclo.
+	 */
+	public static final int FATOR_MINIMO = 1000;
+
+	/**
+	 * Maior fator de um ciclo.
+	 */
+	public static final int FATOR_MAXIMO = 9999;
+
+	/**
+	 * Quantidade de dias (fatores distintos) de um ciclo.
+	 */
+	public static final int DIAS_DO_CICLO = FATOR_MAXIMO - FATOR_MINIMO + 1;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private FatorDeVencimento() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	/**
+	 * <p>
+	 * Calcula o fator de vencimento da data informada.
+	 * </p>
+	 * 
+	 * @param vencimento
+	 *            - Epoch day do vencimento.
+	 * @return fator - De 0 a 999 para vencimentos anteriores a 03/07/2000 e de
+	 *         1000 a 9999 a partir dessa data.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o vencimento seja anterior à data base.
+	 * 
+	 * @since 0.2
+	 */
+	public static int calcule(int vencimento) {
+
+		if (vencimento < DATA_BASE) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Vencimento [%d] anterior à data base do fator de vencimento [%d]!",
+					vencimento, DATA_BASE));
+		}
+
+		return fator(vencimento);
+	}
+
+	/**
+	 * <p>
+	 * Calcula o fator de vencimento da data local do instante no fuso
+	 * informado.
+	 * </p>
+	 * 
+	 * @param vencimento
+	 *            - Data de vencimento.
+	 * @param fuso
+	 *            - Fuso horário da data.
+	 * @return fator de vencimento.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum parâmetro seja <code>null</code> ou o vencimento
+	 *             seja anterior à data base.
+	 * 
+	 * @since 0.2
+	 */
+	public static int calcule(Date vencimento, TimeZone fuso) {
+
+		Objects.checkNotNull(vencimento, "Impossível realizar o cálculo do fator de vencimento de uma data nula.");
+		Objects.checkNotNull(fuso, "INVALID NULL TIME ZONE!");
+
+		final long epochDay = EpochDays.of(vencimento, fuso);
+
+		if (epochDay < DATA_BASE || epochDay > Integer.MAX_VALUE) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Vencimento [%s] fora do intervalo do fator de vencimento!",
+					vencimento));
+		}
+
+		return fator((int) epochDay);
+	}
+
+	/**
+	 * <p>
+	 * Calcula o fator de vencimento da data informada no fuso padrão da JVM.
+	 * </p>
+	 * 
+	 * @param vencimento
+	 *            - Data de vencimento.
+	 * @return fator de vencimento.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data seja <code>null</code> ou anterior à data base.
+	 * 
+	 * @see #calcule(Date, TimeZone)
+	 * 
+	 * @since 0.2
+	 */
+	public static int calcule(Date vencimento) {
+
+		return calcule(vencimento, TimeZone.getDefault());
+	}
+
+	/**
+	 * <p>
+	 * Calcula, em lote, os fatores de vencimento (ex.: em uma geração de
+	 * códigos de barras): <code>fatores[i] = calcule(vencimentos[i])</code>.
+	 * </p>
+	 * 
+	 * @param vencimentos
+	 *            - Epoch days dos vencimentos.
+	 * @param fatores
+	 *            - Destino dos fatores, pode ser o próprio
+	 *            <code>vencimentos</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso os arrays não tenham o mesmo tamanho ou algum
+	 *             vencimento seja anterior à data base.
+	 * 
+	 * @since 0.2
+	 */
+	public static void calcule(int[] vencimentos, int[] fatores) {
+
+		Objects.checkNotNull(vencimentos, "INVALID NULL ARRAY!");
+		Objects.checkNotNull(fatores, "INVALID NULL ARRAY!");
+
+		if (vencimentos.length != fatores.length) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Arrays de tamanhos diferentes: %d e %d!",
+					vencimentos.length, fatores.length));
+		}
+
+		for (int i = 0; i < vencimentos.length; i++) {
+			fatores[i] = calcule(vencimentos[i]);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Escreve os 4 dígitos do fator de vencimento da data informada, como no
+	 * campo do código de barras.
+	 * </p>
+	 * 
+	 * @param vencimento
+	 *            - Epoch day do vencimento.
+	 * @param dest
+	 *            - Destino dos dígitos.
+	 * @param offset
+	 *            - Posição inicial no destino.
+	 * @return posição seguinte ao último dígito escrito.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o vencimento seja anterior à data base.
+	 * 
+	 * @since 0.2
+	 */
+	public static int formatTo(int vencimento, char[] dest, int offset) {
+
+		int fator = calcule(vencimento);
+
+		for (int i = offset + 3; i >= offset; i--) {
+			dest[i] = (char) ('0' + fator % 10);
+			fator /= 10;
+		}
+
+		return offset + 4;
+	}
+
+	/**
+	 * <p>
+	 * Resolve a data de vencimento de um fator: dentre as datas com esse fator
+	 * (uma por ciclo), a mais próxima da data de referência, ou seja, a única
+	 * no intervalo de 4499 dias antes a 4500 dias depois da referência.
+	 * Fatores de 0 a 999 correspondem somente às datas anteriores ao primeiro
+	 * ciclo.
+	 * </p>
+	 * 
+	 * @param fator
+	 *            - Fator de vencimento, de 0 a 9999.
+	 * @param referencia
+	 *            - Epoch day de referência (ex.: data de processamento).
+	 * @return epoch day do vencimento.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o fator esteja fora do intervalo de 0 a 9999.
+	 * 
+	 * @since 0.2
+	 */
+	public static int vencimento(int fator, int referencia) {
+
+		checkFator(fator);
+
+		if (fator < FATOR_MINIMO) {
+			return DATA_BASE + fator;
+		}
+
+		final int primeira = INICIO_DOS_CICLOS + (fator - FATOR_MINIMO);
+		final long ciclos = Math.floorDiv(
+				(long) referencia - primeira + DIAS_DO_CICLO / 2, (long) DIAS_DO_CICLO);
+
+		return (int) (primeira + Math.max(ciclos, 0) * DIAS_DO_CICLO);
+	}
+
+	/**
+	 * <p>
+	 * Lista as datas, no intervalo <code>[de, ate]</code>, cujo fator de
+	 * vencimento é o informado.
+	 * </p>
+	 * 
+	 * @param fator
+	 *            - Fator de vencimento, de 0 a 9999.
+	 * @param de
+	 *            - Epoch day inicial.
+	 * @param ate
+	 *            - Epoch day final.
+	 * @return epoch days - Em ordem crescente, vazio caso nenhuma data do
+	 *         intervalo tenha o fator.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o fator esteja fora do intervalo de 0 a 9999.
+	 * 
+	 * @since 0.2
+	 */
+	public static int[] candidatos(int fator, int de, int ate) {
+
+		checkFator(fator);
+
+		if (fator < FATOR_MINIMO) {
+
+			final int data = DATA_BASE + fator;
+
+			return (data >= de && data <= ate) ? new int[] { data } : new int[0];
+		}
+
+		final long primeira = INICIO_DOS_CICLOS + (fator - FATOR_MINIMO);
+		final long inicio = Math.max(primeira, primeira
+				+ Math.floorDiv(de - primeira + DIAS_DO_CICLO - 1, (long) DIAS_DO_CICLO)
+				* DIAS_DO_CICLO);
+
+		if (inicio > ate) {
+			return new int[0];
+		}
+
+		final int[] datas = new int[(int) ((ate - inicio) / DIAS_DO_CICLO) + 1];
+
+		for (int i = 0; i < datas.length; i++) {
+			datas[i] = (int) (inicio + (long) i * DIAS_DO_CICLO);
+		}
+
+		return datas;
+	}
+
+	private static int fator(int vencimento) {
+
+		if (vencimento < INICIO_DOS_CICLOS) {
+			return vencimento - DATA_BASE;
+		}
+
+		return FATOR_MINIMO + (vencimento - INICIO_DOS_CICLOS) % DIAS_DO_CICLO;
+	}
+
+	private static void checkFator(int fator) {
+
+		if (fator < 0 || fator > FATOR_MAXIMO) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Fator de vencimento [%d] fora do intervalo de 0 a %d!",
+					fator, FATOR_MAXIMO));
+		}
+	}
+}
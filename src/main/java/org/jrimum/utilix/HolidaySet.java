@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:43:45
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:43:45
+ *
+ */
+
+package org.jrimum.utilix;
+
+/**
+ * <p>
+ * Conjunto de feriados usado na construção de um {@linkplain BusinessCalendar}
+ * (ex.: feriados nacionais, estaduais ou municipais). Exemplo com os feriados
+ * municipais de São Paulo:
+ * </p>
+ * 
+ * <pre>
+ * BusinessCalendar sp = BusinessCalendar.NATIONAL.with(
+ * 		BusinessCalendar.annual(1, 25), BusinessCalendar.annual(7, 9));
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public interface HolidaySet {
+
+	/**
+	 * <p>
+	 * Obtém os feriados do ano informado, chamado uma única vez por ano na
+	 * construção do calendário.
+	 * </p>
+	 * 
+	 * @param year
+	 *            - Ano.
+	 * @return epoch days dos feriados, em qualquer ordem; repetições, fins de
+	 *         semana e datas de outros anos são ignorados.
+	 * 
+	 * @since 0.2
+	 */
+	int[] holidaysOf(int year);
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:58:06
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:58:06
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Contrapartidas em bytes das operações de {@linkplain Strings}, para textos
+ * codificados em ASCII ou ISO-8859-1 (Latin-1), como os arquivos de remessa e
+ * retorno bancários. As operações trabalham diretamente sobre
+ * <code>byte[]</code> ou <code>ByteBuffer</code>, dispensando a decodificação
+ * para <code>String</code> e a posterior codificação.
+ * </p>
+ * <p>
+ * Cada byte é interpretado como o caractere Latin-1 de mesmo código (
+ * <code>b &amp; 0xFF</code>). Nenhum método cria objetos.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class AsciiBytes {
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private AsciiBytes() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	/**
+	 * <p>
+	 * Remove a acentuação (como em {@linkplain Strings#eliminateAccent(String)}
+	 * ) de um trecho de bytes Latin-1, modificando-o diretamente.
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Bytes a serem convertidos.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void eliminateAccent(byte[] bytes, int offset, int length) {
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+
+			final int b = bytes[i];
+
+			if (b < 0) {
+				bytes[i] = (byte) Strings.eliminateAccent((char) (b & 0xFF));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Remove a acentuação dos bytes Latin-1 entre a posição e o limite do
+	 * buffer, modificando-o diretamente. A posição do buffer não é alterada.
+	 * </p>
+	 * 
+	 * @param buffer
+	 *            - Buffer a ser convertido.
+	 * 
+	 * @since 0.2
+	 */
+	public static void eliminateAccent(ByteBuffer buffer) {
+
+		if (buffer.hasArray()) {
+
+			eliminateAccent(buffer.array(), buffer.arrayOffset()
+					+ buffer.position(), buffer.remaining());
+
+		} else {
+
+			for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+
+				final int b = buffer.get(i);
+
+				if (b < 0) {
+					buffer.put(i, (byte) Strings.eliminateAccent((char) (b & 0xFF)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converte um trecho de bytes Latin-1 para letras maiúsculas, modificando-o
+	 * diretamente. Letras sem maiúscula em Latin-1 (ß, ÿ) são mantidas.
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Bytes a serem convertidos.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * 
+	 * @since 0.2
+	 */
+	public static void toUpperCase(byte[] bytes, int offset, int length) {
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+			bytes[i] = toUpperCase(bytes[i]);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converte os bytes Latin-1 entre a posição e o limite do buffer para
+	 * letras maiúsculas, modificando-o diretamente. A posição do buffer não é
+	 * alterada.
+	 * </p>
+	 * 
+	 * @param buffer
+	 *            - Buffer a ser convertido.
+	 * 
+	 * @since 0.2
+	 */
+	public static void toUpperCase(ByteBuffer buffer) {
+
+		if (buffer.hasArray()) {
+
+			toUpperCase(buffer.array(), buffer.arrayOffset() + buffer.position(),
+					buffer.remaining());
+
+		} else {
+
+			for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+				buffer.put(i, toUpperCase(buffer.get(i)));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Normaliza um trecho de bytes Latin-1 segundo o
+	 * {@linkplain TextNormalizer} informado, modificando-o diretamente e
+	 * compactando-o caso haja remoção de símbolos. Caracteres cuja
+	 * normalização não é representável em Latin-1 são mantidos.
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Bytes a serem normalizados.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * @param normalizer
+	 *            - Normalizador a ser aplicado.
+	 * @return quantidade de bytes mantidos a partir de <code>offset</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public static int normalize(byte[] bytes, int offset, int length,
+			TextNormalizer normalizer) {
+
+		int count = offset;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+
+			final byte b = bytes[i];
+			final int c = normalizer.normalize((char) (b & 0xFF));
+
+			if (c != TextNormalizer.REMOVED) {
+				bytes[count++] = (c > 0xFF) ? b : (byte) c;
+			}
+		}
+
+		return count - offset;
+	}
+
+	/**
+	 * <p>
+	 * Verifica se o trecho é não vazio e composto somente por dígitos ASCII (
+	 * <code>'0'</code> a <code>'9'</code>).
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Bytes analisados.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * @return <code>true</code> se o trecho é numérico.
+	 * 
+	 * @see Digits#isDigits(byte[], int, int)
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isNumeric(byte[] bytes, int offset, int length) {
+
+		return Digits.isDigits(bytes, offset, length);
+	}
+
+	/**
+	 * <p>
+	 * Verifica se os bytes entre a posição e o limite do buffer são não vazios
+	 * e compostos somente por dígitos ASCII. A posição do buffer não é
+	 * alterada.
+	 * </p>
+	 * 
+	 * @param buffer
+	 *            - Buffer analisado.
+	 * @return <code>true</code> se o conteúdo é numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isNumeric(ByteBuffer buffer) {
+
+		if (buffer.hasArray()) {
+			return isNumeric(buffer.array(), buffer.arrayOffset()
+					+ buffer.position(), buffer.remaining());
+		}
+
+		if (!buffer.hasRemaining()) {
+			return false;
+		}
+
+		for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+
+			final byte b = buffer.get(i);
+
+			if (b < '0' || b > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o número informado em dígitos ASCII com o preenchimento de zeros
+	 * à esquerda, ocupando exatamente <code>length</code> bytes a partir de
+	 * <code>offset</code>.
+	 * </p>
+	 * 
+	 * @param numberToFill
+	 *            - Número não negativo.
+	 * @param length
+	 *            - Quantidade de bytes ocupados no destino.
+	 * @param dest
+	 *            - Array de destino.
+	 * @param offset
+	 *            - Posição inicial no destino.
+	 * @return posição seguinte ao último byte escrito (
+	 *         <code>offset + length</code>).
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o número seja negativo ou não caiba em
+	 *             <code>length</code> bytes.
+	 * 
+	 * @see Strings#fillWithZeroLeft(long, int, char[], int)
+	 * 
+	 * @since 0.2
+	 */
+	public static int fillWithZeroLeft(long numberToFill, int length,
+			byte[] dest, int offset) {
+
+		Strings.checkFitsWithZeroLeft(numberToFill, length);
+
+		int pos = offset + length;
+		long value = numberToFill;
+
+		while (value >= 100) {
+
+			final int pair = (int) (value % 100);
+			value /= 100;
+
+			dest[--pos] = (byte) Strings.DIGIT_ONES[pair];
+			dest[--pos] = (byte) Strings.DIGIT_TENS[pair];
+		}
+
+		if (value >= 10) {
+			dest[--pos] = (byte) Strings.DIGIT_ONES[(int) value];
+			dest[--pos] = (byte) Strings.DIGIT_TENS[(int) value];
+		} else {
+			dest[--pos] = (byte) ('0' + value);
+		}
+
+		while (pos > offset) {
+			dest[--pos] = '0';
+		}
+
+		return offset + length;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o número informado em dígitos ASCII com o preenchimento de zeros
+	 * à esquerda na posição atual do buffer, avançando-a em
+	 * <code>length</code> bytes.
+	 * </p>
+	 * 
+	 * @param numberToFill
+	 *            - Número não negativo.
+	 * @param length
+	 *            - Quantidade de bytes escritos.
+	 * @param buffer
+	 *            - Buffer de destino.
+	 * @return o próprio <code>buffer</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o número seja negativo ou não caiba em
+	 *             <code>length</code> bytes.
+	 * @throws BufferOverflowException
+	 *             Caso não haja <code>length</code> bytes disponíveis no
+	 *             buffer.
+	 * 
+	 * @since 0.2
+	 */
+	public static ByteBuffer fillWithZeroLeft(long numberToFill, int length,
+			ByteBuffer buffer) {
+
+		final int digits = Strings.checkFitsWithZeroLeft(numberToFill, length);
+
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		if (buffer.hasArray()) {
+
+			fillWithZeroLeft(numberToFill, length, buffer.array(),
+					buffer.arrayOffset() + buffer.position());
+
+			// Cast para manter a assinatura Java 8 (position(int) é covariante
+			// a partir do Java 9).
+			((Buffer) buffer).position(buffer.position() + length);
+
+		} else {
+
+			for (int i = digits; i < length; i++) {
+				buffer.put((byte) '0');
+			}
+
+			for (int i = digits - 1; i >= 0; i--) {
+				buffer.put((byte) ('0' + (numberToFill / Strings.POWERS_OF_TEN[i]) % 10));
+			}
+		}
+
+		return buffer;
+	}
+
+	private static byte toUpperCase(byte b) {
+
+		if (b >= 'a' && b <= 'z') {
+			return (byte) (b - ('a' - 'A'));
+		}
+
+		// à (0xE0) a þ (0xFE), exceto ÷ (0xF7)
+		final int c = b & 0xFF;
+
+		if (c >= 0xE0 && c <= 0xFE && c != 0xF7) {
+			return (byte) (c - 0x20);
+		}
+
+		return b;
+	}
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:20:41
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:20:41
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Cache, com granularidade de dia, dos resultados de um
+ * {@linkplain DateFormat}. Em um lote de boletos ou em um arquivo de retorno
+ * há, em geral, poucas centenas de datas distintas (vencimentos, pagamentos,
+ * créditos), de modo que cada data é formatada ou interpretada uma única vez e
+ * as demais ocorrências são atendidas pelo cache.
+ * </p>
+ * <p>
+ * Assim como o {@linkplain StringPool}, cada sentido (formatação e
+ * interpretação) é uma tabela de endereçamento direto e tamanho fixo: a
+ * formatação é indexada pelo epoch day local e a interpretação pelo hash dos
+ * dígitos; uma colisão substitui a entrada anterior. As leituras não usam
+ * bloqueio nem criam objetos, exceto a cópia da <code>Date</code> (mutável)
+ * devolvida pela interpretação.
+ * </p>
+ * <p>
+ * Somente padrões apenas com campos de data (ex.: <tt>"ddMMyyyy"</tt>) são
+ * armazenados; nos demais, e para datas fora da faixa de 1600 a 9999, as
+ * operações são delegadas diretamente ao <code>DateFormat</code>. Os
+ * resultados são sempre os mesmos do <code>DateFormat</code> e instâncias
+ * podem ser compartilhadas entre threads.
+ * </p>
+ * 
+ * <pre>
+ * CachedDateFormat vencimento = DateFormat.DDMMYYYY_B.cached();
+ * vencimento.formatTo(titulo.getDataDoVencimento(), line, 73);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class CachedDateFormat implements Format<Date, SimpleDateFormat> {
+
+	/**
+	 * Capacidade de {@linkplain DateFormat#cached()}: pouco mais de 11 anos de
+	 * datas distintas.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final DateFormat format;
+
+	private final DateCodec codec;
+
+	private final boolean dateOnly;
+
+	private final AtomicReferenceArray<FormatEntry> formatted;
+
+	private final AtomicReferenceArray<ParseEntry> parsed;
+
+	private final int mask;
+
+	private final LongAdder formatHits = new LongAdder();
+
+	private final LongAdder formatMisses = new LongAdder();
+
+	private final LongAdder parseHits = new LongAdder();
+
+	private final LongAdder parseMisses = new LongAdder();
+
+	/**
+	 * @param format
+	 *            - Formatador cujos resultados são armazenados.
+	 * @param codec
+	 *            - Codec do formatador.
+	 * @param capacity
+	 *            - Quantidade máxima de datas mantidas em cada sentido,
+	 *            arredondada para a próxima potência de dois.
+	 */
+	CachedDateFormat(DateFormat format, DateCodec codec, int capacity) {
+
+		Objects.checkNotNull(format, "INVALID NULL FORMAT!");
+
+		if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+			Exceptions.throwIllegalArgumentException("Capacidade inválida: "
+					+ capacity);
+		}
+
+		final int size = Integer.highestOneBit(capacity) == capacity ? capacity
+				: Integer.highestOneBit(capacity) << 1;
+
+		this.format = format;
+		this.codec = codec;
+		this.dateOnly = codec.isDateOnly();
+		this.formatted = new AtomicReferenceArray<FormatEntry>(size);
+		this.parsed = new AtomicReferenceArray<ParseEntry>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
+	 */
+	public String format(Date obj) {
+
+		final String text = lookup(obj);
+
+		return (text != null) ? text : codec.format(obj);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, char[], int)
+	 */
+	public int formatTo(Date obj, char[] dest, int offset) {
+
+		final String text = lookup(obj);
+
+		if (text == null) {
+			return codec.format(obj, dest, offset);
+		}
+
+		text.getChars(0, text.length(), dest, offset);
+
+		return offset + text.length();
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.StringBuilder)
+	 */
+	public StringBuilder formatTo(Date obj, StringBuilder out) {
+
+		final String text = lookup(obj);
+
+		return (text != null) ? out.append(text) : format.formatTo(obj, out);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.Appendable)
+	 */
+	public <A extends Appendable> A formatTo(Date obj, A out) throws IOException {
+
+		final String text = lookup(obj);
+
+		if (text == null) {
+			return format.formatTo(obj, out);
+		}
+
+		out.append(text);
+
+		return out;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
+	 */
+	public Date parse(String text) {
+
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.CharSequence, int, int)
+	 */
+	public Date parse(CharSequence text, int from, int to) {
+
+		if (!dateOnly || to - from != codec.length()) {
+			return codec.parse(text, from, to);
+		}
+
+		final int hash = hash(text, from, to);
+		final int index = indexFor(hash);
+		final ParseEntry entry = parsed.get(index);
+
+		if (entry != null && entry.matches(text, from, to, hash)) {
+			parseHits.increment();
+			return new Date(entry.time);
+		}
+
+		final Date date = codec.parse(text, from, to);
+
+		put(index, text, from, to, date);
+
+		return date;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#tryParse(java.lang.CharSequence, int, int)
+	 */
+	public Date tryParse(CharSequence text, int from, int to) {
+
+		if (!dateOnly || to - from != codec.length()) {
+			return codec.tryParse(text, from, to);
+		}
+
+		final int hash = hash(text, from, to);
+		final int index = indexFor(hash);
+		final ParseEntry entry = parsed.get(index);
+
+		if (entry != null && entry.matches(text, from, to, hash)) {
+			parseHits.increment();
+			return new Date(entry.time);
+		}
+
+		final Date date = codec.tryParse(text, from, to);
+
+		if (date != null) {
+			put(index, text, from, to, date);
+		}
+
+		return date;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#copy()
+	 */
+	public SimpleDateFormat copy() {
+
+		return codec.newSimpleDateFormat();
+	}
+
+	/**
+	 * @return formatador - O <code>DateFormat</code> cujos resultados são
+	 *         armazenados.
+	 */
+	public DateFormat getFormat() {
+
+		return format;
+	}
+
+	/**
+	 * @return capacidade - Quantidade máxima de datas mantidas em cada
+	 *         sentido.
+	 */
+	public int getCapacity() {
+
+		return formatted.length();
+	}
+
+	/**
+	 * @return acertos - Quantidade de formatações atendidas pelo cache.
+	 */
+	public long getFormatHits() {
+
+		return formatHits.sum();
+	}
+
+	/**
+	 * @return faltas - Quantidade de datas formatadas e adicionadas ao cache.
+	 */
+	public long getFormatMisses() {
+
+		return formatMisses.sum();
+	}
+
+	/**
+	 * @return acertos - Quantidade de interpretações atendidas pelo cache.
+	 */
+	public long getParseHits() {
+
+		return parseHits.sum();
+	}
+
+	/**
+	 * @return faltas - Quantidade de textos interpretados e adicionados ao
+	 *         cache.
+	 */
+	public long getParseMisses() {
+
+		return parseMisses.sum();
+	}
+
+	/**
+	 * @return taxa de acerto - Proporção entre acertos e consultas (de 0 a 1)
+	 *         nos dois sentidos, desconsiderando as operações delegadas
+	 *         diretamente ao <code>DateFormat</code>.
+	 */
+	public double getHitRate() {
+
+		final long hit = formatHits.sum() + parseHits.sum();
+		final long total = hit + formatMisses.sum() + parseMisses.sum();
+
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	/**
+	 * <p>
+	 * Remove todas as datas do cache e zera as estatísticas.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public void clear() {
+
+		for (int i = 0; i < formatted.length(); i++) {
+			formatted.set(i, null);
+			parsed.set(i, null);
+		}
+
+		formatHits.reset();
+		formatMisses.reset();
+		parseHits.reset();
+		parseMisses.reset();
+	}
+
+	@Override
+	public String toString() {
+
+		return "CachedDateFormat[" + format + ", capacity=" + getCapacity()
+				+ ", formatHits=" + getFormatHits() + ", formatMisses="
+				+ getFormatMisses() + ", parseHits=" + getParseHits()
+				+ ", parseMisses=" + getParseMisses() + "]";
+	}
+
+	/**
+	 * Texto formatado da data, obtido do cache ou formatado e adicionado a
+	 * ele.
+	 * 
+	 * @return texto ou <code>null</code>, caso a data não seja armazenada.
+	 */
+	private String lookup(Date date) {
+
+		if (!dateOnly) {
+			return null;
+		}
+
+		final long epochDay = codec.epochDayOf(date);
+
+		if (epochDay == DateCodec.INVALID) {
+			return null;
+		}
+
+		// Dias consecutivos ocupam posições consecutivas, sem colisões.
+		final int index = (int) epochDay & mask;
+		final FormatEntry entry = formatted.get(index);
+
+		if (entry != null && entry.epochDay == epochDay) {
+			formatHits.increment();
+			return entry.text;
+		}
+
+		final char[] chars = new char[codec.length()];
+
+		codec.format(epochDay, 0, chars, 0);
+
+		final String text = new String(chars);
+
+		formatMisses.increment();
+		formatted.set(index, new FormatEntry(epochDay, text));
+
+		return text;
+	}
+
+	private void put(int index, CharSequence text, int from, int to, Date date) {
+
+		parseMisses.increment();
+		parsed.set(index, new ParseEntry(text.subSequence(from, to).toString(),
+				date.getTime()));
+	}
+
+	private int indexFor(int hash) {
+
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private static int hash(CharSequence text, int from, int to) {
+
+		int hash = 0;
+
+		for (int i = from; i < to; i++) {
+			hash = 31 * hash + text.charAt(i);
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Dia local e seu texto formatado.
+	 */
+	private static final class FormatEntry {
+
+		final long epochDay;
+
+		final String text;
+
+		FormatEntry(long epochDay, String text) {
+
+			this.epochDay = epochDay;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Texto interpretado e o instante resultante.
+	 */
+	private static final class ParseEntry {
+
+		final String text;
+
+		final long time;
+
+		ParseEntry(String text, long time) {
+
+			this.text = text;
+			this.time = time;
+		}
+
+		boolean matches(CharSequence seq, int from, int to, int hash) {
+
+			if (text.length() != to - from || text.hashCode() != hash) {
+				return false;
+			}
+
+			for (int i = 0; i < text.length(); i++) {
+				if (text.charAt(i) != seq.charAt(from + i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+}
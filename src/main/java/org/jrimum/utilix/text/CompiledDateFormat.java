@@ -0,0 +1,399 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:37:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:37:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.jrimum.utilix.EpochDays;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Formatador de datas compilado a partir de um padrão qualquer do
+ * <code>SimpleDateFormat</code>, para os casos em que o padrão só é conhecido
+ * em tempo de execução (ex.: <code>Dates.parse(texto, padrao)</code>).
+ * </p>
+ * <p>
+ * Padrões de tamanho fixo (ex.: <tt>"yyyy-MM-dd"</tt>, <tt>"dd/MM/yy"</tt>,
+ * <tt>"HH:mm:ss"</tt>) são compilados no mesmo codec das constantes de
+ * {@linkplain DateFormat}; os demais (ex.: <tt>"dd 'de' MMMM"</tt>) usam
+ * cópias de um <code>SimpleDateFormat</code> criado uma única vez, obtidas de
+ * um {@linkplain FormatProvider}. Em ambos os casos o fuso, o locale e o
+ * início do século de anos com 2 dígitos são fixados na compilação.
+ * </p>
+ * <p>
+ * {@linkplain #compile(String)} mantém os formatadores compilados em um cache
+ * limitado a {@linkplain #MAX_CACHED_PATTERNS} padrões, de modo que o padrão é
+ * interpretado uma única vez enquanto o fuso e o locale padrão não mudarem e
+ * no máximo uma vez por dia (para acompanhar o início do século). A mudança
+ * do fuso ou do locale padrão é percebida em até
+ * {@linkplain #DEFAULTS_CHECK_INTERVAL} milissegundos. Instâncias são
+ * imutáveis e podem ser compartilhadas entre threads.
+ * </p>
+ * 
+ * <pre>
+ * Date data = CompiledDateFormat.compile(&quot;yyyy-MM-dd&quot;).parse(&quot;2026-10-17&quot;);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class CompiledDateFormat implements Format<Date, SimpleDateFormat> {
+
+	/**
+	 * Quantidade máxima de padrões mantidos por
+	 * {@linkplain #compile(String)}. Atingido o limite, os novos padrões são
+	 * compilados a cada chamada, sem substituir os já armazenados.
+	 */
+	public static final int MAX_CACHED_PATTERNS = 256;
+
+	/**
+	 * Intervalo máximo, em milissegundos, entre as verificações do fuso e do
+	 * locale padrão da JVM feitas por {@linkplain #compile(String)}.
+	 */
+	public static final long DEFAULTS_CHECK_INTERVAL = 100L;
+
+	private static final ConcurrentMap<String, CompiledDateFormat> CACHE = new ConcurrentHashMap<String, CompiledDateFormat>();
+
+	/**
+	 * Padrões da JVM vigentes, verificados no máximo a cada
+	 * {@linkplain #DEFAULTS_CHECK_INTERVAL}: enquanto não mudam, a mesma
+	 * instância é mantida e a validade de um formatador do cache é uma simples
+	 * comparação de referências, sem <code>TimeZone.getDefault()</code> (que
+	 * clona o fuso) a cada uso.
+	 */
+	private static volatile Defaults defaults = new Defaults(System.currentTimeMillis());
+
+	/**
+	 * Codec do padrão ou <code>null</code> caso o padrão não seja de tamanho
+	 * fixo.
+	 */
+	private final DateCodec codec;
+
+	/**
+	 * Formatador do qual as cópias usadas pelos padrões sem codec são
+	 * clonadas.
+	 */
+	private final SimpleDateFormat prototype;
+
+	private final FormatProvider<SimpleDateFormat> provider;
+
+	/**
+	 * Padrões da JVM vigentes na compilação.
+	 */
+	private final Defaults compiledWith;
+
+	/**
+	 * @param pattern
+	 *            - Padrão do <code>SimpleDateFormat</code>.
+	 */
+	private CompiledDateFormat(String pattern) {
+
+		compiledWith = currentDefaults();
+
+		if (DateCodec.isSupported(pattern)) {
+
+			codec = DateCodec.compile(pattern);
+			prototype = codec.newSimpleDateFormat();
+			provider = null;
+
+		} else {
+
+			codec = null;
+			prototype = new SimpleDateFormat(pattern);
+			provider = FormatStrategy.getDefault().newProvider(
+					new Supplier<SimpleDateFormat>() {
+
+						public SimpleDateFormat get() {
+
+							return (SimpleDateFormat) prototype.clone();
+						}
+					});
+		}
+	}
+
+	/**
+	 * <p>
+	 * Obtém o formatador compilado do padrão, compilando-o no primeiro uso ou
+	 * novamente caso o fuso ou o locale padrão da JVM tenham mudado, ou a
+	 * compilação seja de outro dia, desde então.
+	 * </p>
+	 * 
+	 * @param pattern
+	 *            - Padrão do <code>SimpleDateFormat</code>.
+	 * @return formatador - A mesma instância para o mesmo padrão, enquanto
+	 *         houver espaço no cache.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão seja <code>null</code> ou inválido.
+	 * 
+	 * @since 0.2
+	 */
+	public static CompiledDateFormat compile(String pattern) {
+
+		Objects.checkNotNull(pattern, "INVALID NULL FORMAT!");
+
+		final CompiledDateFormat cached = CACHE.get(pattern);
+
+		if (cached != null && cached.isCurrent()) {
+			return cached;
+		}
+
+		final CompiledDateFormat format = new CompiledDateFormat(pattern);
+
+		if (cached != null) {
+
+			CACHE.replace(pattern, cached, format);
+
+		} else if (CACHE.size() < MAX_CACHED_PATTERNS) {
+
+			final CompiledDateFormat previous = CACHE.putIfAbsent(pattern, format);
+
+			if (previous != null && previous.isCurrent()) {
+				return previous;
+			}
+		}
+
+		return format;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
+	 */
+	public String format(Date obj) {
+
+		if (codec != null) {
+			return codec.format(obj);
+		}
+
+		final SimpleDateFormat format = provider.acquire();
+
+		try {
+
+			return format.format(obj);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, char[], int)
+	 */
+	public int formatTo(Date obj, char[] dest, int offset) {
+
+		if (codec != null) {
+			return codec.format(obj, dest, offset);
+		}
+
+		final String text = format(obj);
+
+		text.getChars(0, text.length(), dest, offset);
+
+		return offset + text.length();
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
+	 */
+	public Date parse(String text) {
+
+		if (codec != null) {
+			return codec.parse(text);
+		}
+
+		final SimpleDateFormat format = provider.acquire();
+
+		try {
+
+			return format.parse(text);
+
+		} catch (ParseException e) {
+
+			return Exceptions.throwIllegalArgumentException("DateFormat Exception!", e);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Interpreta o trecho <code>[from, to)</code> do texto informado, sem
+	 * lançar exceção para textos inválidos.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto com a data.
+	 * @param from
+	 *            - Posição inicial do trecho.
+	 * @param to
+	 *            - Posição seguinte ao final do trecho.
+	 * @return data ou <code>null</code> caso o trecho não seja uma data válida
+	 *         para o padrão.
+	 * 
+	 * @since 0.2
+	 */
+	public Date tryParse(CharSequence text, int from, int to) {
+
+		if (codec != null) {
+			return codec.tryParse(text, from, to);
+		}
+
+		final SimpleDateFormat format = provider.acquire();
+
+		try {
+
+			return format.parse(text.subSequence(from, to).toString(),
+					new ParsePosition(0));
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @return data ou <code>null</code> caso o trecho precise ser interpretado
+	 *         pelo <code>SimpleDateFormat</code> (inclusive em padrões que não
+	 *         são de tamanho fixo).
+	 */
+	Date parseFast(CharSequence text, int from, int to) {
+
+		return (codec != null) ? codec.parseFast(text, from, to) : null;
+	}
+
+	/**
+	 * @return <code>true</code> se o padrão é de tamanho fixo e tratado sem o
+	 *         <code>SimpleDateFormat</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public boolean isFixedLength() {
+
+		return codec != null;
+	}
+
+	/**
+	 * @return padrão - O padrão do <code>SimpleDateFormat</code> equivalente.
+	 */
+	public String getPattern() {
+
+		return prototype.toPattern();
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#copy()
+	 */
+	public SimpleDateFormat copy() {
+
+		return (SimpleDateFormat) prototype.clone();
+	}
+
+	@Override
+	public String toString() {
+
+		return "CompiledDateFormat[" + getPattern() + "]";
+	}
+
+	/**
+	 * @return <code>true</code> se o fuso e o locale padrão da JVM e o dia
+	 *         atual são os mesmos da compilação.
+	 */
+	private boolean isCurrent() {
+
+		return compiledWith == currentDefaults();
+	}
+
+	/**
+	 * Padrões vigentes, verificados novamente apenas quando vencido o
+	 * intervalo da última verificação.
+	 */
+	private static Defaults currentDefaults() {
+
+		final Defaults current = defaults;
+		final long now = System.currentTimeMillis();
+
+		if (now < current.checkUntil) {
+			return current;
+		}
+
+		final Defaults fresh = new Defaults(now);
+
+		if (fresh.sameAs(current)) {
+
+			current.checkUntil = fresh.checkUntil;
+
+			return current;
+		}
+
+		defaults = fresh;
+
+		return fresh;
+	}
+
+	/**
+	 * Fuso e locale padrão da JVM e dia corrente (que fixa o início do século
+	 * de anos com 2 dígitos) em um instante.
+	 */
+	private static final class Defaults {
+
+		private final String zoneId;
+
+		private final Locale locale;
+
+		private final long day;
+
+		private volatile long checkUntil;
+
+		Defaults(long now) {
+
+			this.zoneId = TimeZone.getDefault().getID();
+			this.locale = Locale.getDefault(Locale.Category.FORMAT);
+			this.day = EpochDays.ofMillis(now);
+			this.checkUntil = now + DEFAULTS_CHECK_INTERVAL;
+		}
+
+		boolean sameAs(Defaults other) {
+
+			return day == other.day && zoneId.equals(other.zoneId)
+					&& locale.equals(other.locale);
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:48:47
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:48:47
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.function.Supplier;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Substituto imutável e seguro para threads de um <code>SimpleDateFormat</code>
+ * compartilhado (ex.: constantes <code>public static final DateFormat</code>),
+ * com os mesmos resultados do <code>SimpleDateFormat</code> do mesmo padrão.
+ * </p>
+ * <p>
+ * Por estender <code>java.text.DateFormat</code>, pode ser usado onde um
+ * <code>java.text.Format</code> é esperado. Formatação e interpretação de
+ * textos inteiros usam o {@linkplain CompiledDateFormat} do padrão, sem
+ * bloqueio e sem <code>SimpleDateFormat</code>; os demais casos
+ * (interpretação de trechos, <code>FieldPosition</code> específico ou padrões
+ * que não são de tamanho fixo) usam cópias de um <code>SimpleDateFormat</code>
+ * obtidas de um {@linkplain FormatProvider}.
+ * </p>
+ * <p>
+ * Fuso e início do século de anos com 2 dígitos são fixados na criação, assim
+ * como os de um <code>SimpleDateFormat</code>, e os métodos que alterariam o
+ * formatador (<code>setTimeZone</code>, <code>setLenient</code>, ...) lançam
+ * <code>UnsupportedOperationException</code>.
+ * </p>
+ * 
+ * <pre>
+ * public static final DateFormat FORMAT_YYYYMMDD = new ConcurrentDateFormat(&quot;yyyyMMdd&quot;);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class ConcurrentDateFormat extends java.text.DateFormat {
+
+	private static final long serialVersionUID = 3296104721487425470L;
+
+	private final String pattern;
+
+	private final transient CompiledDateFormat compiled;
+
+	private final transient FormatProvider<SimpleDateFormat> provider;
+
+	/**
+	 * @param pattern
+	 *            - Padrão do <code>SimpleDateFormat</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão seja <code>null</code> ou inválido.
+	 * 
+	 * @since 0.2
+	 */
+	public ConcurrentDateFormat(String pattern) {
+
+		this.pattern = pattern;
+		this.compiled = CompiledDateFormat.compile(pattern);
+
+		final SimpleDateFormat prototype = compiled.copy();
+
+		// Estado da superclasse, nunca exposto nem alterado.
+		this.calendar = prototype.getCalendar();
+		this.numberFormat = prototype.getNumberFormat();
+
+		this.provider = FormatStrategy.getDefault().newProvider(
+				new Supplier<SimpleDateFormat>() {
+
+					public SimpleDateFormat get() {
+
+						return (SimpleDateFormat) prototype.clone();
+					}
+				});
+	}
+
+	/**
+	 * @see java.text.DateFormat#format(java.util.Date, java.lang.StringBuffer,
+	 *      java.text.FieldPosition)
+	 */
+	@Override
+	public StringBuffer format(Date date, StringBuffer toAppendTo,
+			FieldPosition fieldPosition) {
+
+		if (compiled.isFixedLength() && fieldPosition.getField() == ERA_FIELD
+				&& fieldPosition.getFieldAttribute() == null) {
+
+			// Padrões de tamanho fixo não têm era.
+			fieldPosition.setBeginIndex(0);
+			fieldPosition.setEndIndex(0);
+
+			return toAppendTo.append(compiled.format(date));
+		}
+
+		final SimpleDateFormat format = provider.acquire();
+
+		try {
+
+			return format.format(date, toAppendTo, fieldPosition);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @see java.text.DateFormat#parse(java.lang.String,
+	 *      java.text.ParsePosition)
+	 */
+	@Override
+	public Date parse(String source, ParsePosition pos) {
+
+		final Date date = compiled.parseFast(source, pos.getIndex(), source.length());
+
+		if (date != null) {
+
+			pos.setIndex(source.length());
+
+			return date;
+		}
+
+		final SimpleDateFormat format = provider.acquire();
+
+		try {
+
+			return format.parse(source, pos);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @return padrão - O padrão do <code>SimpleDateFormat</code> equivalente.
+	 */
+	public String toPattern() {
+
+		return pattern;
+	}
+
+	/**
+	 * @return formatador - Formatador compilado do padrão.
+	 */
+	public CompiledDateFormat getCompiled() {
+
+		return compiled;
+	}
+
+	/**
+	 * @return calendário - Cópia do calendário do formatador.
+	 */
+	@Override
+	public Calendar getCalendar() {
+
+		return (Calendar) calendar.clone();
+	}
+
+	/**
+	 * @return formatador numérico - Cópia do formatador numérico.
+	 */
+	@Override
+	public NumberFormat getNumberFormat() {
+
+		return (NumberFormat) numberFormat.clone();
+	}
+
+	/**
+	 * @return fuso - Cópia do fuso horário do formatador.
+	 */
+	@Override
+	public TimeZone getTimeZone() {
+
+		return (TimeZone) calendar.getTimeZone().clone();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Sempre, o formatador é imutável.
+	 */
+	@Override
+	public void setCalendar(Calendar newCalendar) {
+
+		Exceptions.throwUnsupportedOperationException("ConcurrentDateFormat imutável!");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Sempre, o formatador é imutável.
+	 */
+	@Override
+	public void setNumberFormat(NumberFormat newNumberFormat) {
+
+		Exceptions.throwUnsupportedOperationException("ConcurrentDateFormat imutável!");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Sempre, o formatador é imutável.
+	 */
+	@Override
+	public void setTimeZone(TimeZone zone) {
+
+		Exceptions.throwUnsupportedOperationException("ConcurrentDateFormat imutável!");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Sempre, o formatador é imutável.
+	 */
+	@Override
+	public void setLenient(boolean lenient) {
+
+		Exceptions.throwUnsupportedOperationException("ConcurrentDateFormat imutável!");
+	}
+
+	/**
+	 * @return cópia - Novo <code>SimpleDateFormat</code> equivalente, que pode
+	 *         ser alterado (ex.: <code>setLenient(false)</code>).
+	 */
+	@Override
+	public Object clone() {
+
+		return compiled.copy();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		return (obj instanceof ConcurrentDateFormat)
+				&& pattern.equals(((ConcurrentDateFormat) obj).pattern)
+				&& calendar.getTimeZone().equals(((ConcurrentDateFormat) obj).calendar.getTimeZone());
+	}
+
+	@Override
+	public int hashCode() {
+
+		return pattern.hashCode();
+	}
+
+	@Override
+	public String toString() {
+
+		return "ConcurrentDateFormat[" + pattern + "]";
+	}
+
+	/**
+	 * Recria o formatador compilado na desserialização.
+	 */
+	private Object readResolve() {
+
+		return new ConcurrentDateFormat(pattern);
+	}
+}
@@ -0,0 +1,807 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:09:35
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:09:35
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.jrimum.utilix.text.Strings.DIGIT_ONES;
+import static org.jrimum.utilix.text.Strings.DIGIT_TENS;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.jrimum.utilix.EpochDays;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Codec imutável e sem estado para padrões de data de tamanho fixo (ex.:
+ * <tt>"dd/MM/yyyy"</tt>, <tt>"yyMMdd"</tt>, <tt>"HH:mm:ss"</tt>), que pode ser
+ * compartilhado por qualquer quantidade de threads.
+ * </p>
+ * <p>
+ * Formatação e interpretação são feitas diretamente sobre os dígitos, com os
+ * mesmos resultados de um <code>SimpleDateFormat</code> do mesmo padrão
+ * (leniente, fuso e início do século de anos com 2 dígitos fixados na criação
+ * do codec). Os casos que fogem do leiaute fixo (tamanho diferente do padrão,
+ * caracteres inesperados, anos fora de 1600 a 9999 ou horários próximos de
+ * uma mudança de fuso) são delegados a um novo <code>SimpleDateFormat</code>.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+final class DateCodec {
+
+	private static final int DAY = 0;
+
+	private static final int MONTH = 1;
+
+	private static final int YEAR = 2;
+
+	private static final int HOUR_1_12 = 3;
+
+	private static final int HOUR_0_23 = 4;
+
+	private static final int MINUTE = 5;
+
+	private static final int SECOND = 6;
+
+	/**
+	 * Retorno de {@linkplain #parseLocalSeconds(CharSequence, int, boolean)}
+	 * para textos fora do leiaute do padrão.
+	 */
+	static final long INVALID = Long.MIN_VALUE;
+
+	private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+	/**
+	 * Faixa de epoch days tratada diretamente: anos de 1600 a 9999, sempre
+	 * gregorianos e com no máximo 4 dígitos.
+	 */
+	private static final long MIN_EPOCH_DAY = EpochDays.of(1600, 1, 2);
+
+	private static final long MAX_EPOCH_DAY = EpochDays.of(9999, 12, 30);
+
+	private final String pattern;
+
+	/**
+	 * Padrão com os campos substituídos por <code>'0'</code> e os separadores
+	 * mantidos.
+	 */
+	private final char[] template;
+
+	private final int[] kinds;
+
+	private final int[] positions;
+
+	private final int[] widths;
+
+	private final boolean digitsOnly;
+
+	private final boolean hasDate;
+
+	private final TimeZone zone;
+
+	private final long defaultCenturyStart;
+
+	private final int defaultCenturyStartYear;
+
+	private final long defaultCenturyStartLocalSeconds;
+
+	/**
+	 * @param pattern
+	 *            - Padrão de tamanho fixo com os campos <tt>dd</tt>,
+	 *            <tt>MM</tt>, <tt>yy</tt>, <tt>yyyy</tt>, <tt>hh</tt>,
+	 *            <tt>HH</tt>, <tt>mm</tt> e <tt>ss</tt> e separadores que não
+	 *            sejam letras.
+	 * @param zone
+	 *            - Fuso horário.
+	 * @param defaultCenturyStart
+	 *            - Início do século para anos com 2 dígitos.
+	 */
+	DateCodec(String pattern, TimeZone zone, Date defaultCenturyStart) {
+
+		Objects.checkNotNull(pattern, "INVALID NULL FORMAT!");
+
+		final int length = pattern.length();
+
+		final int[] kinds = new int[length];
+		final int[] positions = new int[length];
+		final int[] widths = new int[length];
+
+		this.template = pattern.toCharArray();
+
+		int count = 0;
+		int i = 0;
+
+		while (i < length) {
+
+			final char letter = pattern.charAt(i);
+
+			int end = i + 1;
+
+			while (end < length && pattern.charAt(end) == letter) {
+				end++;
+			}
+
+			final int width = end - i;
+
+			if (!Character.isLetter(letter) && letter != '\'') {
+
+				i = end;
+				continue;
+			}
+
+			final int kind = kindOf(letter, width);
+
+			if (kind < 0) {
+				Exceptions.throwIllegalArgumentException(String.format(
+						"Padrão de data não suportado: \"%s\"", pattern));
+			}
+
+			kinds[count] = kind;
+			positions[count] = i;
+			widths[count] = width;
+			count++;
+
+			for (int j = i; j < end; j++) {
+				template[j] = '0';
+			}
+
+			i = end;
+		}
+
+		this.pattern = pattern;
+		this.kinds = copyOf(kinds, count);
+		this.positions = copyOf(positions, count);
+		this.widths = copyOf(widths, count);
+		this.digitsOnly = isDigitsOnly(this.widths, length);
+		this.hasDate = hasDate(this.kinds);
+		this.zone = (TimeZone) zone.clone();
+		this.defaultCenturyStart = defaultCenturyStart.getTime();
+
+		final Calendar calendar = new GregorianCalendar(this.zone);
+		calendar.setTime(defaultCenturyStart);
+
+		this.defaultCenturyStartYear = calendar.get(Calendar.YEAR);
+		this.defaultCenturyStartLocalSeconds = Math.floorDiv(
+				this.defaultCenturyStart
+						+ this.zone.getOffset(this.defaultCenturyStart), 1000L);
+	}
+
+	/**
+	 * <p>
+	 * Compila o padrão com o fuso padrão da JVM e o início do século de um
+	 * <code>SimpleDateFormat</code> criado agora (80 anos atrás).
+	 * </p>
+	 */
+	static DateCodec compile(String pattern) {
+
+		final Calendar now = new GregorianCalendar();
+		now.add(Calendar.YEAR, -80);
+
+		return new DateCodec(pattern, now.getTimeZone(), now.getTime());
+	}
+
+	/**
+	 * <p>
+	 * Indica se o padrão pode ser compilado em um codec: ao menos um campo, os
+	 * campos entre os aceitos pelo construtor e nenhum texto entre aspas.
+	 * </p>
+	 */
+	static boolean isSupported(String pattern) {
+
+		final int length = pattern.length();
+
+		int fields = 0;
+		int i = 0;
+
+		while (i < length) {
+
+			final char letter = pattern.charAt(i);
+
+			int end = i + 1;
+
+			while (end < length && pattern.charAt(end) == letter) {
+				end++;
+			}
+
+			if (Character.isLetter(letter) || letter == '\'') {
+
+				if (kindOf(letter, end - i) < 0) {
+					return false;
+				}
+
+				fields++;
+			}
+
+			i = end;
+		}
+
+		return fields > 0;
+	}
+
+	/**
+	 * @return padrão - O padrão do <code>SimpleDateFormat</code> equivalente.
+	 */
+	String getPattern() {
+
+		return pattern;
+	}
+
+	/**
+	 * @return tamanho - Quantidade de caracteres de uma data formatada.
+	 */
+	int length() {
+
+		return template.length;
+	}
+
+	/**
+	 * @return formatador - Novo <code>SimpleDateFormat</code> equivalente a
+	 *         este codec.
+	 */
+	SimpleDateFormat newSimpleDateFormat() {
+
+		final SimpleDateFormat format = new SimpleDateFormat(pattern);
+
+		format.setTimeZone((TimeZone) zone.clone());
+		format.set2DigitYearStart(new Date(defaultCenturyStart));
+
+		return format;
+	}
+
+	/**
+	 * Formata o instante informado.
+	 */
+	String format(Date date) {
+
+		final long millis = date.getTime();
+		final long local = millis + zone.getOffset(millis);
+		final long epochDay = EpochDays.ofMillis(local);
+
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+			return newSimpleDateFormat().format(date);
+		}
+
+		final char[] chars = new char[template.length];
+
+		write(epochDay, (int) ((local - EpochDays.toMillis(epochDay)) / 1000),
+				chars, 0);
+
+		return new String(chars);
+	}
+
+	/**
+	 * Formata o instante informado no array a partir da posição
+	 * <code>offset</code>.
+	 * 
+	 * @return posição seguinte ao último caractere escrito.
+	 */
+	int format(Date date, char[] dest, int offset) {
+
+		final long millis = date.getTime();
+		final long local = millis + zone.getOffset(millis);
+		final long epochDay = EpochDays.ofMillis(local);
+
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+
+			final String text = newSimpleDateFormat().format(date);
+
+			text.getChars(0, text.length(), dest, offset);
+
+			return offset + text.length();
+		}
+
+		write(epochDay, (int) ((local - EpochDays.toMillis(epochDay)) / 1000),
+				dest, offset);
+
+		return offset + template.length;
+	}
+
+	/**
+	 * Formata o instante informado no destino.
+	 * 
+	 * @throws IOException
+	 *             Caso ocorra algum erro de escrita no destino.
+	 */
+	void format(Date date, Appendable out) throws IOException {
+
+		final long millis = date.getTime();
+		final long local = millis + zone.getOffset(millis);
+		final long epochDay = EpochDays.ofMillis(local);
+
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+			out.append(newSimpleDateFormat().format(date));
+		} else {
+			write(epochDay,
+					(int) ((local - EpochDays.toMillis(epochDay)) / 1000), out);
+		}
+	}
+
+	/**
+	 * Formata o dia e horário locais informados, sem conversão de fuso.
+	 * 
+	 * @return posição seguinte ao último caractere escrito.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o ano esteja fora do intervalo de 0 a 9999.
+	 */
+	int format(long epochDay, int secondOfDay, char[] dest, int offset) {
+
+		final int year = EpochDays.year(epochDay);
+
+		if (year < 0 || year > 9999) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Ano fora do intervalo suportado: %d", year));
+		}
+
+		write(epochDay, secondOfDay, dest, offset);
+
+		return offset + template.length;
+	}
+
+	/**
+	 * Interpreta o texto informado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o texto não seja uma data válida para o padrão.
+	 */
+	Date parse(String text) {
+
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * Interpreta o trecho <code>[from, to)</code> do texto informado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o trecho não seja uma data válida para o padrão.
+	 */
+	Date parse(CharSequence text, int from, int to) {
+
+		final Date date = parseFast(text, from, to);
+
+		if (date != null) {
+			return date;
+		}
+
+		try {
+
+			return newSimpleDateFormat().parse(text.subSequence(from, to).toString());
+
+		} catch (ParseException e) {
+
+			return Exceptions.throwIllegalArgumentException("DateFormat Exception!", e);
+		}
+	}
+
+	/**
+	 * Interpreta o trecho <code>[from, to)</code> do texto informado.
+	 * 
+	 * @return data ou <code>null</code> caso o trecho não seja uma data válida
+	 *         para o padrão.
+	 */
+	Date tryParse(CharSequence text, int from, int to) {
+
+		final Date date = parseFast(text, from, to);
+
+		if (date != null) {
+			return date;
+		}
+
+		return newSimpleDateFormat().parse(text.subSequence(from, to).toString(),
+				new ParsePosition(0));
+	}
+
+	/**
+	 * @return data ou <code>null</code> caso o trecho precise ser interpretado
+	 *         pelo <code>SimpleDateFormat</code>.
+	 */
+	Date parseFast(CharSequence text, int from, int to) {
+
+		if (to - from != template.length) {
+			return null;
+		}
+
+		final long seconds = parseLocalSeconds(text, from, false);
+
+		if (seconds == INVALID) {
+			return null;
+		}
+
+		final long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+			return null;
+		}
+
+		final long local = seconds * 1000;
+
+		final int offset = zone.getOffset(local - EpochDays.MILLIS_PER_DAY);
+
+		if (offset != zone.getOffset(local + EpochDays.MILLIS_PER_DAY)) {
+			// Mudança de fuso (ex.: horário de verão) próxima.
+			return null;
+		}
+
+		return new Date(local - offset);
+	}
+
+	/**
+	 * Interpreta o dia (local) de uma data no leiaute do padrão a partir da
+	 * posição informada, sem conversão de fuso. Os valores seguem as mesmas
+	 * regras de {@linkplain #parse(CharSequence, int, int)}; horários, se houver, são
+	 * desconsiderados.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão não tenha data ou o texto não esteja no
+	 *             leiaute do padrão.
+	 */
+	long parseEpochDay(CharSequence text, int offset) {
+
+		if (!hasDate) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Padrão sem data: \"%s\"", pattern));
+		}
+
+		final long seconds = parseLocalSeconds(text, offset, true);
+
+		if (seconds == INVALID) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Data [\"%s\"] fora do padrão \"%s\"!", text, pattern));
+		}
+
+		return Math.floorDiv(seconds, SECONDS_PER_DAY);
+	}
+
+	/**
+	 * @return indica se o padrão possui algum campo de data.
+	 */
+	boolean hasDate() {
+
+		return hasDate;
+	}
+
+	/**
+	 * @return indica se o padrão possui apenas campos de data, ou seja, se o
+	 *         texto formatado depende somente do dia local.
+	 */
+	boolean isDateOnly() {
+
+		for (int kind : kinds) {
+			if (kind != DAY && kind != MONTH && kind != YEAR) {
+				return false;
+			}
+		}
+
+		return hasDate;
+	}
+
+	/**
+	 * Dia local do instante informado.
+	 * 
+	 * @return epoch day ou {@linkplain #INVALID}, caso o dia esteja fora da
+	 *         faixa tratada diretamente pelo codec.
+	 */
+	long epochDayOf(Date date) {
+
+		final long millis = date.getTime();
+		final long epochDay = EpochDays.ofMillis(millis + zone.getOffset(millis));
+
+		return (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) ? INVALID
+				: epochDay;
+	}
+
+	/**
+	 * Interpreta os campos do texto, a partir da posição informada, como
+	 * segundos locais desde 01/01/1970.
+	 * 
+	 * @param resolveAmbiguousYear
+	 *            - Indica se o ano de 2 dígitos igual ao do início do século
+	 *            deve ser resolvido pelo horário local. Caso contrário,
+	 *            {@linkplain #INVALID} é retornado para esse ano.
+	 * @return segundos locais ou {@linkplain #INVALID} caso o texto não
+	 *         esteja no leiaute do padrão.
+	 */
+	private long parseLocalSeconds(CharSequence text, int offset,
+			boolean resolveAmbiguousYear) {
+
+		final int length = template.length;
+
+		if (offset < 0 || text.length() - offset < length) {
+			return INVALID;
+		}
+
+		if (digitsOnly) {
+
+			if (!Digits.isDigits(text, offset, offset + length)) {
+				return INVALID;
+			}
+
+		} else {
+
+			for (int i = 0; i < length; i++) {
+
+				final char c = text.charAt(offset + i);
+				final char expected = template[i];
+
+				if (expected == '0' ? (c < '0' || c > '9') : c != expected) {
+					return INVALID;
+				}
+			}
+		}
+
+		int year = 1970;
+		int month = 1;
+		int day = 1;
+		int seconds = 0;
+		boolean ambiguousYear = false;
+
+		for (int f = 0; f < kinds.length; f++) {
+
+			final int value = digits(text, offset + positions[f], widths[f]);
+
+			switch (kinds[f]) {
+
+			case DAY:
+				day = value;
+				break;
+
+			case MONTH:
+				month = value;
+				break;
+
+			case YEAR:
+				if (widths[f] == 2) {
+
+					final int ambiguous = defaultCenturyStartYear % 100;
+
+					ambiguousYear = (value == ambiguous);
+
+					if (ambiguousYear && !resolveAmbiguousYear) {
+						// Depende do instante exato do início do século.
+						return INVALID;
+					}
+
+					year = defaultCenturyStartYear / 100 * 100 + value
+							+ (value < ambiguous ? 100 : 0);
+				} else {
+					year = value;
+				}
+				break;
+
+			case HOUR_1_12:
+				seconds += (value == 12 ? 0 : value) * 3600;
+				break;
+
+			case HOUR_0_23:
+				seconds += value * 3600;
+				break;
+
+			case MINUTE:
+				seconds += value * 60;
+				break;
+
+			default:
+				seconds += value;
+			}
+		}
+
+		long local = EpochDays.of(year, month, day) * SECONDS_PER_DAY + seconds;
+
+		if (ambiguousYear && local < defaultCenturyStartLocalSeconds) {
+			local = EpochDays.of(year + 100, month, day) * SECONDS_PER_DAY
+					+ seconds;
+		}
+
+		return local;
+	}
+
+	/**
+	 * Escreve os campos do dia e horário (locais) informados.
+	 */
+	private void write(long epochDay, int secondOfDay, char[] dest, int offset) {
+
+		final int yyyyMMdd = EpochDays.toYyyyMmDd(epochDay);
+
+		System.arraycopy(template, 0, dest, offset, template.length);
+
+		for (int f = 0; f < kinds.length; f++) {
+
+			final int value = value(f, yyyyMMdd, secondOfDay);
+			final int position = offset + positions[f];
+
+			if (widths[f] == 4) {
+				dest[position] = DIGIT_TENS[value / 100];
+				dest[position + 1] = DIGIT_ONES[value / 100];
+				dest[position + 2] = DIGIT_TENS[value % 100];
+				dest[position + 3] = DIGIT_ONES[value % 100];
+			} else {
+				dest[position] = DIGIT_TENS[value];
+				dest[position + 1] = DIGIT_ONES[value];
+			}
+		}
+	}
+
+	/**
+	 * Escreve os campos do dia e horário (locais) informados, caractere a
+	 * caractere, no destino.
+	 */
+	private void write(long epochDay, int secondOfDay, Appendable out)
+			throws IOException {
+
+		final int yyyyMMdd = EpochDays.toYyyyMmDd(epochDay);
+
+		int position = 0;
+
+		for (int f = 0; f < kinds.length; f++) {
+
+			while (position < positions[f]) {
+				out.append(template[position++]);
+			}
+
+			final int value = value(f, yyyyMMdd, secondOfDay);
+
+			if (widths[f] == 4) {
+				out.append(DIGIT_TENS[value / 100]);
+				out.append(DIGIT_ONES[value / 100]);
+				out.append(DIGIT_TENS[value % 100]);
+				out.append(DIGIT_ONES[value % 100]);
+			} else {
+				out.append(DIGIT_TENS[value]);
+				out.append(DIGIT_ONES[value]);
+			}
+
+			position += widths[f];
+		}
+
+		while (position < template.length) {
+			out.append(template[position++]);
+		}
+	}
+
+	/**
+	 * Valor do campo <code>f</code> para o dia e horário informados.
+	 */
+	private int value(int f, int yyyyMMdd, int secondOfDay) {
+
+		switch (kinds[f]) {
+
+		case DAY:
+			return yyyyMMdd % 100;
+
+		case MONTH:
+			return yyyyMMdd / 100 % 100;
+
+		case YEAR:
+			return (widths[f] == 2) ? yyyyMMdd / 10000 % 100
+					: yyyyMMdd / 10000;
+
+		case HOUR_1_12:
+			return (secondOfDay / 3600 % 12 == 0) ? 12
+					: secondOfDay / 3600 % 12;
+
+		case HOUR_0_23:
+			return secondOfDay / 3600;
+
+		case MINUTE:
+			return secondOfDay / 60 % 60;
+
+		default:
+			return secondOfDay % 60;
+		}
+	}
+
+	private static int digits(CharSequence text, int position, int width) {
+
+		int value = 0;
+
+		for (int i = position, end = position + width; i < end; i++) {
+			value = value * 10 + (text.charAt(i) - '0');
+		}
+
+		return value;
+	}
+
+	private static int kindOf(char letter, int width) {
+
+		switch (letter) {
+
+		case 'd':
+			return (width == 2) ? DAY : -1;
+
+		case 'M':
+			return (width == 2) ? MONTH : -1;
+
+		case 'y':
+			return (width == 2 || width == 4) ? YEAR : -1;
+
+		case 'h':
+			return (width == 2) ? HOUR_1_12 : -1;
+
+		case 'H':
+			return (width == 2) ? HOUR_0_23 : -1;
+
+		case 'm':
+			return (width == 2) ? MINUTE : -1;
+
+		case 's':
+			return (width == 2) ? SECOND : -1;
+
+		default:
+			return -1;
+		}
+	}
+
+	private static boolean hasDate(int[] kinds) {
+
+		for (int kind : kinds) {
+			if (kind == DAY || kind == MONTH || kind == YEAR) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isDigitsOnly(int[] widths, int length) {
+
+		int digits = 0;
+
+		for (int width : widths) {
+			digits += width;
+		}
+
+		return digits == length;
+	}
+
+	private static int[] copyOf(int[] array, int length) {
+
+		final int[] copy = new int[length];
+
+		System.arraycopy(array, 0, copy, 0, length);
+
+		return copy;
+	}
+
+	@Override
+	public String toString() {
+
+		return "DateCodec[" + pattern + "]";
+	}
+}
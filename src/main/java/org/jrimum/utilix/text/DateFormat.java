@@ -29,8 +29,10 @@
 
 package org.jrimum.utilix.text;
 
-import java.text.ParseException;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 import org.jrimum.utilix.Exceptions;
@@ -49,6 +51,13 @@ import org.jrimum.utilix.Exceptions;
  * <li>etc.</li>
  * </ul>
  * </p>
+ * <p>
+ * Cada constante é apoiada em um codec imutável, sem <code>ThreadLocal</code>
+ * nem <code>Calendar</code>, que formata e interpreta os dígitos diretamente
+ * e pode ser usado por qualquer quantidade de threads (inclusive virtuais). Os
+ * resultados são os mesmos de um <code>SimpleDateFormat</code> do padrão,
+ * obtido por {@linkplain #copy()}.
+ * </p>
  * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
@@ -199,19 +208,13 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	HHMMSS_24C("HH:mm:ss"),
 	;
 	
-	private final ThreadLocalFormat<SimpleDateFormat> DATE_FORMAT;
+	private final DateCodec codec;
+
+	private volatile CachedDateFormat cached;
 
 	private DateFormat(String format) {
 	
-		DATE_FORMAT = new ThreadLocalFormat<SimpleDateFormat>(format){
-
-			@Override
-			protected SimpleDateFormat initialValue() {
-				
-		       return new SimpleDateFormat(format);
-			}
-	        
-	    };
+		codec = DateCodec.compile(format);
 	}
 
 	/**
@@ -219,7 +222,43 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	 */
 	public String format(Date obj) {
 	
-		return DATE_FORMAT.get().format(obj);
+		return codec.format(obj);
+	}
+	
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, char[], int)
+	 */
+	public int formatTo(Date obj, char[] dest, int offset) {
+
+		return codec.format(obj, dest, offset);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.StringBuilder)
+	 */
+	public StringBuilder formatTo(Date obj, StringBuilder out) {
+
+		try {
+
+			codec.format(obj, out);
+
+		} catch (IOException e) {
+
+			// StringBuilder não lança IOException.
+			Exceptions.throwIllegalStateException(e);
+		}
+
+		return out;
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.Appendable)
+	 */
+	public <A extends Appendable> A formatTo(Date obj, A out) throws IOException {
+
+		codec.format(obj, out);
+
+		return out;
 	}
 	
 	/**
@@ -227,21 +266,219 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	 */
 	public Date parse(String text) {
 		
-		try {
-			
-			return DATE_FORMAT.get().parse(text);
-			
-		} catch (ParseException e) {
-			
-			return Exceptions.throwIllegalArgumentException("DateFormat Exception!", e);
-		}
+		return codec.parse(text);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.CharSequence, int, int)
+	 */
+	public Date parse(CharSequence text, int from, int to) {
+
+		return codec.parse(text, from, to);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#tryParse(java.lang.CharSequence, int, int)
+	 */
+	public Date tryParse(CharSequence text, int from, int to) {
+
+		return codec.tryParse(text, from, to);
 	}
 	
+	/**
+	 * <p>
+	 * Formata a data informada, sem conversão de fuso. Campos de horário, se
+	 * houver, são escritos como meia-noite.
+	 * </p>
+	 * 
+	 * @param date
+	 *            - Data a ser formatada.
+	 * @return data formatada.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão não tenha data ou o ano esteja fora do
+	 *             intervalo de 0 a 9999.
+	 * 
+	 * @since 0.2
+	 */
+	public String format(LocalDate date) {
+
+		final char[] chars = new char[codec.length()];
+
+		formatEpochDay(date.toEpochDay(), chars, 0);
+
+		return new String(chars);
+	}
+
+	/**
+	 * <p>
+	 * Formata a data e horário informados, sem conversão de fuso. Frações de
+	 * segundo são desconsideradas.
+	 * </p>
+	 * 
+	 * @param dateTime
+	 *            - Data e horário a serem formatados.
+	 * @return data formatada.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o ano esteja fora do intervalo de 0 a 9999.
+	 * 
+	 * @since 0.2
+	 */
+	public String format(LocalDateTime dateTime) {
+
+		final char[] chars = new char[codec.length()];
+
+		codec.format(dateTime.toLocalDate().toEpochDay(), dateTime
+				.toLocalTime().toSecondOfDay(), chars, 0);
+
+		return new String(chars);
+	}
+
+	/**
+	 * <p>
+	 * Interpreta uma data no leiaute exato do padrão, sem conversão de fuso e
+	 * com as mesmas regras de {@linkplain #parse(String)} para os valores
+	 * (ex.: 31/02 =&gt; 03/03).
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Data no leiaute do padrão.
+	 * @return data
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão não tenha data ou o texto não esteja no
+	 *             leiaute do padrão.
+	 * 
+	 * @since 0.2
+	 */
+	public LocalDate parseLocalDate(CharSequence text) {
+
+		if (text.length() != codec.length()) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Data [\"%s\"] fora do padrão \"%s\"!", text, codec
+							.getPattern()));
+		}
+
+		return LocalDate.ofEpochDay(codec.parseEpochDay(text, 0));
+	}
+
+	/**
+	 * <p>
+	 * Interpreta, como epoch day, a data no leiaute do padrão a partir da
+	 * posição informada (ex.: um campo de um registro de tamanho fixo). Os
+	 * caracteres seguintes à data são ignorados.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto com a data.
+	 * @param offset
+	 *            - Posição inicial da data.
+	 * @return epoch day - Dias desde 01/01/1970.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão não tenha data ou o texto não esteja no
+	 *             leiaute do padrão.
+	 * 
+	 * @since 0.2
+	 */
+	public int parseEpochDay(CharSequence text, int offset) {
+
+		return (int) codec.parseEpochDay(text, offset);
+	}
+
+	/**
+	 * <p>
+	 * Escreve a data, dada como epoch day, no array informado a partir da
+	 * posição <code>offset</code> (sem alocação de objetos).
+	 * </p>
+	 * 
+	 * @param epochDay
+	 *            - Dias desde 01/01/1970.
+	 * @param dest
+	 *            - Array de destino.
+	 * @param offset
+	 *            - Posição inicial no destino.
+	 * @return posição seguinte ao último caractere escrito.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o padrão não tenha data ou o ano esteja fora do
+	 *             intervalo de 0 a 9999.
+	 * 
+	 * @since 0.2
+	 */
+	public int formatEpochDay(int epochDay, char[] dest, int offset) {
+
+		return formatEpochDay((long) epochDay, dest, offset);
+	}
+
+	private int formatEpochDay(long epochDay, char[] dest, int offset) {
+
+		if (!codec.hasDate()) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Padrão sem data: \"%s\"", codec.getPattern()));
+		}
+
+		return codec.format(epochDay, 0, dest, offset);
+	}
+
+	/**
+	 * <p>
+	 * Cache compartilhado, com granularidade de dia, dos resultados deste
+	 * formatador, criado no primeiro uso com capacidade
+	 * {@linkplain CachedDateFormat#DEFAULT_CAPACITY}.
+	 * </p>
+	 * 
+	 * @return cache - Sempre a mesma instância para a constante.
+	 * 
+	 * @since 0.2
+	 */
+	public CachedDateFormat cached() {
+
+		CachedDateFormat instance = cached;
+
+		if (instance == null) {
+
+			synchronized (this) {
+
+				instance = cached;
+
+				if (instance == null) {
+					cached = instance = new CachedDateFormat(this, codec,
+							CachedDateFormat.DEFAULT_CAPACITY);
+				}
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * Cria um novo cache, com granularidade de dia, dos resultados deste
+	 * formatador (ex.: um por lote, para estatísticas isoladas).
+	 * </p>
+	 * 
+	 * @param capacity
+	 *            - Quantidade máxima de datas mantidas em cada sentido,
+	 *            arredondada para a próxima potência de dois.
+	 * @return cache - Nova instância.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a capacidade não seja positiva.
+	 * 
+	 * @since 0.2
+	 */
+	public CachedDateFormat cached(int capacity) {
+
+		return new CachedDateFormat(this, codec, capacity);
+	}
+
 	/**
 	 * @see org.jrimum.utilix.text.Format#copy()
 	 */
 	public SimpleDateFormat copy(){
 			
-		return (SimpleDateFormat) DATE_FORMAT.get().clone();
+		return codec.newSimpleDateFormat();
 	}
 }
@@ -0,0 +1,690 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:15:26
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:15:26
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Codec imutável e sem estado para os padrões decimais de
+ * {@linkplain DecimalFormat}, que pode ser compartilhado por qualquer
+ * quantidade de threads.
+ * </p>
+ * <p>
+ * Interpreta diretamente de um trecho de texto, sem alocação de
+ * <code>Strings</code>, a forma usual dos números (prefixo, dígitos com
+ * separadores de milhar e decimal) com o mesmo resultado, inclusive o tipo
+ * (<code>Long</code> ou <code>Double</code>), de
+ * <code>java.text.DecimalFormat.parse</code>. Formas que fogem dessa (sufixos,
+ * expoente, dígitos não ASCII, mais de 17 dígitos significativos etc.) não
+ * são tratadas e devem ser delegadas ao <code>java.text.DecimalFormat</code>.
+ * </p>
+ * <p>
+ * Na formatação, escreve diretamente em um array de caracteres, sem
+ * <code>FieldPosition</code> nem <code>StringBuffer</code>, os números
+ * decimais exatos: inteiros (<code>Long, Integer, Short, Byte</code>),
+ * centavos e <code>BigDecimals</code> cujo valor não escalado caiba em um
+ * <code>long</code>. O arredondamento é feito na aritmética inteira, com o
+ * <code>RoundingMode</code> do formatador, de modo que o resultado é o mesmo
+ * do <code>java.text.DecimalFormat</code> (inclusive o sinal de valores
+ * negativos arredondados para zero, ex.: <tt>"-0,00"</tt>).
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+final class DecimalCodec {
+
+	/**
+	 * Maior quantidade de dígitos significativos tratada, de modo que a
+	 * mantissa caiba em um <code>long</code>.
+	 */
+	private static final int MAX_SIGNIFICANT_DIGITS = 17;
+
+	/**
+	 * Maior mantissa representada exatamente por um <code>double</code>.
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * Potências de 10 representadas exatamente por um <code>double</code>.
+	 */
+	private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3,
+			1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+			1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * Maior quantidade de caracteres escrita por
+	 * {@linkplain #format(long, int, char[], int)}.
+	 */
+	static final int MAX_FORMATTED_LENGTH = 64;
+
+	/**
+	 * Maior escala tratada na formatação.
+	 */
+	static final int MAX_SCALE = 18;
+
+	/**
+	 * Retorno de {@linkplain #parseUnscaled(CharSequence, int, int, int)} para
+	 * textos fora da forma estrita.
+	 */
+	static final long INVALID = Long.MIN_VALUE;
+
+	/**
+	 * Quantidade de dígitos de <code>Long.MIN_VALUE</code>.
+	 */
+	private static final int MAX_LONG_DIGITS = 19;
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L,
+			10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+			10000000000L, 100000000000L, 1000000000000L, 10000000000000L,
+			100000000000000L, 1000000000000000L, 10000000000000000L,
+			100000000000000000L, 1000000000000000000L };
+
+	private final String positivePrefix;
+
+	private final String negativePrefix;
+
+	private final boolean groupingUsed;
+
+	private final char groupingSeparator;
+
+	private final char decimalSeparator;
+
+	private final int groupingSize;
+
+	private final int minimumIntegerDigits;
+
+	private final int minimumFractionDigits;
+
+	private final int maximumFractionDigits;
+
+	private final boolean decimalSeparatorAlwaysShown;
+
+	private final RoundingMode roundingMode;
+
+	private final boolean supported;
+
+	private final boolean formatSupported;
+
+	/**
+	 * @param prototype
+	 *            - Formatador do qual são obtidos prefixos e separadores.
+	 */
+	DecimalCodec(java.text.DecimalFormat prototype) {
+
+		Objects.checkNotNull(prototype, "INVALID NULL FORMAT!");
+
+		final java.text.DecimalFormatSymbols symbols = prototype
+				.getDecimalFormatSymbols();
+
+		this.positivePrefix = prototype.getPositivePrefix();
+		this.negativePrefix = prototype.getNegativePrefix();
+		this.groupingUsed = prototype.isGroupingUsed();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.decimalSeparator = decimalSeparatorOf(prototype, symbols);
+
+		this.supported = prototype.getPositiveSuffix().length() == 0
+				&& prototype.getNegativeSuffix().length() == 0
+				&& prototype.getMultiplier() == 1
+				&& !prototype.isParseBigDecimal()
+				&& !prototype.isParseIntegerOnly()
+				&& groupingSeparator != decimalSeparator
+				&& !Character.isDigit(groupingSeparator)
+				&& !Character.isDigit(decimalSeparator);
+
+		this.groupingSize = (groupingUsed) ? prototype.getGroupingSize() : 0;
+		this.minimumIntegerDigits = prototype.getMinimumIntegerDigits();
+		this.minimumFractionDigits = prototype.getMinimumFractionDigits();
+		this.maximumFractionDigits = prototype.getMaximumFractionDigits();
+		this.decimalSeparatorAlwaysShown = prototype
+				.isDecimalSeparatorAlwaysShown();
+		this.roundingMode = prototype.getRoundingMode();
+
+		final int integerDigits = Math.max(MAX_LONG_DIGITS,
+				minimumIntegerDigits);
+		final int maxLength = Math.max(positivePrefix.length(),
+				negativePrefix.length())
+				+ integerDigits
+				+ ((groupingSize > 0) ? (integerDigits - 1) / groupingSize : 0)
+				+ 1 + maximumFractionDigits;
+
+		this.formatSupported = prototype.getPositiveSuffix().length() == 0
+				&& prototype.getNegativeSuffix().length() == 0
+				&& prototype.getMultiplier() == 1
+				&& prototype.getMaximumIntegerDigits() >= MAX_LONG_DIGITS
+				&& minimumIntegerDigits >= 1
+				&& maximumFractionDigits <= MAX_SCALE
+				&& roundingMode != RoundingMode.UNNECESSARY
+				&& maxLength <= MAX_FORMATTED_LENGTH;
+	}
+
+	/**
+	 * Indica se o número pode ser formatado por
+	 * {@linkplain #format(Number, char[], int)}.
+	 */
+	boolean canFormat(Number number) {
+
+		if (!formatSupported) {
+			return false;
+		}
+
+		if (number instanceof BigDecimal) {
+
+			final BigDecimal decimal = (BigDecimal) number;
+
+			return decimal.scale() >= 0 && decimal.scale() <= MAX_SCALE
+					&& decimal.unscaledValue().bitLength() < Long.SIZE;
+		}
+
+		return number instanceof Long || number instanceof Integer
+				|| number instanceof Short || number instanceof Byte;
+	}
+
+	/**
+	 * Indica se o padrão pode ser formatado por
+	 * {@linkplain #format(long, int, char[], int)}.
+	 */
+	boolean isFormatSupported() {
+
+		return formatSupported;
+	}
+
+	/**
+	 * Formata o número, aceito por {@linkplain #canFormat(Number)}, no array a
+	 * partir da posição <code>offset</code>.
+	 * 
+	 * @return posição seguinte ao último caractere escrito.
+	 */
+	int format(Number number, char[] dest, int offset) {
+
+		if (number instanceof BigDecimal) {
+
+			final BigDecimal decimal = (BigDecimal) number;
+			final BigInteger unscaled = decimal.unscaledValue();
+
+			return format(unscaled.longValue(), decimal.scale(), dest, offset);
+		}
+
+		return format(number.longValue(), 0, dest, offset);
+	}
+
+	/**
+	 * Formata o valor <code>unscaled * 10^-scale</code>, com escala de 0 a
+	 * {@linkplain #MAX_SCALE}, no array a partir da posição
+	 * <code>offset</code>. São escritos no máximo
+	 * {@linkplain #MAX_FORMATTED_LENGTH} caracteres.
+	 * 
+	 * @return posição seguinte ao último caractere escrito.
+	 */
+	int format(long unscaled, int scale, char[] dest, int offset) {
+
+		final boolean negative = unscaled < 0;
+
+		// Magnitude negativa, para tratar também Long.MIN_VALUE.
+		long value = negative ? unscaled : -unscaled;
+
+		if (scale > maximumFractionDigits) {
+
+			final long divisor = POWERS_OF_TEN[scale - maximumFractionDigits];
+			final long remainder = -(value % divisor);
+
+			value /= divisor;
+			scale = maximumFractionDigits;
+
+			// Como no DigitList do JDK, valores abaixo de 10^-(casas + 1) são
+			// zerados em qualquer modo de arredondamento.
+			final boolean underflow = value == 0 && remainder < divisor / 10;
+
+			if (remainder != 0 && !underflow
+					&& roundsUp(negative, value, remainder, divisor)) {
+				value--;
+			}
+		}
+
+		// Casas além do mínimo só são escritas quando diferentes de zero.
+		while (scale > minimumFractionDigits && value % 10 == 0) {
+			value /= 10;
+			scale--;
+		}
+
+		int digits = 1;
+
+		for (long v = value / POWERS_OF_TEN[scale]; v <= -10; v /= 10) {
+			digits++;
+		}
+
+		digits = Math.max(digits, minimumIntegerDigits);
+
+		final String prefix = negative ? negativePrefix : positivePrefix;
+		final int fractionDigits = Math.max(scale, minimumFractionDigits);
+		final boolean decimal = fractionDigits > 0 || decimalSeparatorAlwaysShown;
+
+		final int end = offset + prefix.length() + digits
+				+ ((groupingSize > 0) ? (digits - 1) / groupingSize : 0)
+				+ (decimal ? 1 + fractionDigits : 0);
+
+		int position = end;
+
+		for (int i = scale; i < fractionDigits; i++) {
+			dest[--position] = '0';
+		}
+
+		for (int i = 0; i < scale; i++) {
+			dest[--position] = (char) ('0' - value % 10);
+			value /= 10;
+		}
+
+		if (decimal) {
+			dest[--position] = decimalSeparator;
+		}
+
+		for (int d = 0; d < digits; d++) {
+
+			if (d > 0 && groupingSize > 0 && d % groupingSize == 0) {
+				dest[--position] = groupingSeparator;
+			}
+
+			dest[--position] = (char) ('0' - value % 10);
+			value /= 10;
+		}
+
+		prefix.getChars(0, prefix.length(), dest, offset);
+
+		return end;
+	}
+
+	/**
+	 * Interpreta o trecho <code>[from, to)</code> por inteiro.
+	 * 
+	 * @return número - <code>Long</code> ou <code>Double</code>, ou
+	 *         <code>null</code> caso o trecho não esteja na forma tratada pelo
+	 *         codec (inclusive quando não é um número).
+	 */
+	Number parse(CharSequence text, int from, int to) {
+
+		if (!supported) {
+			return null;
+		}
+
+		// Assim como no DecimalFormat, prevalece o maior prefixo encontrado.
+		final int positive = regionMatches(text, from, to, positivePrefix);
+		final int negative = regionMatches(text, from, to, negativePrefix);
+
+		if (positive == negative) {
+			return null;
+		}
+
+		final boolean minus = negative > positive;
+
+		long mantissa = 0;
+		int significant = 0;
+		int scale = 0;
+		boolean sawDigit = false;
+		boolean sawDecimal = false;
+
+		for (int i = from + Math.max(positive, negative); i < to; i++) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+
+				if (mantissa != 0 || c != '0') {
+
+					if (++significant > MAX_SIGNIFICANT_DIGITS) {
+						return null;
+					}
+
+					mantissa = mantissa * 10 + (c - '0');
+				}
+
+				if (sawDecimal) {
+					scale++;
+				}
+
+				sawDigit = true;
+
+			} else if (c == decimalSeparator && !sawDecimal) {
+
+				sawDecimal = true;
+
+			} else if (groupingUsed && c == groupingSeparator && sawDigit
+					&& !sawDecimal && i + 1 < to
+					&& text.charAt(i + 1) >= '0' && text.charAt(i + 1) <= '9') {
+
+				continue;
+
+			} else {
+				return null;
+			}
+		}
+
+		if (!sawDigit) {
+			return null;
+		}
+
+		while (scale > 0 && mantissa % 10 == 0) {
+			mantissa /= 10;
+			scale--;
+		}
+
+		if (mantissa == 0) {
+			// Zero negativo só é representado por Double.
+			return minus ? (Number) Double.valueOf(-0.0) : (Number) Long
+					.valueOf(0);
+		}
+
+		if (scale == 0) {
+			return Long.valueOf(minus ? -mantissa : mantissa);
+		}
+
+		if (mantissa > MAX_EXACT_MANTISSA
+				|| scale >= EXACT_POWERS_OF_TEN.length) {
+			return null;
+		}
+
+		// Divisão de dois valores exatos: arredondamento correto, igual ao de
+		// Double.parseDouble.
+		final double value = mantissa / EXACT_POWERS_OF_TEN[scale];
+
+		return Double.valueOf(minus ? -value : value);
+	}
+
+	/**
+	 * Interpreta estritamente o trecho <code>[from, to)</code> como o valor
+	 * exato multiplicado por <code>10^scale</code> (ex.: centavos, para
+	 * escala 2). Veja {@linkplain #parseBigDecimal(CharSequence, int, int)}.
+	 * 
+	 * @return valor ou {@linkplain #INVALID}, caso o trecho não esteja na
+	 *         forma estrita, tenha mais casas decimais que a escala ou não
+	 *         caiba em um <code>long</code>.
+	 */
+	long parseUnscaled(CharSequence text, int from, int to, int scale) {
+
+		if (!supported) {
+			return INVALID;
+		}
+
+		final int positive = regionMatches(text, from, to, positivePrefix);
+		final int negative = regionMatches(text, from, to, negativePrefix);
+
+		if (positive == negative) {
+			return INVALID;
+		}
+
+		final int start = from + Math.max(positive, negative);
+		final int integerEnd = integerEnd(text, start, to);
+
+		if (integerEnd < 0) {
+			return INVALID;
+		}
+
+		final int fractionDigits = fractionDigits(text, integerEnd, to);
+
+		if (fractionDigits < 0 || fractionDigits > scale) {
+			return INVALID;
+		}
+
+		long value = 0;
+
+		for (int i = start; i < to; i++) {
+
+			final int digit = text.charAt(i) - '0';
+
+			if (digit >= 0 && digit <= 9) {
+
+				if (value > (Long.MAX_VALUE - digit) / 10) {
+					return INVALID;
+				}
+
+				value = value * 10 + digit;
+			}
+		}
+
+		for (int i = fractionDigits; i < scale; i++) {
+
+			if (value > Long.MAX_VALUE / 10) {
+				return INVALID;
+			}
+
+			value *= 10;
+		}
+
+		return (negative > positive) ? -value : value;
+	}
+
+	/**
+	 * Interpreta estritamente o trecho <code>[from, to)</code> como um
+	 * <code>BigDecimal</code> exato, com escala igual à quantidade de casas
+	 * decimais do texto. A forma estrita é: prefixo (positivo ou negativo),
+	 * parte inteira com pelo menos um dígito, sem separadores ou com todos os
+	 * grupos completos (<tt>"1500"</tt> ou <tt>"1.500"</tt>, mas não
+	 * <tt>"1.50"</tt>, <tt>"15.00"</tt> ou <tt>".500"</tt>) e, opcionalmente,
+	 * o separador decimal seguido de pelo menos um dígito.
+	 * 
+	 * @return número ou <code>null</code>, caso o trecho não esteja na forma
+	 *         estrita.
+	 */
+	BigDecimal parseBigDecimal(CharSequence text, int from, int to) {
+
+		if (!supported) {
+			return null;
+		}
+
+		final int positive = regionMatches(text, from, to, positivePrefix);
+		final int negative = regionMatches(text, from, to, negativePrefix);
+
+		if (positive == negative) {
+			return null;
+		}
+
+		final int start = from + Math.max(positive, negative);
+		final int integerEnd = integerEnd(text, start, to);
+
+		if (integerEnd < 0) {
+			return null;
+		}
+
+		final int fractionDigits = fractionDigits(text, integerEnd, to);
+
+		if (fractionDigits < 0) {
+			return null;
+		}
+
+		final boolean minus = negative > positive;
+		final char[] digits = new char[to - start + 1];
+
+		int count = 0;
+		long unscaled = 0;
+
+		if (minus) {
+			digits[count++] = '-';
+		}
+
+		for (int i = start; i < to; i++) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+				digits[count++] = c;
+				unscaled = unscaled * 10 + (c - '0');
+			}
+		}
+
+		if (count - (minus ? 1 : 0) < MAX_LONG_DIGITS) {
+			return BigDecimal.valueOf(minus ? -unscaled : unscaled,
+					fractionDigits);
+		}
+
+		return new BigDecimal(new BigInteger(new String(digits, 0, count)),
+				fractionDigits);
+	}
+
+	/**
+	 * Valida a parte inteira, a partir de <code>start</code>, na forma
+	 * estrita.
+	 * 
+	 * @return posição seguinte à parte inteira ou -1.
+	 */
+	private int integerEnd(CharSequence text, int start, int to) {
+
+		int group = 0;
+		boolean grouped = false;
+		int i = start;
+
+		for (; i < to; i++) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+
+				group++;
+
+			} else if (groupingSize > 0 && c == groupingSeparator) {
+
+				if (group == 0 || group > groupingSize
+						|| (grouped && group != groupingSize)) {
+					return -1;
+				}
+
+				grouped = true;
+				group = 0;
+
+			} else {
+				break;
+			}
+		}
+
+		if (group == 0 || (grouped && group != groupingSize)) {
+			return -1;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Valida a parte decimal, a partir de <code>start</code>, até o fim do
+	 * trecho.
+	 * 
+	 * @return quantidade de casas decimais ou -1.
+	 */
+	private int fractionDigits(CharSequence text, int start, int to) {
+
+		if (start == to) {
+			return 0;
+		}
+
+		if (text.charAt(start) != decimalSeparator || start + 1 == to) {
+			return -1;
+		}
+
+		for (int i = start + 1; i < to; i++) {
+
+			final char c = text.charAt(i);
+
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+		}
+
+		return to - start - 1;
+	}
+
+	/**
+	 * Indica se a magnitude truncada deve ser incrementada, dado o resto
+	 * (diferente de zero) da divisão pelo divisor.
+	 * 
+	 * @param truncated
+	 *            - Magnitude truncada, com sinal negativo.
+	 */
+	private boolean roundsUp(boolean negative, long truncated, long remainder,
+			long divisor) {
+
+		switch (roundingMode) {
+
+		case UP:
+			return true;
+
+		case DOWN:
+			return false;
+
+		case CEILING:
+			return !negative;
+
+		case FLOOR:
+			return negative;
+
+		case HALF_UP:
+			return remainder >= divisor - remainder;
+
+		case HALF_DOWN:
+			// Como no DigitList do JDK, o meio logo após as casas decimais
+			// seguido de zeros da escala (ex.: 0,0050) é arredondado para cima.
+			return remainder > divisor - remainder
+					|| (remainder == divisor - remainder && truncated == 0
+							&& divisor > 10);
+
+		default:
+			return remainder > divisor - remainder
+					|| (remainder == divisor - remainder && (truncated & 1) != 0);
+		}
+	}
+
+	private static char decimalSeparatorOf(java.text.DecimalFormat format,
+			java.text.DecimalFormatSymbols symbols) {
+
+		return (format.toPattern().indexOf('\u00A4') >= 0) ? symbols
+				.getMonetaryDecimalSeparator() : symbols.getDecimalSeparator();
+	}
+
+	/**
+	 * @return tamanho do prefixo, caso o trecho comece com ele, ou -1.
+	 */
+	private static int regionMatches(CharSequence text, int from, int to,
+			String prefix) {
+
+		if (to - from < prefix.length()) {
+			return -1;
+		}
+
+		for (int i = 0; i < prefix.length(); i++) {
+			if (text.charAt(from + i) != prefix.charAt(i)) {
+				return -1;
+			}
+		}
+
+		return prefix.length();
+	}
+}
@@ -29,14 +29,20 @@
 
 package org.jrimum.utilix.text;
 
-import java.text.ParseException;
-
-import org.jrimum.utilix.Exceptions;
+import java.io.IOException;
+import java.math.BigDecimal;
 
 /**
  * <p>
  * Formatadores thread-safe relacionados a moeda e números decimais.
  * </p>
+ * <p>
+ * Cada constante é apoiada em um {@linkplain DecimalFormatter}, que formata
+ * diretamente inteiros, centavos ({@linkplain #formatCents(long)}) e
+ * <code>BigDecimals</code> com resultado idêntico ao do
+ * <code>java.text.DecimalFormat</code> do padrão. Outros padrões e
+ * localizações podem ser registrados em {@linkplain FormatRegistry}.
+ * </p>
  * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
@@ -81,49 +87,160 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	MONEY_DD_BR("\u00A4 #,##0.00", DecimalFormatSymbols.BRASIL.copy()),
 	
 	;
-	
-	private final ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols> DECIMAL_FORMAT;
+
+	/**
+	 * <p>
+	 * Retorno de {@linkplain #parseCents(CharSequence, int, int)} para textos
+	 * inválidos.
+	 * </p>
+	 */
+	public static final long INVALID_CENTS = DecimalFormatter.INVALID_CENTS;
+
+	private final DecimalFormatter formatter;
 
 	private DecimalFormat(String format, java.text.DecimalFormatSymbols formatSymbols) {
 	
-		DECIMAL_FORMAT = new ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols>(format, formatSymbols){
-
-			@Override
-			protected java.text.DecimalFormat initialValue() {
-				
-				return new java.text.DecimalFormat(format, formatSymbols);
-			}
-	    };
+		formatter = new DecimalFormatter(format, formatSymbols,
+				FormatStrategy.getDefault(name()));
 	}
 
 	/**
 	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
 	 */
 	public String format(Number obj) {
-	
-		return DECIMAL_FORMAT.get().format(obj);
+
+		return formatter.format(obj);
 	}
-	
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, char[], int)
+	 */
+	public int formatTo(Number obj, char[] dest, int offset) {
+
+		return formatter.formatTo(obj, dest, offset);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.StringBuilder)
+	 */
+	public StringBuilder formatTo(Number obj, StringBuilder out) {
+
+		return formatter.formatTo(obj, out);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.Appendable)
+	 */
+	public <A extends Appendable> A formatTo(Number obj, A out) throws IOException {
+
+		return formatter.formatTo(obj, out);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#formatCents(long)
+	 */
+	public String formatCents(long cents) {
+
+		return formatter.formatCents(cents);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#formatCentsTo(long, char[], int)
+	 */
+	public int formatCentsTo(long cents, char[] dest, int offset) {
+
+		return formatter.formatCentsTo(cents, dest, offset);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#formatCentsTo(long, java.lang.StringBuilder)
+	 */
+	public StringBuilder formatCentsTo(long cents, StringBuilder out) {
+
+		return formatter.formatCentsTo(cents, out);
+	}
+
 	/**
 	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
 	 */
 	public Number parse(String text) {
-		
-		try {
-			
-			return DECIMAL_FORMAT.get().parse(text);
-			
-		} catch (ParseException e) {
-			
-			return Exceptions.throwIllegalArgumentException("DecimalFormat Exception!", e);
-		}
+
+		return formatter.parse(text);
 	}
-	
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.CharSequence, int, int)
+	 */
+	public Number parse(CharSequence text, int from, int to) {
+
+		return formatter.parse(text, from, to);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#tryParse(java.lang.CharSequence, int, int)
+	 */
+	public Number tryParse(CharSequence text, int from, int to) {
+
+		return formatter.tryParse(text, from, to);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#parseCents(java.lang.CharSequence)
+	 */
+	public long parseCents(CharSequence text) {
+
+		return formatter.parseCents(text);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#parseCents(java.lang.CharSequence, int, int)
+	 */
+	public long parseCents(CharSequence text, int from, int to) {
+
+		return formatter.parseCents(text, from, to);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#parseBigDecimal(java.lang.CharSequence)
+	 */
+	public BigDecimal parseBigDecimal(CharSequence text) {
+
+		return formatter.parseBigDecimal(text);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#parseBigDecimal(java.lang.CharSequence, int, int)
+	 */
+	public BigDecimal parseBigDecimal(CharSequence text, int from, int to) {
+
+		return formatter.parseBigDecimal(text, from, to);
+	}
+
 	/**
 	 * @see org.jrimum.utilix.text.Format#copy()
 	 */
-	public java.text.DecimalFormat copy(){
-		
-		return (java.text.DecimalFormat) DECIMAL_FORMAT.get().clone();
+	public java.text.DecimalFormat copy() {
+
+		return formatter.copy();
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.DecimalFormatter#getProvider()
+	 */
+	public FormatProvider<java.text.DecimalFormat> getProvider() {
+
+		return formatter.getProvider();
+	}
+
+	/**
+	 * @return formatador - O formatador compilado da constante, também
+	 *         registrado em {@linkplain FormatRegistry} com o nome da
+	 *         constante.
+	 * 
+	 * @since 0.2
+	 */
+	public DecimalFormatter getFormatter() {
+
+		return formatter;
 	}
 }
@@ -38,6 +38,10 @@ import org.jrimum.utilix.Locales;
  * DecimalFormatSymbols com localização (Processo de localização) inicialmente
  * do Brasil.
  * </p>
+ * <p>
+ * Os símbolos são criados uma única vez, em uma instância imutável da qual
+ * {@linkplain #copy()} devolve cópias.
+ * </p>
  * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
@@ -52,28 +56,24 @@ public enum DecimalFormatSymbols {
 	 */
 	BRASIL;
 
-	private final ThreadLocal<java.text.DecimalFormatSymbols> DF_SYMBOLS;
+	/**
+	 * Instância de referência, nunca alterada nem exposta: apenas clonada.
+	 */
+	private final java.text.DecimalFormatSymbols prototype;
 
 	private DecimalFormatSymbols() {
 
-		DF_SYMBOLS = new ThreadLocal<java.text.DecimalFormatSymbols>() {
-
-			protected java.text.DecimalFormatSymbols initialValue() {
-
-				java.text.DecimalFormatSymbols dfSymbols = new java.text.DecimalFormatSymbols(
-						Locales.BRASIL);
-
-				dfSymbols.setZeroDigit('0');
-				dfSymbols.setDecimalSeparator(',');
-				dfSymbols.setMonetaryDecimalSeparator(',');
-				dfSymbols.setDigit('#');
-				dfSymbols.setGroupingSeparator('.');
-				dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
+		java.text.DecimalFormatSymbols dfSymbols = new java.text.DecimalFormatSymbols(
+				Locales.BRASIL);
 
-				return dfSymbols;
-			}
+		dfSymbols.setZeroDigit('0');
+		dfSymbols.setDecimalSeparator(',');
+		dfSymbols.setMonetaryDecimalSeparator(',');
+		dfSymbols.setDigit('#');
+		dfSymbols.setGroupingSeparator('.');
+		dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
 
-		};
+		prototype = dfSymbols;
 	}
 
 	/**
@@ -88,6 +88,6 @@ public enum DecimalFormatSymbols {
 	 */
 	public java.text.DecimalFormatSymbols copy() {
 
-		return (java.text.DecimalFormatSymbols) DF_SYMBOLS.get().clone();
+		return (java.text.DecimalFormatSymbols) prototype.clone();
 	}
 }
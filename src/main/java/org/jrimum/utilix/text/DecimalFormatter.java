@@ -0,0 +1,459 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:34:31
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:34:31
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.function.Supplier;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Formatador thread-safe de números decimais compilado a partir de um padrão
+ * e de símbolos de <code>java.text.DecimalFormat</code>. Os símbolos e o codec
+ * ({@linkplain DecimalCodec}) são imutáveis e compartilhados por todas as
+ * threads.
+ * </p>
+ * <p>
+ * Inteiros, centavos ({@linkplain #formatCents(long)}) e
+ * <code>BigDecimals</code> cujo valor não escalado caiba em um
+ * <code>long</code> são formatados diretamente, com resultado idêntico ao do
+ * <code>java.text.DecimalFormat</code> do padrão; os demais valores (ex.:
+ * <code>Double</code>) são delegados a cópias deste obtidas de um
+ * {@linkplain FormatProvider}, por padrão uma por thread. A estratégia do
+ * fornecedor é definida na criação do formatador, por nome (veja
+ * {@linkplain FormatStrategy#getDefault(String)}) ou no registro (veja
+ * {@linkplain FormatRegistry#register(String, String, java.text.DecimalFormatSymbols, FormatStrategy)}),
+ * e não pode ser alterada depois.
+ * </p>
+ * <p>
+ * Instâncias são obtidas de {@linkplain DecimalFormat} (padrões pt-BR) ou de
+ * {@linkplain FormatRegistry} (padrões registrados pela aplicação).
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class DecimalFormatter implements Format<Number, java.text.DecimalFormat> {
+
+	/**
+	 * <p>
+	 * Retorno de {@linkplain #parseCents(CharSequence, int, int)} para textos
+	 * inválidos.
+	 * </p>
+	 */
+	public static final long INVALID_CENTS = DecimalCodec.INVALID;
+
+	/**
+	 * Instância de referência, nunca usada diretamente para formatar: apenas
+	 * clonada.
+	 */
+	private final java.text.DecimalFormat prototype;
+
+	private final DecimalCodec codec;
+
+	private final FormatProvider<java.text.DecimalFormat> provider;
+
+	/**
+	 * @param pattern
+	 *            - Padrão do <code>java.text.DecimalFormat</code>.
+	 * @param symbols
+	 *            - Símbolos do padrão, copiados pelo formatador.
+	 * @param strategy
+	 *            - Estratégia de fornecimento dos
+	 *            <code>java.text.DecimalFormat</code> usados pelos valores
+	 *            não tratados diretamente (ex.: <code>Double</code>).
+	 */
+	DecimalFormatter(String pattern, java.text.DecimalFormatSymbols symbols,
+			FormatStrategy strategy) {
+
+		Objects.checkNotNull(pattern, "INVALID NULL FORMAT!");
+		Objects.checkNotNull(symbols, "INVALID NULL FORMAT SYMBOLS!");
+		Objects.checkNotNull(strategy, "INVALID NULL STRATEGY!");
+
+		prototype = new java.text.DecimalFormat(pattern,
+				(java.text.DecimalFormatSymbols) symbols.clone());
+		codec = new DecimalCodec(prototype);
+		provider = newProvider(strategy);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
+	 */
+	public String format(Number obj) {
+
+		if (codec.canFormat(obj)) {
+
+			final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+			return new String(chars, 0, codec.format(obj, chars, 0));
+		}
+
+		final FormatProvider<java.text.DecimalFormat> provider = this.provider;
+		final java.text.DecimalFormat format = provider.acquire();
+
+		try {
+
+			return format.format(obj);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, char[], int)
+	 */
+	public int formatTo(Number obj, char[] dest, int offset) {
+
+		if (codec.canFormat(obj)) {
+			return codec.format(obj, dest, offset);
+		}
+
+		final String text = format(obj);
+
+		text.getChars(0, text.length(), dest, offset);
+
+		return offset + text.length();
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.StringBuilder)
+	 */
+	public StringBuilder formatTo(Number obj, StringBuilder out) {
+
+		if (codec.canFormat(obj)) {
+
+			final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+			return out.append(chars, 0, codec.format(obj, chars, 0));
+		}
+
+		return out.append(format(obj));
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#formatTo(java.lang.Object, java.lang.Appendable)
+	 */
+	public <A extends Appendable> A formatTo(Number obj, A out) throws IOException {
+
+		if (codec.canFormat(obj)) {
+
+			final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+			for (int i = 0, end = codec.format(obj, chars, 0); i < end; i++) {
+				out.append(chars[i]);
+			}
+
+		} else {
+			out.append(format(obj));
+		}
+
+		return out;
+	}
+
+	/**
+	 * <p>
+	 * Formata um valor em centavos (ex.: <code>150099</code> =&gt;
+	 * <tt>"1.500,99"</tt>), com o mesmo resultado de
+	 * <code>format(BigDecimal.valueOf(cents, 2))</code>.
+	 * </p>
+	 * 
+	 * @param cents
+	 *            - Valor em centavos.
+	 * @return valor formatado.
+	 * 
+	 * @since 0.2
+	 */
+	public String formatCents(long cents) {
+
+		final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+		return new String(chars, 0, formatCentsTo(cents, chars, 0));
+	}
+
+	/**
+	 * <p>
+	 * Formata um valor em centavos diretamente no array informado a partir da
+	 * posição <code>offset</code>, como em {@linkplain #formatCents(long)}.
+	 * </p>
+	 * 
+	 * @param cents
+	 *            - Valor em centavos.
+	 * @param dest
+	 *            - Array de destino.
+	 * @param offset
+	 *            - Posição inicial no destino.
+	 * @return posição seguinte ao último caractere escrito.
+	 * 
+	 * @since 0.2
+	 */
+	public int formatCentsTo(long cents, char[] dest, int offset) {
+
+		if (!codec.isFormatSupported()) {
+			return formatTo(BigDecimal.valueOf(cents, 2), dest, offset);
+		}
+
+		return codec.format(cents, 2, dest, offset);
+	}
+
+	/**
+	 * <p>
+	 * Formata um valor em centavos diretamente no <code>StringBuilder</code>
+	 * informado, como em {@linkplain #formatCents(long)}.
+	 * </p>
+	 * 
+	 * @param cents
+	 *            - Valor em centavos.
+	 * @param out
+	 *            - Destino do texto formatado.
+	 * @return destino - O próprio <code>out</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public StringBuilder formatCentsTo(long cents, StringBuilder out) {
+
+		final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+		return out.append(chars, 0, formatCentsTo(cents, chars, 0));
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
+	 */
+	public Number parse(String text) {
+
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#parse(java.lang.CharSequence, int, int)
+	 */
+	public Number parse(CharSequence text, int from, int to) {
+
+		final Number number = codec.parse(text, from, to);
+
+		if (number != null) {
+			return number;
+		}
+
+		final FormatProvider<java.text.DecimalFormat> provider = this.provider;
+		final java.text.DecimalFormat format = provider.acquire();
+
+		try {
+
+			return format.parse(text.subSequence(from, to).toString());
+
+		} catch (ParseException e) {
+
+			return Exceptions.throwIllegalArgumentException("DecimalFormat Exception!", e);
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#tryParse(java.lang.CharSequence, int, int)
+	 */
+	public Number tryParse(CharSequence text, int from, int to) {
+
+		final Number number = codec.parse(text, from, to);
+
+		if (number != null) {
+			return number;
+		}
+
+		final FormatProvider<java.text.DecimalFormat> provider = this.provider;
+		final java.text.DecimalFormat format = provider.acquire();
+
+		try {
+
+			return format.parse(text.subSequence(from, to).toString(),
+					new ParsePosition(0));
+
+		} finally {
+			provider.release(format);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Interpreta estritamente o texto como um valor exato em centavos (ex.:
+	 * <tt>"1.500,99"</tt> =&gt; <code>150099</code>), sem exceções nem
+	 * <code>double</code>. Veja {@linkplain #parseBigDecimal(CharSequence)}.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Valor formatado.
+	 * @return centavos ou {@linkplain #INVALID_CENTS}.
+	 * 
+	 * @since 0.2
+	 */
+	public long parseCents(CharSequence text) {
+
+		return parseCents(text, 0, text.length());
+	}
+
+	/**
+	 * <p>
+	 * Interpreta estritamente o trecho <code>[from, to)</code> de um texto
+	 * como um valor exato em centavos, como em
+	 * {@linkplain #parseCents(CharSequence)}.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto que contém o trecho.
+	 * @param from
+	 *            - Posição inicial do trecho (inclusiva).
+	 * @param to
+	 *            - Posição final do trecho (exclusiva).
+	 * @return centavos ou {@linkplain #INVALID_CENTS}, caso o trecho não esteja
+	 *         na forma estrita, tenha mais de 2 casas decimais ou não caiba em
+	 *         um <code>long</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public long parseCents(CharSequence text, int from, int to) {
+
+		return codec.parseUnscaled(text, from, to, 2);
+	}
+
+	/**
+	 * <p>
+	 * Interpreta estritamente o texto como um <code>BigDecimal</code> exato,
+	 * com escala igual à quantidade de casas decimais do texto (ex.:
+	 * <tt>"R$ 1.500,90"</tt> =&gt; <code>1500.90</code>), sem exceções nem
+	 * <code>double</code>.
+	 * </p>
+	 * <p>
+	 * Diferente de {@linkplain #parse(String)}, o texto inteiro deve estar na
+	 * forma: prefixo do padrão (ex.: <tt>"R$ "</tt> ou <tt>"-R$ "</tt>), parte
+	 * inteira sem separadores de milhar ou com todos os grupos completos
+	 * (<tt>"1500"</tt> ou <tt>"1.500"</tt>, mas não <tt>"1.50"</tt> ou
+	 * <tt>"15.00"</tt>) e, opcionalmente, o separador decimal seguido de
+	 * pelo menos um dígito.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Valor formatado.
+	 * @return número ou <code>null</code>, caso o texto não esteja na forma
+	 *         estrita.
+	 * 
+	 * @since 0.2
+	 */
+	public BigDecimal parseBigDecimal(CharSequence text) {
+
+		return parseBigDecimal(text, 0, text.length());
+	}
+
+	/**
+	 * <p>
+	 * Interpreta estritamente o trecho <code>[from, to)</code> de um texto
+	 * como um <code>BigDecimal</code> exato, como em
+	 * {@linkplain #parseBigDecimal(CharSequence)}.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto que contém o trecho.
+	 * @param from
+	 *            - Posição inicial do trecho (inclusiva).
+	 * @param to
+	 *            - Posição final do trecho (exclusiva).
+	 * @return número ou <code>null</code>, caso o trecho não esteja na forma
+	 *         estrita.
+	 * 
+	 * @since 0.2
+	 */
+	public BigDecimal parseBigDecimal(CharSequence text, int from, int to) {
+
+		return codec.parseBigDecimal(text, from, to);
+	}
+
+	/**
+	 * @see org.jrimum.utilix.text.Format#copy()
+	 */
+	public java.text.DecimalFormat copy() {
+
+		return (java.text.DecimalFormat) prototype.clone();
+	}
+
+	/**
+	 * @return fornecedor - Fornecedor dos
+	 *         <code>java.text.DecimalFormat</code>, com a estratégia e as
+	 *         estatísticas de contenção.
+	 * 
+	 * @since 0.2
+	 */
+	public FormatProvider<java.text.DecimalFormat> getProvider() {
+
+		return provider;
+	}
+
+	/**
+	 * @return padrão - O padrão do <code>java.text.DecimalFormat</code>
+	 *         equivalente.
+	 */
+	public String getPattern() {
+
+		return prototype.toPattern();
+	}
+
+	/**
+	 * @return símbolos - Cópia dos símbolos do formatador.
+	 */
+	public java.text.DecimalFormatSymbols getSymbols() {
+
+		return prototype.getDecimalFormatSymbols();
+	}
+
+	@Override
+	public String toString() {
+
+		return "DecimalFormatter[" + getPattern() + "]";
+	}
+
+	private FormatProvider<java.text.DecimalFormat> newProvider(
+			FormatStrategy strategy) {
+
+		return strategy.newProvider(new Supplier<java.text.DecimalFormat>() {
+
+			public java.text.DecimalFormat get() {
+
+				return (java.text.DecimalFormat) prototype.clone();
+			}
+		});
+	}
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:59:55
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:59:55
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.util.BitSet;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Validação estrita de dígitos ASCII (<code>'0'</code> a <code>'9'</code>),
+ * diferente de {@linkplain Strings#checkNotNumeric(String)} que aceita
+ * qualquer dígito Unicode.
+ * </p>
+ * <p>
+ * A validação é feita por palavra (SWAR): 8 bytes ou 4 caracteres são
+ * agrupados em um <code>long</code> e verificados de uma só vez com aritmética
+ * de inteiros. Os métodos de lote validam uma coluna (campo de tamanho fixo)
+ * de vários registros e devolvem os registros inválidos em um
+ * <code>BitSet</code>, ao invés de lançar uma exceção por registro.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class Digits {
+
+	/*
+	 * Para cada faixa (byte ou char) b, com bit mais significativo h:
+	 * 
+	 * - b + (h - 0x3A) liga h se b > '9';
+	 * 
+	 * - b - 0x30 liga h (empréstimo) se b < '0';
+	 * 
+	 * - b liga h se b já estiver fora da faixa ASCII.
+	 * 
+	 * Vai-um e empréstimo entre faixas só ocorrem a partir de uma faixa que já
+	 * é inválida, logo o resultado da palavra como um todo é exato.
+	 */
+
+	private static final long BYTES_HIGH = 0x8080808080808080L;
+
+	private static final long BYTES_ADD = 0x4646464646464646L;
+
+	private static final long BYTES_SUB = 0x3030303030303030L;
+
+	private static final long CHARS_HIGH = 0x8000800080008000L;
+
+	private static final long CHARS_ADD = 0x7FC67FC67FC67FC6L;
+
+	private static final long CHARS_SUB = 0x0030003000300030L;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private Digits() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	/**
+	 * <p>
+	 * Verifica se o trecho é não vazio e composto somente por dígitos ASCII.
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Bytes analisados.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * @return <code>true</code> se o trecho é numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isDigits(byte[] bytes, int offset, int length) {
+
+		return TextKernels.KERNEL.isDigits(bytes, offset, length);
+	}
+
+	/**
+	 * Implementação escalar (SWAR) de
+	 * {@linkplain #isDigits(byte[], int, int)}, usada pelos kernels de texto.
+	 */
+	static boolean isDigitsScalar(byte[] bytes, int offset, int length) {
+
+		if (length <= 0) {
+			return false;
+		}
+
+		final int end = offset + length;
+
+		int i = offset;
+
+		for (; i + 8 <= end; i += 8) {
+
+			final long word = (bytes[i] & 0xFFL)
+					| (bytes[i + 1] & 0xFFL) << 8
+					| (bytes[i + 2] & 0xFFL) << 16
+					| (bytes[i + 3] & 0xFFL) << 24
+					| (bytes[i + 4] & 0xFFL) << 32
+					| (bytes[i + 5] & 0xFFL) << 40
+					| (bytes[i + 6] & 0xFFL) << 48
+					| (bytes[i + 7] & 0xFFL) << 56;
+
+			if (((word + BYTES_ADD | word - BYTES_SUB | word) & BYTES_HIGH) != 0) {
+				return false;
+			}
+		}
+
+		for (; i < end; i++) {
+			if (bytes[i] < '0' || bytes[i] > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Verifica se o trecho é não vazio e composto somente por dígitos ASCII.
+	 * </p>
+	 * 
+	 * @param chars
+	 *            - Caracteres analisados.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de caracteres do trecho.
+	 * @return <code>true</code> se o trecho é numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isDigits(char[] chars, int offset, int length) {
+
+		return TextKernels.KERNEL.isDigits(chars, offset, length);
+	}
+
+	/**
+	 * Implementação escalar (SWAR) de
+	 * {@linkplain #isDigits(char[], int, int)}, usada pelos kernels de texto.
+	 */
+	static boolean isDigitsScalar(char[] chars, int offset, int length) {
+
+		if (length <= 0) {
+			return false;
+		}
+
+		final int end = offset + length;
+
+		int i = offset;
+
+		for (; i + 8 <= end; i += 8) {
+
+			final long low = chars[i]
+					| (long) chars[i + 1] << 16
+					| (long) chars[i + 2] << 32
+					| (long) chars[i + 3] << 48;
+
+			final long high = chars[i + 4]
+					| (long) chars[i + 5] << 16
+					| (long) chars[i + 6] << 32
+					| (long) chars[i + 7] << 48;
+
+			if (((low + CHARS_ADD | low - CHARS_SUB | low
+					| high + CHARS_ADD | high - CHARS_SUB | high) & CHARS_HIGH) != 0) {
+				return false;
+			}
+		}
+
+		for (; i < end; i++) {
+			if (chars[i] < '0' || chars[i] > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Verifica se o trecho <code>[from, to)</code> é não vazio e composto
+	 * somente por dígitos ASCII.
+	 * </p>
+	 * 
+	 * @param seq
+	 *            - Sequência analisada.
+	 * @param from
+	 *            - Posição inicial (inclusiva).
+	 * @param to
+	 *            - Posição final (exclusiva).
+	 * @return <code>true</code> se o trecho é numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isDigits(CharSequence seq, int from, int to) {
+
+		if (from >= to) {
+			return false;
+		}
+
+		int i = from;
+
+		for (; i + 4 <= to; i += 4) {
+
+			final long word = seq.charAt(i)
+					| (long) seq.charAt(i + 1) << 16
+					| (long) seq.charAt(i + 2) << 32
+					| (long) seq.charAt(i + 3) << 48;
+
+			if (((word + CHARS_ADD | word - CHARS_SUB | word) & CHARS_HIGH) != 0) {
+				return false;
+			}
+		}
+
+		for (; i < to; i++) {
+
+			final char c = seq.charAt(i);
+
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Verifica se a sequência inteira é não vazia e composta somente por
+	 * dígitos ASCII.
+	 * </p>
+	 * 
+	 * @param seq
+	 *            - Sequência analisada, pode ser <code>null</code>.
+	 * @return <code>true</code> se a sequência é numérica.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isDigits(CharSequence seq) {
+
+		return seq != null && isDigits(seq, 0, seq.length());
+	}
+
+	/**
+	 * <p>
+	 * Valida uma coluna numérica de registros de tamanho fixo armazenados
+	 * consecutivamente em um array de bytes (ex.: arquivo de retorno
+	 * carregado em memória, sem os separadores de linha).
+	 * </p>
+	 * 
+	 * @param records
+	 *            - Bytes dos registros.
+	 * @param offset
+	 *            - Posição do primeiro registro.
+	 * @param recordLength
+	 *            - Tamanho de cada registro, incluindo eventuais separadores.
+	 * @param recordCount
+	 *            - Quantidade de registros.
+	 * @param fieldOffset
+	 *            - Posição do campo dentro do registro.
+	 * @param fieldLength
+	 *            - Tamanho do campo.
+	 * @return registros inválidos - Índices (a partir de zero) dos registros
+	 *         cujo campo não é numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static BitSet findNotDigits(byte[] records, int offset,
+			int recordLength, int recordCount, int fieldOffset, int fieldLength) {
+
+		final BitSet invalid = new BitSet(recordCount);
+
+		for (int row = 0, pos = offset + fieldOffset; row < recordCount; row++, pos += recordLength) {
+
+			if (!isDigits(records, pos, fieldLength)) {
+				invalid.set(row);
+			}
+		}
+
+		return invalid;
+	}
+
+	/**
+	 * <p>
+	 * Valida uma coluna numérica de registros de tamanho fixo. Registros
+	 * <code>null</code> ou menores que o campo são considerados inválidos.
+	 * </p>
+	 * 
+	 * @param records
+	 *            - Registros (linhas).
+	 * @param fieldOffset
+	 *            - Posição do campo dentro do registro.
+	 * @param fieldLength
+	 *            - Tamanho do campo.
+	 * @return registros inválidos - Índices dos registros cujo campo não é
+	 *         numérico.
+	 * 
+	 * @since 0.2
+	 */
+	public static BitSet findNotDigits(CharSequence[] records,
+			int fieldOffset, int fieldLength) {
+
+		final BitSet invalid = new BitSet(records.length);
+		final int fieldEnd = fieldOffset + fieldLength;
+
+		for (int row = 0; row < records.length; row++) {
+
+			final CharSequence record = records[row];
+
+			if (record == null || record.length() < fieldEnd
+					|| !isDigits(record, fieldOffset, fieldEnd)) {
+				invalid.set(row);
+			}
+		}
+
+		return invalid;
+	}
+}
@@ -29,6 +29,8 @@
 
 package org.jrimum.utilix.text;
 
+import java.io.IOException;
+
 /**
  * <p>
  * Interface usada para objetos formatadores utilizados em leitura e escrita de
@@ -54,6 +56,80 @@ public interface Format<T, F extends java.text.Format> {
 	 */
 	String format(T obj);
 
+	/**
+	 * <p>
+	 * Formata um dado objeto diretamente no array informado a partir da
+	 * posição <code>offset</code> (ex.: em uma linha de tamanho fixo).
+	 * </p>
+	 * <p>
+	 * A implementação padrão copia o resultado de {@linkplain #format(Object)};
+	 * as implementações do pacote escrevem os caracteres sem criar
+	 * <code>Strings</code> intermediárias.
+	 * </p>
+	 * 
+	 * @param obj
+	 *            - Objeto a ser formatado.
+	 * @param dest
+	 *            - Array de destino.
+	 * @param offset
+	 *            - Posição inicial no destino.
+	 * @return posição seguinte ao último caractere escrito.
+	 * 
+	 * @since 0.2
+	 */
+	default int formatTo(T obj, char[] dest, int offset) {
+
+		final String text = format(obj);
+
+		text.getChars(0, text.length(), dest, offset);
+
+		return offset + text.length();
+	}
+
+	/**
+	 * <p>
+	 * Formata um dado objeto diretamente no <code>StringBuilder</code>
+	 * informado, com as mesmas regras de
+	 * {@linkplain #formatTo(Object, char[], int)}.
+	 * </p>
+	 * 
+	 * @param obj
+	 *            - Objeto a ser formatado.
+	 * @param out
+	 *            - Destino do texto formatado.
+	 * @return destino - O próprio <code>out</code>.
+	 * 
+	 * @since 0.2
+	 */
+	default StringBuilder formatTo(T obj, StringBuilder out) {
+
+		return out.append(format(obj));
+	}
+
+	/**
+	 * <p>
+	 * Formata um dado objeto diretamente no destino informado, com as mesmas
+	 * regras de {@linkplain #formatTo(Object, char[], int)}.
+	 * </p>
+	 * 
+	 * @param obj
+	 *            - Objeto a ser formatado.
+	 * @param out
+	 *            - Destino do texto formatado.
+	 * @return destino - O próprio <code>out</code>.
+	 * 
+	 * @throws IOException
+	 *             Caso ocorra algum erro de escrita no destino.
+	 * 
+	 * @since 0.2
+	 */
+	default <A extends Appendable> A formatTo(T obj, A out) throws IOException {
+
+		out.append(format(obj));
+
+		return out;
+	}
+
 	/**
 	 * <p>
 	 * Transforma uma string formatada em um objeto correspondente.
@@ -65,6 +141,63 @@ public interface Format<T, F extends java.text.Format> {
 	 */
 	T parse(String text);
 
+	/**
+	 * <p>
+	 * Transforma o trecho <code>[from, to)</code> de um texto (ex.: um campo
+	 * de uma linha de tamanho fixo) em um objeto correspondente, com as mesmas
+	 * regras de {@linkplain #parse(String)}.
+	 * </p>
+	 * <p>
+	 * A implementação padrão extrai o trecho como <code>String</code>; as
+	 * implementações do pacote interpretam o trecho diretamente.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto que contém o trecho.
+	 * @param from
+	 *            - Posição inicial do trecho (inclusiva).
+	 * @param to
+	 *            - Posição final do trecho (exclusiva).
+	 * @return objeto - Resultado da transformação do trecho.
+	 * 
+	 * @since 0.2
+	 */
+	default T parse(CharSequence text, int from, int to) {
+
+		return parse(text.subSequence(from, to).toString());
+	}
+
+	/**
+	 * <p>
+	 * Versão de {@linkplain #parse(CharSequence, int, int)} sem exceções para
+	 * textos inválidos: assim como em
+	 * <code>java.text.Format.parseObject(String, ParsePosition)</code>, o
+	 * valor <code>null</code> indica que o trecho não pôde ser transformado.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto que contém o trecho.
+	 * @param from
+	 *            - Posição inicial do trecho (inclusiva).
+	 * @param to
+	 *            - Posição final do trecho (exclusiva).
+	 * @return objeto - Resultado da transformação do trecho ou
+	 *         <code>null</code>.
+	 * 
+	 * @since 0.2
+	 */
+	default T tryParse(CharSequence text, int from, int to) {
+
+		try {
+
+			return parse(text, from, to);
+
+		} catch (IllegalArgumentException e) {
+
+			return null;
+		}
+	}
+
 	/**
 	 * <p>
 	 * Devolve uma cópia do formatador utilizado pela instância.
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:31:17
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:31:17
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Fornecedor thread-safe de formatadores não thread-safe (ex.:
+ * <code>java.text.DecimalFormat</code>), segundo uma
+ * {@linkplain FormatStrategy}. Cada uso deve obter uma instância com
+ * {@linkplain #acquire()} e devolvê-la, na mesma thread, com
+ * {@linkplain #release(Object)}:
+ * </p>
+ * 
+ * <pre>
+ * final java.text.DecimalFormat format = provider.acquire();
+ * try {
+ * 	return format.format(value);
+ * } finally {
+ * 	provider.release(format);
+ * }
+ * </pre>
+ * <p>
+ * Usos aninhados (duas instâncias obtidas ao mesmo tempo pela mesma thread)
+ * não são suportados: na estratégia {@linkplain FormatStrategy#STRIPED}
+ * lançam <code>IllegalStateException</code>, em vez de devolver a instância
+ * já em uso. As estatísticas permitem avaliar a contenção de cada
+ * estratégia: instâncias criadas, obtenções sob contenção (pool vazio ou
+ * faixa ocupada) e instâncias descartadas (pool cheio).
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public abstract class FormatProvider<F> {
+
+	private final Supplier<F> factory;
+
+	private final AtomicLong created = new AtomicLong();
+
+	private final AtomicLong contended = new AtomicLong();
+
+	private final AtomicLong discarded = new AtomicLong();
+
+	private FormatProvider(Supplier<F> factory) {
+
+		Objects.checkNotNull(factory, "INVALID NULL FACTORY!");
+
+		this.factory = factory;
+	}
+
+	/**
+	 * <p>
+	 * Cria um fornecedor com uma instância por thread.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            - Criador das instâncias do formatador.
+	 * @return fornecedor - Estratégia {@linkplain FormatStrategy#THREAD_LOCAL}
+	 *         .
+	 * 
+	 * @since 0.2
+	 */
+	public static <F> FormatProvider<F> newThreadLocal(Supplier<F> factory) {
+
+		return new ThreadLocalProvider<F>(factory);
+	}
+
+	/**
+	 * <p>
+	 * Cria um fornecedor com um pool limitado e sem bloqueio.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            - Criador das instâncias do formatador.
+	 * @param capacity
+	 *            - Quantidade máxima de instâncias mantidas no pool. Sob
+	 *            contenção, instâncias adicionais são criadas e descartadas na
+	 *            devolução.
+	 * @return fornecedor - Estratégia {@linkplain FormatStrategy#POOL}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a capacidade não seja positiva.
+	 * 
+	 * @since 0.2
+	 */
+	public static <F> FormatProvider<F> newPool(Supplier<F> factory,
+			int capacity) {
+
+		return new PoolProvider<F>(factory, capacity);
+	}
+
+	/**
+	 * <p>
+	 * Cria um fornecedor com uma instância por faixa. A faixa é escolhida
+	 * por um hash do identificador da thread, e não pelo processador em que
+	 * ela executa: threads distintas podem cair na mesma faixa e aguardar uma
+	 * pela outra.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            - Criador das instâncias do formatador.
+	 * @param stripes
+	 *            - Quantidade de faixas (e de instâncias), arredondada para a
+	 *            próxima potência de dois.
+	 * @return fornecedor - Estratégia {@linkplain FormatStrategy#STRIPED}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a quantidade de faixas não seja positiva.
+	 * 
+	 * @since 0.2
+	 */
+	public static <F> FormatProvider<F> newStriped(Supplier<F> factory,
+			int stripes) {
+
+		return new StripedProvider<F>(factory, stripes);
+	}
+
+	/**
+	 * <p>
+	 * Obtém uma instância para uso exclusivo da thread até
+	 * {@linkplain #release(Object)}.
+	 * </p>
+	 * 
+	 * @return formatador
+	 * 
+	 * @since 0.2
+	 */
+	public abstract F acquire();
+
+	/**
+	 * <p>
+	 * Devolve uma instância obtida por {@linkplain #acquire()} na mesma
+	 * thread.
+	 * </p>
+	 * 
+	 * @param format
+	 *            - Formatador obtido.
+	 * 
+	 * @since 0.2
+	 */
+	public abstract void release(F format);
+
+	/**
+	 * @return estratégia - Estratégia do fornecedor.
+	 */
+	public abstract FormatStrategy getStrategy();
+
+	/**
+	 * @return instâncias criadas - Quantidade de formatadores criados.
+	 */
+	public long getCreated() {
+
+		return created.get();
+	}
+
+	/**
+	 * @return contenções - Quantidade de obtenções que não encontraram
+	 *         instância livre: pool vazio (inclusive no aquecimento) ou faixa
+	 *         ocupada por outra thread.
+	 */
+	public long getContended() {
+
+		return contended.get();
+	}
+
+	/**
+	 * @return descartes - Quantidade de instâncias devolvidas com o pool
+	 *         cheio.
+	 */
+	public long getDiscarded() {
+
+		return discarded.get();
+	}
+
+	@Override
+	public String toString() {
+
+		return "FormatProvider[" + getStrategy() + ", created="
+				+ getCreated() + ", contended=" + getContended()
+				+ ", discarded=" + getDiscarded() + "]";
+	}
+
+	F create() {
+
+		created.incrementAndGet();
+
+		return factory.get();
+	}
+
+	/**
+	 * Hash do identificador da thread atual, usado como índice de faixa.
+	 */
+	static int probe() {
+
+		int h = (int) Thread.currentThread().getId();
+
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+
+		return h;
+	}
+
+	private static int powerOfTwo(int size, String name) {
+
+		if (size <= 0 || size > (1 << 30)) {
+			Exceptions.throwIllegalArgumentException(name + " inválida: "
+					+ size);
+		}
+
+		return Integer.highestOneBit(size) == size ? size : Integer
+				.highestOneBit(size) << 1;
+	}
+
+	private static final class ThreadLocalProvider<F> extends
+			FormatProvider<F> {
+
+		private final ThreadLocal<F> instances = new ThreadLocal<F>() {
+
+			@Override
+			protected F initialValue() {
+
+				return create();
+			}
+		};
+
+		ThreadLocalProvider(Supplier<F> factory) {
+
+			super(factory);
+		}
+
+		@Override
+		public F acquire() {
+
+			return instances.get();
+		}
+
+		@Override
+		public void release(F format) {
+
+			// A instância permanece com a thread.
+		}
+
+		@Override
+		public FormatStrategy getStrategy() {
+
+			return FormatStrategy.THREAD_LOCAL;
+		}
+	}
+
+	private static final class PoolProvider<F> extends FormatProvider<F> {
+
+		private final AtomicReferenceArray<F> slots;
+
+		private final int mask;
+
+		PoolProvider(Supplier<F> factory, int capacity) {
+
+			super(factory);
+
+			final int size = powerOfTwo(capacity, "Capacidade");
+
+			this.slots = new AtomicReferenceArray<F>(size);
+			this.mask = size - 1;
+		}
+
+		@Override
+		public F acquire() {
+
+			final int start = probe();
+
+			for (int i = 0; i <= mask; i++) {
+
+				final int index = (start + i) & mask;
+				final F format = slots.get(index);
+
+				if (format != null && slots.compareAndSet(index, format, null)) {
+					return format;
+				}
+			}
+
+			super.contended.incrementAndGet();
+
+			return create();
+		}
+
+		@Override
+		public void release(F format) {
+
+			final int start = probe();
+
+			for (int i = 0; i <= mask; i++) {
+
+				final int index = (start + i) & mask;
+
+				if (slots.get(index) == null
+						&& slots.compareAndSet(index, null, format)) {
+					return;
+				}
+			}
+
+			super.discarded.incrementAndGet();
+		}
+
+		@Override
+		public FormatStrategy getStrategy() {
+
+			return FormatStrategy.POOL;
+		}
+	}
+
+	private static final class StripedProvider<F> extends FormatProvider<F> {
+
+		private final Object[] instances;
+
+		private final ReentrantLock[] locks;
+
+		private final int mask;
+
+		StripedProvider(Supplier<F> factory, int stripes) {
+
+			super(factory);
+
+			final int size = powerOfTwo(stripes, "Quantidade de faixas");
+
+			this.instances = new Object[size];
+			this.locks = new ReentrantLock[size];
+			this.mask = size - 1;
+
+			for (int i = 0; i < size; i++) {
+				locks[i] = new ReentrantLock();
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public F acquire() {
+
+			final int stripe = probe() & mask;
+			final ReentrantLock lock = locks[stripe];
+
+			if (lock.isHeldByCurrentThread()) {
+				Exceptions.throwIllegalStateException(
+						"Faixa já em uso pela thread atual: uso aninhado não suportado!");
+			}
+
+			if (!lock.tryLock()) {
+				super.contended.incrementAndGet();
+				lock.lock();
+			}
+
+			// Criada sob o bloqueio da faixa, que também a publica.
+			if (instances[stripe] == null) {
+				instances[stripe] = create();
+			}
+
+			return (F) instances[stripe];
+		}
+
+		@Override
+		public void release(F format) {
+
+			locks[probe() & mask].unlock();
+		}
+
+		@Override
+		public FormatStrategy getStrategy() {
+
+			return FormatStrategy.STRIPED;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:34:31
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:34:31
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Registro, por nome, dos formatadores decimais usados pela aplicação (ex.:
+ * pt-PT, en-US para remessas internacionais, prefixos de moeda próprios). Cada
+ * registro é compilado uma única vez em um {@linkplain DecimalFormatter}
+ * imutável e compartilhado por todas as threads, e a consulta por nome é feita
+ * em tempo constante, dispensando a criação de
+ * <code>java.text.DecimalFormat</code> a cada uso.
+ * </p>
+ * <p>
+ * As constantes de {@linkplain DecimalFormat} já estão registradas com os
+ * seus nomes (ex.: <tt>"MONEY_DD_BR"</tt>) e não podem ser substituídas nem
+ * removidas.
+ * </p>
+ * 
+ * <pre>
+ * FormatRegistry.register(&quot;USD&quot;, &quot;'US$ '#,##0.00&quot;, Locale.US);
+ * ...
+ * FormatRegistry.get(&quot;USD&quot;).format(valor) =&gt; &quot;US$ 1,500.99&quot;
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class FormatRegistry {
+
+	private static final ConcurrentMap<String, DecimalFormatter> FORMATTERS = new ConcurrentHashMap<String, DecimalFormatter>();
+
+	static {
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+			FORMATTERS.put(format.name(), format.getFormatter());
+		}
+	}
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private FormatRegistry() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	/**
+	 * <p>
+	 * Registra um formatador com os símbolos padrão da localização informada.
+	 * </p>
+	 * 
+	 * @param name
+	 *            - Nome do formatador.
+	 * @param pattern
+	 *            - Padrão do <code>java.text.DecimalFormat</code>.
+	 * @param locale
+	 *            - Localização dos símbolos (separadores, moeda etc.).
+	 * @return formatador - O formatador registrado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum parâmetro seja <code>null</code>, o padrão seja
+	 *             inválido ou o nome já esteja registrado com outra definição.
+	 * 
+	 * @see #register(String, String, java.text.DecimalFormatSymbols)
+	 * 
+	 * @since 0.2
+	 */
+	public static DecimalFormatter register(String name, String pattern,
+			Locale locale) {
+
+		Objects.checkNotNull(locale, "INVALID NULL LOCALE!");
+
+		return register(name, pattern, java.text.DecimalFormatSymbols
+				.getInstance(locale));
+	}
+
+	/**
+	 * <p>
+	 * Registra um formatador com os símbolos informados, que são copiados no
+	 * registro, e a estratégia {@linkplain FormatStrategy#getDefault(String)}
+	 * do nome.
+	 * </p>
+	 * 
+	 * @param name
+	 *            - Nome do formatador.
+	 * @param pattern
+	 *            - Padrão do <code>java.text.DecimalFormat</code>.
+	 * @param symbols
+	 *            - Símbolos (separadores, moeda etc.).
+	 * @return formatador - O formatador registrado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum parâmetro seja <code>null</code>, o padrão seja
+	 *             inválido ou o nome já esteja registrado com outra definição.
+	 * 
+	 * @see #register(String, String, java.text.DecimalFormatSymbols, FormatStrategy)
+	 * 
+	 * @since 0.2
+	 */
+	public static DecimalFormatter register(String name, String pattern,
+			java.text.DecimalFormatSymbols symbols) {
+
+		return register(name, pattern, symbols, FormatStrategy.getDefault(name));
+	}
+
+	/**
+	 * <p>
+	 * Registra um formatador com os símbolos informados, que são copiados no
+	 * registro, e a estratégia de fornecimento dos
+	 * <code>java.text.DecimalFormat</code> usados pelos valores não tratados
+	 * diretamente (ex.: <code>Double</code>), fixa durante toda a vida do
+	 * formatador. Registrar novamente um nome com a mesma definição (padrão,
+	 * símbolos e estratégia) devolve o formatador já registrado.
+	 * </p>
+	 * 
+	 * @param name
+	 *            - Nome do formatador.
+	 * @param pattern
+	 *            - Padrão do <code>java.text.DecimalFormat</code>.
+	 * @param symbols
+	 *            - Símbolos (separadores, moeda etc.).
+	 * @param strategy
+	 *            - Estratégia do fornecedor de formatadores.
+	 * @return formatador - O formatador registrado.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso algum parâmetro seja <code>null</code>, o padrão seja
+	 *             inválido ou o nome já esteja registrado com outra definição.
+	 * 
+	 * @since 0.2
+	 */
+	public static DecimalFormatter register(String name, String pattern,
+			java.text.DecimalFormatSymbols symbols, FormatStrategy strategy) {
+
+		Objects.checkNotNull(name, "INVALID NULL NAME!");
+
+		final DecimalFormatter formatter = new DecimalFormatter(pattern,
+				symbols, strategy);
+		final DecimalFormatter registered = FORMATTERS.putIfAbsent(name,
+				formatter);
+
+		if (registered == null) {
+			return formatter;
+		}
+
+		if (!registered.getPattern().equals(formatter.getPattern())
+				|| !registered.getSymbols().equals(formatter.getSymbols())
+				|| registered.getProvider().getStrategy() != strategy) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Formato [\"%s\"] já registrado com outra definição: %s",
+					name, registered));
+		}
+
+		return registered;
+	}
+
+	/**
+	 * <p>
+	 * Obtém o formatador registrado com o nome informado.
+	 * </p>
+	 * 
+	 * @param name
+	 *            - Nome do formatador.
+	 * @return formatador
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso não haja formatador registrado com o nome.
+	 * 
+	 * @since 0.2
+	 */
+	public static DecimalFormatter get(String name) {
+
+		Objects.checkNotNull(name, "INVALID NULL NAME!");
+
+		final DecimalFormatter formatter = FORMATTERS.get(name);
+
+		if (formatter == null) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Formato [\"%s\"] não registrado!", name));
+		}
+
+		return formatter;
+	}
+
+	/**
+	 * @param name
+	 *            - Nome do formatador.
+	 * @return <code>true</code> se há formatador registrado com o nome.
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean contains(String name) {
+
+		return name != null && FORMATTERS.containsKey(name);
+	}
+
+	/**
+	 * <p>
+	 * Remove o formatador registrado com o nome informado.
+	 * </p>
+	 * 
+	 * @param name
+	 *            - Nome do formatador.
+	 * @return formatador removido ou <code>null</code>, caso não haja.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o nome seja de uma constante de
+	 *             {@linkplain DecimalFormat}.
+	 * 
+	 * @since 0.2
+	 */
+	public static DecimalFormatter unregister(String name) {
+
+		Objects.checkNotNull(name, "INVALID NULL NAME!");
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+			if (format.name().equals(name)) {
+				Exceptions.throwIllegalArgumentException(String.format(
+						"Formato [\"%s\"] não pode ser removido!", name));
+			}
+		}
+
+		return FORMATTERS.remove(name);
+	}
+
+	/**
+	 * @return nomes - Nomes registrados (visão não modificável).
+	 * 
+	 * @since 0.2
+	 */
+	public static Set<String> names() {
+
+		return Collections.unmodifiableSet(FORMATTERS.keySet());
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:31:17
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:31:17
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Estratégias de fornecimento de formatadores não thread-safe (ex.:
+ * <code>java.text.DecimalFormat</code>) por um {@linkplain FormatProvider}.
+ * </p>
+ * <p>
+ * A estratégia padrão é {@linkplain #THREAD_LOCAL}, e pode ser alterada pela
+ * propriedade de sistema <code>org.jrimum.utilix.text.provider</code> (ex.:
+ * <code>-Dorg.jrimum.utilix.text.provider=POOL</code>). Cada formatador pode
+ * ter a sua própria estratégia: as constantes de {@linkplain DecimalFormat} e
+ * os formatadores registrados sem estratégia explícita consultam antes a
+ * propriedade com o sufixo do seu nome (ex.:
+ * <code>-Dorg.jrimum.utilix.text.provider.MONEY_DD_BR=STRIPED</code>), e os
+ * demais a recebem no registro (veja
+ * {@linkplain FormatRegistry#register(String, String, java.text.DecimalFormatSymbols, FormatStrategy)}).
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public enum FormatStrategy {
+
+	/**
+	 * <p>
+	 * Uma instância por thread, mantida em um <code>ThreadLocal</code>. É o
+	 * acesso mais rápido, mas cria uma instância (e uma entrada no mapa de
+	 * <code>ThreadLocals</code>) por thread que usa o formatador.
+	 * </p>
+	 */
+	THREAD_LOCAL {
+
+		@Override
+		public <F> FormatProvider<F> newProvider(Supplier<F> factory) {
+
+			return FormatProvider.newThreadLocal(factory);
+		}
+	},
+
+	/**
+	 * <p>
+	 * Pool limitado e sem bloqueio com até o dobro de instâncias do número de
+	 * processadores: indicado para threads virtuais ou grandes pools de
+	 * threads.
+	 * </p>
+	 */
+	POOL {
+
+		@Override
+		public <F> FormatProvider<F> newProvider(Supplier<F> factory) {
+
+			return FormatProvider.newPool(factory, 2 * PROCESSORS);
+		}
+	},
+
+	/**
+	 * <p>
+	 * Uma instância por faixa, com tantas faixas quanto processadores, usada
+	 * com exclusão mútua pelas threads da faixa: a quantidade de instâncias é
+	 * fixa e nunca há criação sob contenção. A faixa é escolhida por um hash
+	 * do identificador da thread, e não pelo processador em uso, de modo que
+	 * threads distintas podem disputar a mesma faixa. Usos aninhados pela
+	 * mesma thread lançam <code>IllegalStateException</code>.
+	 * </p>
+	 */
+	STRIPED {
+
+		@Override
+		public <F> FormatProvider<F> newProvider(Supplier<F> factory) {
+
+			return FormatProvider.newStriped(factory, PROCESSORS);
+		}
+	};
+
+	/**
+	 * Propriedade de sistema para escolha da estratégia padrão. Seguida de
+	 * <code>"." + nome</code>, escolhe a estratégia de um único formatador.
+	 */
+	public static final String STRATEGY_PROPERTY = "org.jrimum.utilix.text.provider";
+
+	private static final int PROCESSORS = Runtime.getRuntime()
+			.availableProcessors();
+
+	/**
+	 * <p>
+	 * Cria um fornecedor de formatadores com esta estratégia.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            - Criador das instâncias do formatador.
+	 * @return fornecedor - Nova instância.
+	 * 
+	 * @since 0.2
+	 */
+	public abstract <F> FormatProvider<F> newProvider(Supplier<F> factory);
+
+	/**
+	 * <p>
+	 * Estratégia indicada pela propriedade de sistema
+	 * {@linkplain #STRATEGY_PROPERTY} ou, caso não haja (ou seja inválida),
+	 * {@linkplain #THREAD_LOCAL}.
+	 * </p>
+	 * 
+	 * @return estratégia padrão.
+	 * 
+	 * @since 0.2
+	 */
+	public static FormatStrategy getDefault() {
+
+		return fromProperty(STRATEGY_PROPERTY, THREAD_LOCAL);
+	}
+
+	/**
+	 * <p>
+	 * Estratégia do formatador com o nome informado, indicada pela propriedade
+	 * de sistema <code>{@linkplain #STRATEGY_PROPERTY} + "." + formatName</code>
+	 * (ex.: <code>org.jrimum.utilix.text.provider.MONEY_DD_BR</code>) ou, caso
+	 * não haja (ou seja inválida), {@linkplain #getDefault()}.
+	 * </p>
+	 * 
+	 * @param formatName
+	 *            - Nome do formatador (ex.: nome da constante de
+	 *            {@linkplain DecimalFormat}).
+	 * @return estratégia do formatador.
+	 * 
+	 * @since 0.2
+	 */
+	public static FormatStrategy getDefault(String formatName) {
+
+		return fromProperty(STRATEGY_PROPERTY + "." + formatName, getDefault());
+	}
+
+	private static FormatStrategy fromProperty(String property,
+			FormatStrategy fallback) {
+
+		final String name = System.getProperty(property);
+
+		for (FormatStrategy strategy : values()) {
+			if (strategy.name().equalsIgnoreCase(name)) {
+				return strategy;
+			}
+		}
+
+		return fallback;
+	}
+}
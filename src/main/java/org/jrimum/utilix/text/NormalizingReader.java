@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:53:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:53:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * <code>Reader</code> que normaliza os caracteres à medida que são lidos,
+ * segundo um {@linkplain TextNormalizer}. Permite sanitizar arquivos de
+ * qualquer tamanho com memória constante.
+ * </p>
+ * <p>
+ * A leitura em bloco normaliza diretamente o buffer do chamador, sem cópias
+ * intermediárias. Marcação (<code>mark/reset</code>) não é suportada.
+ * </p>
+ * 
+ * <pre>
+ * Reader reader = new NormalizingReader(new FileReader(remessa));
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class NormalizingReader extends FilterReader {
+
+	private static final int SKIP_BUFFER_SIZE = 512;
+
+	private final TextNormalizer normalizer;
+
+	/**
+	 * <p>
+	 * Cria um leitor com o normalizador {@linkplain TextNormalizer#DEFAULT}.
+	 * </p>
+	 * 
+	 * @param in
+	 *            - Leitor original.
+	 */
+	public NormalizingReader(Reader in) {
+
+		this(in, TextNormalizer.DEFAULT);
+	}
+
+	/**
+	 * <p>
+	 * Cria um leitor com o normalizador informado.
+	 * </p>
+	 * 
+	 * @param in
+	 *            - Leitor original.
+	 * @param normalizer
+	 *            - Normalizador aplicado aos caracteres lidos.
+	 */
+	public NormalizingReader(Reader in, TextNormalizer normalizer) {
+
+		super(in);
+
+		Objects.checkNotNull(normalizer, "INVALID NULL NORMALIZER!");
+
+		this.normalizer = normalizer;
+	}
+
+	@Override
+	public int read() throws IOException {
+
+		synchronized (lock) {
+
+			int c;
+
+			do {
+
+				c = in.read();
+
+				if (c < 0) {
+					return c;
+				}
+
+				c = normalizer.normalize((char) c);
+
+			} while (c == TextNormalizer.REMOVED);
+
+			return c;
+		}
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+
+		synchronized (lock) {
+
+			int count;
+
+			do {
+
+				count = in.read(cbuf, off, len);
+
+				if (count <= 0) {
+					return count;
+				}
+
+				count = normalizer.normalize(cbuf, off, count);
+
+			} while (count == 0);
+
+			return count;
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+
+		if (n < 0L) {
+			throw new IllegalArgumentException("skip value is negative");
+		}
+
+		synchronized (lock) {
+
+			final char[] buffer = new char[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+
+			long remaining = n;
+
+			while (remaining > 0) {
+
+				final int count = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+
+				if (count < 0) {
+					break;
+				}
+
+				remaining -= count;
+			}
+
+			return n - remaining;
+		}
+	}
+
+	@Override
+	public boolean markSupported() {
+
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+
+		throw new IOException("mark() not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+
+		throw new IOException("reset() not supported");
+	}
+
+	/**
+	 * @return normalizador - Normalizador aplicado aos caracteres lidos.
+	 */
+	public TextNormalizer getNormalizer() {
+
+		return normalizer;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:53:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:53:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * <code>Writer</code> que normaliza os caracteres à medida que são escritos,
+ * segundo um {@linkplain TextNormalizer}. Permite gerar arquivos de qualquer
+ * tamanho já sanitizados, com memória constante.
+ * </p>
+ * <p>
+ * Os caracteres são normalizados em blocos em um buffer interno, de modo que
+ * os arrays e strings do chamador nunca são modificados.
+ * </p>
+ * 
+ * <pre>
+ * Writer writer = new NormalizingWriter(new FileWriter(remessa));
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class NormalizingWriter extends FilterWriter {
+
+	private static final int BUFFER_SIZE = 1024;
+
+	private final TextNormalizer normalizer;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	/**
+	 * <p>
+	 * Cria um escritor com o normalizador {@linkplain TextNormalizer#DEFAULT}.
+	 * </p>
+	 * 
+	 * @param out
+	 *            - Escritor original.
+	 */
+	public NormalizingWriter(Writer out) {
+
+		this(out, TextNormalizer.DEFAULT);
+	}
+
+	/**
+	 * <p>
+	 * Cria um escritor com o normalizador informado.
+	 * </p>
+	 * 
+	 * @param out
+	 *            - Escritor original.
+	 * @param normalizer
+	 *            - Normalizador aplicado aos caracteres escritos.
+	 */
+	public NormalizingWriter(Writer out, TextNormalizer normalizer) {
+
+		super(out);
+
+		Objects.checkNotNull(normalizer, "INVALID NULL NORMALIZER!");
+
+		this.normalizer = normalizer;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+
+		final int normalized = normalizer.normalize((char) c);
+
+		if (normalized != TextNormalizer.REMOVED) {
+			out.write(normalized);
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+
+		synchronized (lock) {
+
+			while (len > 0) {
+
+				final int chunk = Math.min(len, buffer.length);
+
+				System.arraycopy(cbuf, off, buffer, 0, chunk);
+
+				flushBuffer(chunk);
+
+				off += chunk;
+				len -= chunk;
+			}
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+
+		synchronized (lock) {
+
+			while (len > 0) {
+
+				final int chunk = Math.min(len, buffer.length);
+
+				str.getChars(off, off + chunk, buffer, 0);
+
+				flushBuffer(chunk);
+
+				off += chunk;
+				len -= chunk;
+			}
+		}
+	}
+
+	/**
+	 * @return normalizador - Normalizador aplicado aos caracteres escritos.
+	 */
+	public TextNormalizer getNormalizer() {
+
+		return normalizer;
+	}
+
+	private void flushBuffer(int length) throws IOException {
+
+		final int count = normalizer.normalize(buffer, 0, length);
+
+		if (count > 0) {
+			out.write(buffer, 0, count);
+		}
+	}
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:00:56
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:00:56
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Pool limitado de <code>Strings</code> para deduplicação de valores
+ * repetitivos, como os campos de tamanho fixo de arquivos de retorno (códigos
+ * de banco, agências, ocorrências, UFs).
+ * </p>
+ * <p>
+ * O pool é uma tabela de endereçamento direto: cada valor ocupa a posição dada
+ * pelo seu hash e uma colisão substitui a entrada anterior. Assim o consumo de
+ * memória é fixo (no máximo <code>capacity</code> valores de até
+ * <code>maxLength</code> caracteres) e não há remoção nem bloqueio. Os valores
+ * podem ser obtidos diretamente de trechos de <code>char[]</code>,
+ * <code>byte[]</code> (Latin-1) ou <code>CharSequence</code>, de modo que uma
+ * <code>String</code> só é criada quando o valor ainda não está no pool.
+ * </p>
+ * <p>
+ * Instâncias podem ser compartilhadas entre threads.
+ * </p>
+ * 
+ * <pre>
+ * StringPool pool = new StringPool(4096, 16);
+ * String banco = pool.intern(line, 0, 3);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class StringPool {
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final AtomicReferenceArray<String> table;
+
+	private final int mask;
+
+	private final int maxLength;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * <p>
+	 * Cria um pool com a capacidade e o tamanho máximo de valor informados.
+	 * </p>
+	 * 
+	 * @param capacity
+	 *            - Quantidade máxima de valores mantidos, arredondada para a
+	 *            próxima potência de dois.
+	 * @param maxLength
+	 *            - Tamanho máximo dos valores mantidos. Valores maiores são
+	 *            apenas convertidos em <code>String</code>.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a capacidade não seja positiva ou o tamanho máximo seja
+	 *             negativo.
+	 * 
+	 * @since 0.2
+	 */
+	public StringPool(int capacity, int maxLength) {
+
+		if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+			Exceptions.throwIllegalArgumentException("Capacidade inválida: "
+					+ capacity);
+		}
+
+		if (maxLength < 0) {
+			Exceptions.throwIllegalArgumentException("Tamanho máximo inválido: "
+					+ maxLength);
+		}
+
+		final int size = Integer.highestOneBit(capacity) == capacity ? capacity
+				: Integer.highestOneBit(capacity) << 1;
+
+		this.table = new AtomicReferenceArray<String>(size);
+		this.mask = size - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * <p>
+	 * Retorna a instância do pool equivalente ao trecho, criando-a caso ainda
+	 * não exista.
+	 * </p>
+	 * 
+	 * @param chars
+	 *            - Array com os caracteres.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de caracteres do trecho.
+	 * @return valor - <code>String</code> equivalente ao trecho.
+	 * 
+	 * @since 0.2
+	 */
+	public String intern(char[] chars, int offset, int length) {
+
+		if (length > maxLength) {
+			return new String(chars, offset, length);
+		}
+
+		int hash = 0;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+
+		final int index = indexFor(hash);
+		final String pooled = table.get(index);
+
+		if (pooled != null && pooled.length() == length
+				&& pooled.hashCode() == hash) {
+
+			int i = 0;
+
+			while (i < length && pooled.charAt(i) == chars[offset + i]) {
+				i++;
+			}
+
+			if (i == length) {
+				hits.increment();
+				return pooled;
+			}
+		}
+
+		return put(index, new String(chars, offset, length));
+	}
+
+	/**
+	 * <p>
+	 * Retorna a instância do pool equivalente ao trecho de bytes, interpretados
+	 * como Latin-1 (ISO-8859-1), criando-a caso ainda não exista.
+	 * </p>
+	 * 
+	 * @param bytes
+	 *            - Array com os bytes.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de bytes do trecho.
+	 * @return valor - <code>String</code> equivalente ao trecho.
+	 * 
+	 * @since 0.2
+	 */
+	public String intern(byte[] bytes, int offset, int length) {
+
+		if (length > maxLength) {
+			return latin1(bytes, offset, length);
+		}
+
+		int hash = 0;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + (bytes[i] & 0xFF);
+		}
+
+		final int index = indexFor(hash);
+		final String pooled = table.get(index);
+
+		if (pooled != null && pooled.length() == length
+				&& pooled.hashCode() == hash) {
+
+			int i = 0;
+
+			while (i < length && pooled.charAt(i) == (bytes[offset + i] & 0xFF)) {
+				i++;
+			}
+
+			if (i == length) {
+				hits.increment();
+				return pooled;
+			}
+		}
+
+		return put(index, latin1(bytes, offset, length));
+	}
+
+	/**
+	 * <p>
+	 * Retorna a instância do pool equivalente ao trecho <code>[from, to)</code>
+	 * , criando-a caso ainda não exista.
+	 * </p>
+	 * 
+	 * @param seq
+	 *            - Sequência de caracteres.
+	 * @param from
+	 *            - Posição inicial (inclusiva).
+	 * @param to
+	 *            - Posição final (exclusiva).
+	 * @return valor - <code>String</code> equivalente ao trecho.
+	 * 
+	 * @since 0.2
+	 */
+	public String intern(CharSequence seq, int from, int to) {
+
+		final int length = to - from;
+
+		if (length > maxLength) {
+			return seq.subSequence(from, to).toString();
+		}
+
+		int hash = 0;
+
+		for (int i = from; i < to; i++) {
+			hash = 31 * hash + seq.charAt(i);
+		}
+
+		final int index = indexFor(hash);
+		final String pooled = table.get(index);
+
+		if (pooled != null && pooled.length() == length
+				&& pooled.hashCode() == hash) {
+
+			int i = 0;
+
+			while (i < length && pooled.charAt(i) == seq.charAt(from + i)) {
+				i++;
+			}
+
+			if (i == length) {
+				hits.increment();
+				return pooled;
+			}
+		}
+
+		return put(index, seq.subSequence(from, to).toString());
+	}
+
+	/**
+	 * <p>
+	 * Retorna a instância do pool equivalente ao valor informado. Caso o valor
+	 * ainda não esteja no pool, ele próprio passa a ser a instância do pool.
+	 * </p>
+	 * 
+	 * @param value
+	 *            - Valor a ser deduplicado, pode ser <code>null</code>.
+	 * @return valor - Instância do pool ou <code>null</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public String intern(String value) {
+
+		if (value == null || value.length() > maxLength) {
+			return value;
+		}
+
+		final int index = indexFor(value.hashCode());
+		final String pooled = table.get(index);
+
+		if (value.equals(pooled)) {
+			hits.increment();
+			return pooled;
+		}
+
+		return put(index, value);
+	}
+
+	/**
+	 * @return acertos - Quantidade de valores encontrados no pool.
+	 */
+	public long getHits() {
+
+		return hits.sum();
+	}
+
+	/**
+	 * @return faltas - Quantidade de valores adicionados ao pool.
+	 */
+	public long getMisses() {
+
+		return misses.sum();
+	}
+
+	/**
+	 * @return taxa de acerto - Proporção entre acertos e consultas (de 0 a 1),
+	 *         desconsiderando os valores maiores que o tamanho máximo.
+	 */
+	public double getHitRate() {
+
+		final long hit = hits.sum();
+		final long total = hit + misses.sum();
+
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	/**
+	 * @return quantidade de valores atualmente no pool.
+	 */
+	public int size() {
+
+		int size = 0;
+
+		for (int i = 0; i < table.length(); i++) {
+			if (table.get(i) != null) {
+				size++;
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * @return capacidade - Quantidade máxima de valores mantidos.
+	 */
+	public int getCapacity() {
+
+		return table.length();
+	}
+
+	/**
+	 * @return tamanho máximo dos valores mantidos.
+	 */
+	public int getMaxLength() {
+
+		return maxLength;
+	}
+
+	/**
+	 * <p>
+	 * Remove todos os valores do pool e zera as estatísticas.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public void clear() {
+
+		for (int i = 0; i < table.length(); i++) {
+			table.set(i, null);
+		}
+
+		hits.reset();
+		misses.reset();
+	}
+
+	@Override
+	public String toString() {
+
+		return "StringPool[capacity=" + getCapacity() + ", maxLength="
+				+ maxLength + ", hits=" + getHits() + ", misses="
+				+ getMisses() + "]";
+	}
+
+	private int indexFor(int hash) {
+
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private String put(int index, String value) {
+
+		misses.increment();
+		table.set(index, value);
+
+		return value;
+	}
+
+	private static String latin1(byte[] bytes, int offset, int length) {
+
+		final char[] chars = new char[length];
+
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char) (bytes[offset + i] & 0xFF);
+		}
+
+		return new String(chars);
+	}
+}
@@ -35,11 +35,8 @@ import static org.apache.commons.lang.StringUtils.isBlank;
 import static org.apache.commons.lang.StringUtils.isNotBlank;
 import static org.apache.commons.lang.StringUtils.isNumeric;
 import static org.apache.commons.lang.StringUtils.leftPad;
-import static org.apache.commons.lang.StringUtils.removeStart;
-import static org.apache.commons.lang.StringUtils.replace;
-import static org.apache.commons.lang.StringUtils.replaceChars;
-import static org.apache.commons.lang.StringUtils.startsWith;
-import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.io.IOException;
 
 import org.apache.commons.lang.StringUtils;
 import org.jrimum.utilix.Exceptions;
@@ -63,6 +60,75 @@ public final class Strings {
 
 	public static final String WHITE_SPACE = " ";
 
+	/**
+	 * Dígito das dezenas para os números de 0 a 99.
+	 */
+	static final char[] DIGIT_TENS = new char[100];
+
+	/**
+	 * Dígito das unidades para os números de 0 a 99.
+	 */
+	static final char[] DIGIT_ONES = new char[100];
+
+	/**
+	 * Potências de 10 representáveis em um <code>long</code> (10^0 a 10^18).
+	 */
+	static final long[] POWERS_OF_TEN = new long[19];
+
+	static {
+
+		for (int i = 0; i < 100; i++) {
+			DIGIT_TENS[i] = (char) ('0' + i / 10);
+			DIGIT_ONES[i] = (char) ('0' + i % 10);
+		}
+
+		POWERS_OF_TEN[0] = 1;
+
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	/**
+	 * Primeiro caractere (À) que possui equivalente sem acento na tabela
+	 * {@linkplain #ACCENT_FOLDING}.
+	 */
+	static final char FIRST_ACCENTED_CHAR = '\u00C0';
+
+	/**
+	 * Tabela de conversão dos caracteres Latin-1 e Latin Extended-A
+	 * (<code>\u0000</code> a <code>\u017F</code>) para seus equivalentes sem
+	 * acento. Caracteres sem equivalente (ex.: Æ, ß, ×) são mantidos.
+	 */
+	private static final char[] ACCENT_FOLDING = new char[0x180];
+
+	static {
+
+		// Mapeamento a partir de \u00C0, 16 caracteres por linha, onde '*'
+		// significa que o caractere é mantido.
+		final String folding =
+				  "AAAAAA*CEEEEIIII" // \u00C0
+				+ "DNOOOOO*OUUUUY**" // \u00D0
+				+ "aaaaaa*ceeeeiiii" // \u00E0
+				+ "dnooooo*ouuuuy*y" // \u00F0
+				+ "AaAaAaCcCcCcCcDd" // \u0100
+				+ "DdEeEeEeEeEeGgGg" // \u0110
+				+ "GgGgHhHhIiIiIiIi" // \u0120
+				+ "Ii**JjKk*LlLlLlL" // \u0130
+				+ "lLlNnNnNnn**OoOo" // \u0140
+				+ "Oo**RrRrRrSsSsSs" // \u0150
+				+ "SsTtTtTtUuUuUuUu" // \u0160
+				+ "UuUuWwYyYZzZzZzs";// \u0170
+
+		for (char c = 0; c < ACCENT_FOLDING.length; c++) {
+
+			final char folded = (c < FIRST_ACCENTED_CHAR) ? '*' : folding
+					.charAt(c - FIRST_ACCENTED_CHAR);
+
+			ACCENT_FOLDING[c] = (folded == '*') ? c : folded;
+		}
+	}
+
 	/**
 	 * Utility class pattern: classe não instanciável
 	 * 
@@ -80,6 +146,11 @@ public final class Strings {
 	 * <pre>>
 	 * <,;.:!*&%+-_<>[]\/
 	 * </pre>
+	 * <p>
+	 * A remoção é feita em uma única passagem por
+	 * {@linkplain SymbolStripper#DEFAULT}. Para outros conjuntos de símbolos
+	 * use {@linkplain SymbolStripper#compile(CharSequence)}.
+	 * </p>
 	 * 
 	 * @param str
 	 *            String com os símbolos a serem removidos.
@@ -88,41 +159,11 @@ public final class Strings {
 	 */
 	public static String eliminateSymbols(final String str) {
 
-		String modifiedStr = str;
-
-		if (isNotBlank(modifiedStr)) {
-
-			modifiedStr = replace(modifiedStr, "-", EMPTY);
-			modifiedStr = replace(modifiedStr, "_", EMPTY);
-			modifiedStr = replace(modifiedStr, "=", EMPTY);
-			modifiedStr = replace(modifiedStr, "+", EMPTY);
-			modifiedStr = replace(modifiedStr, "%", EMPTY);
-			modifiedStr = replace(modifiedStr, "*", EMPTY);
-			modifiedStr = replace(modifiedStr, "@", EMPTY);
-			modifiedStr = replace(modifiedStr, "#", EMPTY);
-			modifiedStr = replace(modifiedStr, "&", EMPTY);
-			modifiedStr = replace(modifiedStr, ":", EMPTY);
-			modifiedStr = replace(modifiedStr, ".", EMPTY);
-			modifiedStr = replace(modifiedStr, ";", EMPTY);
-			modifiedStr = replace(modifiedStr, ",", EMPTY);
-			modifiedStr = replace(modifiedStr, "!", EMPTY);
-			modifiedStr = replace(modifiedStr, "?", EMPTY);
-			modifiedStr = replace(modifiedStr, "(", EMPTY);
-			modifiedStr = replace(modifiedStr, ")", EMPTY);
-			modifiedStr = replace(modifiedStr, "{", EMPTY);
-			modifiedStr = replace(modifiedStr, "}", EMPTY);
-			modifiedStr = replace(modifiedStr, "[", EMPTY);
-			modifiedStr = replace(modifiedStr, "]", EMPTY);
-			modifiedStr = replace(modifiedStr, "/", EMPTY);
-			modifiedStr = replace(modifiedStr, "\\", EMPTY);
-			modifiedStr = replace(modifiedStr, ">", EMPTY);
-			modifiedStr = replace(modifiedStr, "<", EMPTY);
-			modifiedStr = replace(modifiedStr, "\"", EMPTY);
-			modifiedStr = replace(modifiedStr, "'", EMPTY);
-			modifiedStr = replace(modifiedStr, "`", EMPTY);
+		if (isNotBlank(str)) {
+			return SymbolStripper.DEFAULT.strip(str);
 		}
 
-		return modifiedStr;
+		return str;
 	}
 
 	/**
@@ -142,29 +183,138 @@ public final class Strings {
 
 	public static String removeStartWithZeros(final String str) {
 
-		String withoutZeros = EMPTY;
-		final String zero = "0";
+		if (str == null) {
+			return EMPTY;
+		}
 
-		if (isNotNull(str)) {
+		final int length = str.length();
+		final int start = indexOfSignificantDigit(str, 0, length);
 
-			if (startsWith(str, zero)) {
+		if (start == 0) {
+			return str;
+		}
 
-				withoutZeros = removeStart(str, zero);
+		for (int i = start; i < length; i++) {
+			if (str.charAt(i) > ' ') {
+				return str.substring(start);
+			}
+		}
 
-				while (startsWith(withoutZeros, zero)) {
-					withoutZeros = removeStart(withoutZeros, zero);
-				}
+		return "0";
+	}
 
-				if (withoutZeros.trim().length() == 0) {
-					withoutZeros = zero;
-				}
+	/**
+	 * Retorna a posição do primeiro caractere diferente de zero no trecho
+	 * {@code [from, to)}, sem criar objetos. Caso o trecho seja composto
+	 * somente por zeros, retorna a posição do último zero, de modo que o
+	 * trecho a partir dela represente o número zero.
+	 * <p>
+	 * <code>indexOfSignificantDigit("00000", 0, 5) => 4</code><br />
+	 * <code>indexOfSignificantDigit("00023", 0, 5) => 3</code><br />
+	 * <code>indexOfSignificantDigit("AB0020CD", 2, 6) => 4</code>
+	 * </p>
+	 * 
+	 * @param seq
+	 *            Sequência analisada
+	 * @param from
+	 *            Posição inicial (inclusiva)
+	 * @param to
+	 *            Posição final (exclusiva)
+	 * @return posição do primeiro dígito significativo, ou {@code from} caso o
+	 *         trecho seja vazio.
+	 * 
+	 * @since 0.2
+	 */
+	public static int indexOfSignificantDigit(final CharSequence seq,
+			final int from, final int to) {
+
+		int i = from;
 
-			} else {
-				withoutZeros = str;
+		while (i < to - 1 && seq.charAt(i) == '0') {
+			i++;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Remove os zeros iniciais do trecho {@code [from, to)} de uma sequência,
+	 * devolvendo o restante como uma subsequência (por meio de
+	 * {@linkplain CharSequence#subSequence(int, int)}). Um trecho composto
+	 * somente por zeros resulta em um único zero.
+	 * 
+	 * @param seq
+	 *            Sequência analisada
+	 * @param from
+	 *            Posição inicial (inclusiva)
+	 * @param to
+	 *            Posição final (exclusiva)
+	 * @return o trecho sem zeros iniciais
+	 * 
+	 * @see #indexOfSignificantDigit(CharSequence, int, int)
+	 * 
+	 * @since 0.2
+	 */
+	public static CharSequence removeStartWithZeros(final CharSequence seq,
+			final int from, final int to) {
+
+		return seq.subSequence(indexOfSignificantDigit(seq, from, to), to);
+	}
+
+	/**
+	 * Converte o trecho {@code [from, to)} de uma sequência, composto somente
+	 * por dígitos ASCII (<code>'0'</code> a <code>'9'</code>), em um
+	 * <code>long</code>, ignorando os zeros à esquerda e sem criar objetos.
+	 * Ideal para campos numéricos de tamanho fixo.
+	 * <p>
+	 * <code>parseUnsignedLongSkippingZeros("0000012345", 0, 10) => 12345</code>
+	 * </p>
+	 * 
+	 * @param seq
+	 *            Sequência analisada
+	 * @param from
+	 *            Posição inicial (inclusiva)
+	 * @param to
+	 *            Posição final (exclusiva)
+	 * @return valor numérico do trecho
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o trecho seja vazio, contenha algum caractere que não
+	 *             seja dígito ou represente um número maior que
+	 *             {@linkplain Long#MAX_VALUE}.
+	 * 
+	 * @since 0.2
+	 */
+	public static long parseUnsignedLongSkippingZeros(final CharSequence seq,
+			final int from, final int to) {
+
+		if (from >= to) {
+			Exceptions.throwIllegalArgumentException(format(
+					"Trecho vazio [%d, %d) não é numérico!", from, to));
+		}
+
+		long value = 0;
+
+		for (int i = indexOfSignificantDigit(seq, from, to); i < to; i++) {
+
+			final int digit = seq.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				Exceptions.throwIllegalArgumentException(format(
+						"Valor inválido. Trecho [\"%s\"] não numérico!",
+						seq.subSequence(from, to)));
 			}
+
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				Exceptions.throwIllegalArgumentException(format(
+						"Valor [\"%s\"] excede o limite de um long!",
+						seq.subSequence(from, to)));
+			}
+
+			value = value * 10 + digit;
 		}
 
-		return withoutZeros;
+		return value;
 	}
 
 	/**
@@ -176,10 +326,13 @@ public final class Strings {
 	 * <li>Trema. ex.: ä</li>
 	 * <li>Circunflexo. ex.: â</li>
 	 * </ul>
-	 * e o Cedilha (ç).
+	 * e o Cedilha (ç), além dos demais diacríticos dos blocos Latin-1 e Latin
+	 * Extended-A (ex.: ñ, å, ø, č, ł, ő).
 	 * <p>
 	 * Os acentos são removidos tanto para letras minúsculas como para letras
-	 * maiúsculas.
+	 * maiúsculas. A conversão é feita em uma única passagem pelo texto e, caso
+	 * não exista nenhum caractere acentuado, a própria instância informada é
+	 * retornada.
 	 * </p>
 	 * 
 	 * @param value
@@ -189,77 +342,93 @@ public final class Strings {
 	 */
 	public static String eliminateAccent(final String value) {
 
-		String modifiedValue = value;
-
-		// Para ç e Ç
-		modifiedValue = replaceChars(modifiedValue, '\u00E7', 'c');
-		modifiedValue = replaceChars(modifiedValue, '\u00C7', 'C');
-
-		// Para à, á, â, ã e ä
-		modifiedValue = replaceChars(modifiedValue, '\u00E0', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E1', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E2', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E3', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E4', 'a');
-
-		// Para è, é, ê e ë
-		modifiedValue = replaceChars(modifiedValue, '\u00E8', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00E9', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00EA', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00EB', 'e');
-
-		// Para ì, í, î e ï
-		modifiedValue = replaceChars(modifiedValue, '\u00EC', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00ED', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00EE', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00EF', 'i');
-
-		// Para ò, ó, ô, õ e ö
-		modifiedValue = replaceChars(modifiedValue, '\u00F2', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F3', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F4', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F5', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F6', 'o');
-
-		// Para ù, ú, û e ü
-		modifiedValue = replaceChars(modifiedValue, '\u00F9', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FA', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FB', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FC', 'u');
-
-		// Para À, Á, Â, Ã e Ä
-		modifiedValue = replaceChars(modifiedValue, '\u00C0', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C1', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C2', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C3', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C4', 'A');
-
-		// Para È, É, Ê e Ë
-		modifiedValue = replaceChars(modifiedValue, '\u00C8', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00C9', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00CA', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00CB', 'E');
-
-		// Para Ì, Í, Î e Ï
-		modifiedValue = replaceChars(modifiedValue, '\u00CC', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CD', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CE', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CF', 'I');
-
-		// Para Ò, Ó, Ô, Õ e Ö
-		modifiedValue = replaceChars(modifiedValue, '\u00D2', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D3', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D4', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D5', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D6', 'O');
-
-		// Para Ù, Ú, Û e Ü
-		modifiedValue = replaceChars(modifiedValue, '\u00D9', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DA', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DB', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DC', 'U');
-
-		return modifiedValue;
+		if (value == null) {
+			return null;
+		}
+
+		final int length = value.length();
+
+		int first = 0;
+
+		while (first < length && !isAccented(value.charAt(first))) {
+			first++;
+		}
+
+		if (first == length) {
+			return value;
+		}
+
+		final char[] chars = new char[length];
+
+		value.getChars(0, length, chars, 0);
+
+		eliminateAccent(chars, first, length - first);
+
+		return new String(chars);
+	}
+
+	/**
+	 * Remove a acentuação de um único caractere seguindo as mesmas regras de
+	 * {@linkplain #eliminateAccent(String)}.
+	 * 
+	 * @param c
+	 *            Caractere a ser convertido.
+	 * @return Caractere sem acentuação ou o próprio caractere caso não seja
+	 *         acentuado.
+	 * @since 0.2
+	 */
+	public static char eliminateAccent(final char c) {
+
+		if (c < FIRST_ACCENTED_CHAR || c >= ACCENT_FOLDING.length) {
+			return c;
+		}
+
+		return ACCENT_FOLDING[c];
+	}
+
+	/**
+	 * Indica se o caractere possui equivalente sem acento.
+	 */
+	private static boolean isAccented(final char c) {
+
+		return eliminateAccent(c) != c;
+	}
+
+	/**
+	 * Remove a acentuação de um trecho de um array de caracteres,
+	 * modificando-o diretamente (sem alocação de objetos).
+	 * 
+	 * @param chars
+	 *            Array com os caracteres a serem convertidos.
+	 * @param offset
+	 *            Posição inicial do trecho.
+	 * @param length
+	 *            Quantidade de caracteres do trecho.
+	 * @since 0.2
+	 */
+	public static void eliminateAccent(final char[] chars, final int offset,
+			final int length) {
+
+		TextKernels.KERNEL.eliminateAccent(chars, offset, length);
+	}
+
+	/**
+	 * Implementação escalar de {@linkplain #eliminateAccent(char[], int, int)}
+	 * , usada pelos kernels de texto.
+	 */
+	static void eliminateAccentScalar(final char[] chars, final int offset,
+			final int length) {
+
+		final char[] folding = ACCENT_FOLDING;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+
+			final char c = chars[i];
+
+			if (c >= FIRST_ACCENTED_CHAR && c < folding.length) {
+				chars[i] = folding[c];
+			}
+		}
 	}
 
 	/**
@@ -483,7 +652,7 @@ public final class Strings {
 	 * @return string com zeros a esquerda
 	 */
 	public static String fillWithZeroLeft(int numberToFill, int length){
-		return fillWithZeroLeft(String.valueOf(numberToFill), length);
+		return fillWithZeroLeft((long) numberToFill, length);
 	}
 	
 	/**
@@ -497,7 +666,142 @@ public final class Strings {
 	 * @return string com zeros a esquerda
 	 */
 	public static String fillWithZeroLeft(long numberToFill, int length){
-		return fillWithZeroLeft(String.valueOf(numberToFill), length);
+		
+		if (numberToFill < 0 || digitCount(numberToFill) > length) {
+			return fillWithZeroLeft(String.valueOf(numberToFill), length);
+		}
+		
+		final char[] chars = new char[length];
+		
+		writeZeroPadded(numberToFill, chars, 0, length);
+		
+		return new String(chars);
+	}
+	
+	/**
+	 * Escreve o número informado com o preenchimento de zeros à esquerda
+	 * diretamente no array de destino, ocupando exatamente {@code length}
+	 * posições a partir de {@code offset}, sem alocação de objetos.
+	 * 
+	 * <pre>
+	 * fillWithZeroLeft(123, 5, dest, 0) => dest = {'0','0','1','2','3'}
+	 * </pre>
+	 * 
+	 * @param numberToFill
+	 *            Número não negativo a ser escrito com zeros à esquerda
+	 * @param length
+	 *            Quantidade de posições ocupadas no destino
+	 * @param dest
+	 *            Array de destino
+	 * @param offset
+	 *            Posição inicial no destino
+	 * @return posição seguinte ao último caractere escrito (
+	 *         {@code offset + length})
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o número seja negativo ou não caiba em {@code length}
+	 *             posições.
+	 * 
+	 * @since 0.2
+	 */
+	public static int fillWithZeroLeft(long numberToFill, int length, char[] dest, int offset){
+		
+		checkFitsWithZeroLeft(numberToFill, length);
+		
+		writeZeroPadded(numberToFill, dest, offset, length);
+		
+		return offset + length;
+	}
+	
+	/**
+	 * Acrescenta ao {@code StringBuilder} o número informado com o
+	 * preenchimento de zeros à esquerda até o tamanho {@code length}, sem
+	 * alocação de objetos intermediários.
+	 * 
+	 * @param numberToFill
+	 *            Número não negativo a ser escrito com zeros à esquerda
+	 * @param length
+	 *            Quantidade de caracteres acrescentados
+	 * @param out
+	 *            Destino
+	 * @return o próprio {@code out}
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o número seja negativo ou não caiba em {@code length}
+	 *             posições.
+	 * 
+	 * @since 0.2
+	 */
+	public static StringBuilder fillWithZeroLeft(long numberToFill, int length, StringBuilder out){
+		
+		checkFitsWithZeroLeft(numberToFill, length);
+		
+		final int start = out.length();
+		
+		// Mesmo algoritmo de writeZeroPadded, escrito no próprio destino.
+		out.setLength(start + length);
+		
+		int pos = start + length;
+		long value = numberToFill;
+		
+		while (value >= 100) {
+			
+			final int pair = (int) (value % 100);
+			value /= 100;
+			
+			out.setCharAt(--pos, DIGIT_ONES[pair]);
+			out.setCharAt(--pos, DIGIT_TENS[pair]);
+		}
+		
+		if (value >= 10) {
+			out.setCharAt(--pos, DIGIT_ONES[(int) value]);
+			out.setCharAt(--pos, DIGIT_TENS[(int) value]);
+		} else {
+			out.setCharAt(--pos, (char) ('0' + value));
+		}
+		
+		while (pos > start) {
+			out.setCharAt(--pos, '0');
+		}
+		
+		return out;
+	}
+	
+	/**
+	 * Escreve no destino o número informado com o preenchimento de zeros à
+	 * esquerda até o tamanho {@code length}, sem alocação de objetos
+	 * intermediários.
+	 * 
+	 * @param numberToFill
+	 *            Número não negativo a ser escrito com zeros à esquerda
+	 * @param length
+	 *            Quantidade de caracteres escritos
+	 * @param out
+	 *            Destino
+	 * @return o próprio {@code out}
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso o número seja negativo ou não caiba em {@code length}
+	 *             posições.
+	 * @throws IOException
+	 *             Caso ocorra algum erro de escrita no destino.
+	 * 
+	 * @since 0.2
+	 */
+	public static <A extends Appendable> A fillWithZeroLeft(long numberToFill, int length, A out) throws IOException{
+		
+		final int digits = checkFitsWithZeroLeft(numberToFill, length);
+		
+		for (int i = digits; i < length; i++) {
+			out.append('0');
+		}
+		
+		// Do dígito mais significativo para o menos, sem buffer intermediário.
+		for (int i = digits - 1; i >= 0; i--) {
+			out.append((char) ('0' + (numberToFill / POWERS_OF_TEN[i]) % 10));
+		}
+		
+		return out;
 	}
 
 	/**
@@ -513,4 +817,69 @@ public final class Strings {
 	public static String fillWithZeroLeft(String stringToFill, int length){
 		return leftPad(stringToFill, length, "0");
 	}
+	
+	/**
+	 * Quantidade de dígitos decimais de um número não negativo.
+	 */
+	static int digitCount(long value) {
+		
+		int digits = 1;
+		
+		while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+			digits++;
+		}
+		
+		return digits;
+	}
+	
+	/**
+	 * Verifica se o número é não negativo e cabe em {@code length} posições.
+	 * 
+	 * @return quantidade de dígitos do número
+	 */
+	static int checkFitsWithZeroLeft(long numberToFill, int length) {
+		
+		if (numberToFill < 0) {
+			Exceptions.throwIllegalArgumentException(format(
+					"Número negativo [%d] não pode ser preenchido com zeros à esquerda!", numberToFill));
+		}
+		
+		final int digits = digitCount(numberToFill);
+		
+		if (digits > length) {
+			Exceptions.throwIllegalArgumentException(format(
+					"Número [%d] não cabe em %d posições!", numberToFill, length));
+		}
+		
+		return digits;
+	}
+	
+	/**
+	 * Escreve os dígitos da direita para a esquerda, dois a dois, e completa
+	 * com zeros até {@code offset}.
+	 */
+	private static void writeZeroPadded(long value, char[] dest, int offset, int length) {
+		
+		int pos = offset + length;
+		
+		while (value >= 100) {
+			
+			final int pair = (int) (value % 100);
+			value /= 100;
+			
+			dest[--pos] = DIGIT_ONES[pair];
+			dest[--pos] = DIGIT_TENS[pair];
+		}
+		
+		if (value >= 10) {
+			dest[--pos] = DIGIT_ONES[(int) value];
+			dest[--pos] = DIGIT_TENS[(int) value];
+		} else {
+			dest[--pos] = (char) ('0' + value);
+		}
+		
+		while (pos > offset) {
+			dest[--pos] = '0';
+		}
+	}
 }
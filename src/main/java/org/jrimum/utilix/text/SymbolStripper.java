@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:52:40
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:52:40
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import java.io.IOException;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Removedor de símbolos compilado a partir de um conjunto de caracteres. O
+ * conjunto é transformado em um mapa de bits, de modo que a remoção é feita em
+ * uma única passagem pelo texto, com custo constante por caractere
+ * independente da quantidade de símbolos.
+ * </p>
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads. Exemplo
+ * mantendo a barra em endereços:
+ * </p>
+ *
+ * <pre>
+ * SymbolStripper address = SymbolStripper.DEFAULT.keeping(&quot;/&quot;);
+ * address.strip(&quot;RUA A, 10/B&quot;) =&gt; &quot;RUA A 10/B&quot;
+ * </pre>
+ *
+ * @since 0.2
+ *
+ * @version 0.2
+ */
+public final class SymbolStripper {
+
+	/**
+	 * <p>
+	 * Removedor dos símbolos tratados por
+	 * {@linkplain Strings#eliminateSymbols(String)}:
+	 * </p>
+	 *
+	 * <pre>
+	 * -_=+%*@#&amp;:.;,!?(){}[]/\&gt;&lt;&quot;'`
+	 * </pre>
+	 */
+	public static final SymbolStripper DEFAULT = compile("-_=+%*@#&:.;,!?(){}[]/\\><\"'`");
+
+	private static final int ADDRESS_BITS_PER_WORD = 6;
+
+	/**
+	 * Quantidade de linhas de 16 caracteres da faixa ASCII.
+	 */
+	static final int ASCII_ROWS = 8;
+
+	/**
+	 * Símbolos que compõem o conjunto, sem repetições e em ordem crescente.
+	 */
+	private final String symbols;
+
+	/**
+	 * Mapa de bits indexado pelo código do caractere.
+	 */
+	private final long[] words;
+
+	/**
+	 * Mapa de bits da faixa ASCII em linhas de 16 caracteres: o bit
+	 * <code>c &amp; 15</code> da linha <code>c &gt;&gt; 4</code> indica se
+	 * <code>c</code> é símbolo. Calculado uma única vez para os kernels
+	 * vetoriais.
+	 */
+	private final short[] asciiRows;
+
+	private SymbolStripper(String symbols, long[] words) {
+
+		this.symbols = symbols;
+		this.words = words;
+		this.asciiRows = new short[ASCII_ROWS];
+
+		for (int row = 0; row < ASCII_ROWS; row++) {
+			asciiRows[row] = (short) (word(row >> 2) >>> ((row & 3) << 4));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Compila um removedor para o conjunto de símbolos informado.
+	 * </p>
+	 *
+	 * @param symbols
+	 *            - Caracteres a serem removidos.
+	 * @return removedor - Instância imutável para o conjunto.
+	 *
+	 * @throws IllegalArgumentException
+	 *             Caso o conjunto seja <code>null</code>.
+	 *
+	 * @since 0.2
+	 */
+	public static SymbolStripper compile(CharSequence symbols) {
+
+		Objects.checkNotNull(symbols, "Conjunto de símbolos nulo!");
+
+		char max = 0;
+
+		for (int i = 0; i < symbols.length(); i++) {
+			max = (char) Math.max(max, symbols.charAt(i));
+		}
+
+		final long[] words = new long[(max >> ADDRESS_BITS_PER_WORD) + 1];
+
+		for (int i = 0; i < symbols.length(); i++) {
+
+			final char c = symbols.charAt(i);
+
+			words[c >> ADDRESS_BITS_PER_WORD] |= 1L << c;
+		}
+
+		return new SymbolStripper(toSymbols(words), words);
+	}
+
+	/**
+	 * <p>
+	 * Cria um novo removedor com os símbolos desta instância, exceto os
+	 * informados.
+	 * </p>
+	 *
+	 * @param symbolsToKeep
+	 *            - Caracteres que não devem mais ser removidos.
+	 * @return removedor - Nova instância sem os símbolos informados.
+	 *
+	 * @since 0.2
+	 */
+	public SymbolStripper keeping(CharSequence symbolsToKeep) {
+
+		Objects.checkNotNull(symbolsToKeep, "Conjunto de símbolos nulo!");
+
+		final StringBuilder remaining = new StringBuilder(symbols.length());
+
+		for (int i = 0; i < symbols.length(); i++) {
+
+			final char c = symbols.charAt(i);
+
+			if (indexOf(symbolsToKeep, c) < 0) {
+				remaining.append(c);
+			}
+		}
+
+		return compile(remaining);
+	}
+
+	/**
+	 * <p>
+	 * Cria um novo removedor com os símbolos desta instância acrescidos dos
+	 * informados.
+	 * </p>
+	 *
+	 * @param symbolsToStrip
+	 *            - Caracteres que também devem ser removidos.
+	 * @return removedor - Nova instância com os símbolos informados.
+	 *
+	 * @since 0.2
+	 */
+	public SymbolStripper adding(CharSequence symbolsToStrip) {
+
+		Objects.checkNotNull(symbolsToStrip, "Conjunto de símbolos nulo!");
+
+		return compile(symbols + symbolsToStrip);
+	}
+
+	/**
+	 * <p>
+	 * Indica se o caractere pertence ao conjunto de símbolos removidos.
+	 * </p>
+	 *
+	 * @param c
+	 *            - Caractere analisado.
+	 * @return <code>true</code> se o caractere é removido.
+	 *
+	 * @since 0.2
+	 */
+	public boolean isSymbol(char c) {
+
+		final int index = c >> ADDRESS_BITS_PER_WORD;
+
+		return index < words.length && (words[index] & (1L << c)) != 0;
+	}
+
+	/**
+	 * <p>
+	 * Remove os símbolos do texto em uma única passagem. Caso o texto seja uma
+	 * <code>String</code> sem nenhum símbolo, a própria instância é retornada.
+	 * </p>
+	 *
+	 * @param text
+	 *            - Texto com os símbolos a serem removidos, pode ser
+	 *            <code>null</code>.
+	 * @return texto sem símbolos ou <code>null</code>.
+	 *
+	 * @since 0.2
+	 */
+	public String strip(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		final int length = text.length();
+
+		int first = 0;
+
+		while (first < length && !isSymbol(text.charAt(first))) {
+			first++;
+		}
+
+		if (first == length) {
+			return text.toString();
+		}
+
+		final char[] chars = new char[length];
+		int count = 0;
+
+		for (int i = 0; i < first; i++) {
+			chars[count++] = text.charAt(i);
+		}
+
+		for (int i = first + 1; i < length; i++) {
+
+			final char c = text.charAt(i);
+
+			if (!isSymbol(c)) {
+				chars[count++] = c;
+			}
+		}
+
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * <p>
+	 * Remove os símbolos de um trecho de um array de caracteres, compactando o
+	 * trecho diretamente no array (sem alocação de objetos).
+	 * </p>
+	 *
+	 * @param chars
+	 *            - Array com os caracteres.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de caracteres do trecho.
+	 * @return quantidade de caracteres mantidos a partir de <code>offset</code>
+	 *         .
+	 *
+	 * @since 0.2
+	 */
+	public int strip(char[] chars, int offset, int length) {
+
+		return TextKernels.KERNEL.strip(this, chars, offset, length);
+	}
+
+	/**
+	 * Implementação escalar de {@linkplain #strip(char[], int, int)}, usada
+	 * pelos kernels de texto.
+	 */
+	int stripScalar(char[] chars, int offset, int length) {
+
+		int count = offset;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+
+			final char c = chars[i];
+
+			if (!isSymbol(c)) {
+				chars[count++] = c;
+			}
+		}
+
+		return count - offset;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o texto sem os símbolos no <code>StringBuilder</code> informado.
+	 * </p>
+	 *
+	 * @param text
+	 *            - Texto com os símbolos a serem removidos.
+	 * @param out
+	 *            - Destino do texto sem símbolos.
+	 * @return destino - O próprio <code>out</code>.
+	 *
+	 * @since 0.2
+	 */
+	public StringBuilder stripTo(CharSequence text, StringBuilder out) {
+
+		for (int i = 0, length = text.length(); i < length; i++) {
+
+			final char c = text.charAt(i);
+
+			if (!isSymbol(c)) {
+				out.append(c);
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o texto sem os símbolos no destino informado.
+	 * </p>
+	 *
+	 * @param text
+	 *            - Texto com os símbolos a serem removidos.
+	 * @param out
+	 *            - Destino do texto sem símbolos.
+	 * @return destino - O próprio <code>out</code>.
+	 *
+	 * @throws IOException
+	 *             Caso ocorra algum erro de escrita no destino.
+	 *
+	 * @since 0.2
+	 */
+	public <A extends Appendable> A stripTo(CharSequence text, A out)
+			throws IOException {
+
+		for (int i = 0, length = text.length(); i < length; i++) {
+
+			final char c = text.charAt(i);
+
+			if (!isSymbol(c)) {
+				out.append(c);
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * Palavra do mapa de bits com os caracteres de <code>index * 64</code> a
+	 * <code>index * 64 + 63</code>.
+	 */
+	long word(int index) {
+
+		return index < words.length ? words[index] : 0;
+	}
+
+	/**
+	 * Linha <code>row</code> (0 a 7) do mapa de bits da faixa ASCII, com os
+	 * caracteres de <code>row * 16</code> a <code>row * 16 + 15</code>.
+	 */
+	short asciiRow(int row) {
+
+		return asciiRows[row];
+	}
+
+	/**
+	 * @return símbolos - Caracteres removidos por esta instância, em ordem
+	 *         crescente.
+	 */
+	public String getSymbols() {
+
+		return symbols;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		return (obj instanceof SymbolStripper)
+				&& symbols.equals(((SymbolStripper) obj).symbols);
+	}
+
+	@Override
+	public int hashCode() {
+
+		return symbols.hashCode();
+	}
+
+	@Override
+	public String toString() {
+
+		return "SymbolStripper[" + symbols + "]";
+	}
+
+	private static String toSymbols(long[] words) {
+
+		final StringBuilder symbols = new StringBuilder();
+
+		for (int index = 0; index < words.length; index++) {
+
+			long word = words[index];
+
+			while (word != 0) {
+
+				final int bit = Long.numberOfTrailingZeros(word);
+
+				symbols.append((char) ((index << ADDRESS_BITS_PER_WORD) + bit));
+
+				word &= word - 1;
+			}
+		}
+
+		return symbols.toString();
+	}
+
+	private static int indexOf(CharSequence seq, char c) {
+
+		for (int i = 0; i < seq.length(); i++) {
+			if (seq.charAt(i) == c) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:05:59
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:05:59
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+/**
+ * <p>
+ * Laços mais executados do pacote, isolados para que possam ter uma
+ * implementação específica por versão da JVM (ver {@linkplain TextKernels}).
+ * Todas as implementações devem produzir exatamente o mesmo resultado da
+ * implementação escalar.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+interface TextKernel {
+
+	/**
+	 * @see Strings#eliminateAccent(char[], int, int)
+	 */
+	void eliminateAccent(char[] chars, int offset, int length);
+
+	/**
+	 * @see Digits#isDigits(byte[], int, int)
+	 */
+	boolean isDigits(byte[] bytes, int offset, int length);
+
+	/**
+	 * @see Digits#isDigits(char[], int, int)
+	 */
+	boolean isDigits(char[] chars, int offset, int length);
+
+	/**
+	 * @see SymbolStripper#strip(char[], int, int)
+	 */
+	int strip(SymbolStripper stripper, char[] chars, int offset, int length);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:05:59
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:05:59
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Seleciona o {@linkplain TextKernel} usado pelo pacote.
+ * </p>
+ * <p>
+ * O jar é <i>multi-release</i>: em JVMs 17 ou superiores ele contém também o
+ * kernel vetorial (<code>META-INF/versions/17</code>), baseado no módulo
+ * <code>jdk.incubator.vector</code>. Esse kernel só é usado quando o módulo
+ * está disponível (<code>--add-modules jdk.incubator.vector</code>); caso
+ * contrário, ou em versões anteriores da JVM, é usado o kernel escalar. A
+ * propriedade de sistema <code>org.jrimum.utilix.text.kernel=scalar</code>
+ * força o uso do kernel escalar.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+final class TextKernels {
+
+	/**
+	 * Propriedade de sistema para escolha do kernel.
+	 */
+	static final String KERNEL_PROPERTY = "org.jrimum.utilix.text.kernel";
+
+	/**
+	 * Kernel vetorial, presente apenas na camada Java 17 do jar.
+	 */
+	static final String VECTOR_KERNEL = "org.jrimum.utilix.text.VectorTextKernel";
+
+	/**
+	 * Kernel em uso.
+	 */
+	static final TextKernel KERNEL = load();
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private TextKernels() {
+
+		Exceptions.throwIllegalStateException("Instanciação não permitida!");
+	}
+
+	private static TextKernel load() {
+
+		if ("scalar".equalsIgnoreCase(System.getProperty(KERNEL_PROPERTY))) {
+			return new ScalarTextKernel();
+		}
+
+		return load(VECTOR_KERNEL);
+	}
+
+	/**
+	 * Carrega o kernel pelo nome da classe ou, caso a classe (ou alguma de
+	 * suas dependências) não esteja disponível, o kernel escalar.
+	 */
+	static TextKernel load(String className) {
+
+		try {
+
+			return (TextKernel) Class.forName(className).getDeclaredConstructor().newInstance();
+
+		} catch (Exception e) {
+			return new ScalarTextKernel();
+		} catch (LinkageError e) {
+			return new ScalarTextKernel();
+		}
+	}
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:53:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:53:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+/**
+ * <p>
+ * Normalizador de textos que, em uma única passagem por caractere, remove a
+ * acentuação (como em {@linkplain Strings#eliminateAccent(String)}), remove
+ * símbolos (segundo um {@linkplain SymbolStripper}) e converte para letras
+ * maiúsculas.
+ * </p>
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class TextNormalizer {
+
+	/**
+	 * <p>
+	 * Normalizador que remove acentos, remove os símbolos de
+	 * {@linkplain SymbolStripper#DEFAULT} e converte para letras maiúsculas.
+	 * </p>
+	 */
+	public static final TextNormalizer DEFAULT = new TextNormalizer(true,
+			SymbolStripper.DEFAULT, true);
+
+	/**
+	 * <p>
+	 * Valor retornado por {@linkplain #normalize(char)} quando o caractere é
+	 * removido.
+	 * </p>
+	 */
+	public static final int REMOVED = -1;
+
+	private final boolean eliminateAccent;
+
+	private final SymbolStripper symbolStripper;
+
+	private final boolean upperCase;
+
+	/**
+	 * <p>
+	 * Cria um normalizador com as operações informadas.
+	 * </p>
+	 * 
+	 * @param eliminateAccent
+	 *            - Se a acentuação deve ser removida.
+	 * @param symbolStripper
+	 *            - Removedor de símbolos ou <code>null</code> caso os símbolos
+	 *            devam ser mantidos.
+	 * @param upperCase
+	 *            - Se o texto deve ser convertido para letras maiúsculas.
+	 */
+	public TextNormalizer(boolean eliminateAccent,
+			SymbolStripper symbolStripper, boolean upperCase) {
+
+		this.eliminateAccent = eliminateAccent;
+		this.symbolStripper = symbolStripper;
+		this.upperCase = upperCase;
+	}
+
+	/**
+	 * <p>
+	 * Normaliza um único caractere.
+	 * </p>
+	 * 
+	 * @param c
+	 *            - Caractere a ser normalizado.
+	 * @return caractere normalizado ou {@linkplain #REMOVED} caso o caractere
+	 *         seja um símbolo removido.
+	 * 
+	 * @since 0.2
+	 */
+	public int normalize(char c) {
+
+		if (eliminateAccent) {
+			c = Strings.eliminateAccent(c);
+		}
+
+		if (symbolStripper != null && symbolStripper.isSymbol(c)) {
+			return REMOVED;
+		}
+
+		if (upperCase) {
+			c = toUpperCase(c);
+		}
+
+		return c;
+	}
+
+	/**
+	 * <p>
+	 * Normaliza um trecho de um array de caracteres diretamente no array,
+	 * compactando-o caso haja remoção de símbolos.
+	 * </p>
+	 * 
+	 * @param chars
+	 *            - Array com os caracteres.
+	 * @param offset
+	 *            - Posição inicial do trecho.
+	 * @param length
+	 *            - Quantidade de caracteres do trecho.
+	 * @return quantidade de caracteres mantidos a partir de <code>offset</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public int normalize(char[] chars, int offset, int length) {
+
+		int count = offset;
+
+		for (int i = offset, end = offset + length; i < end; i++) {
+
+			final int c = normalize(chars[i]);
+
+			if (c != REMOVED) {
+				chars[count++] = (char) c;
+			}
+		}
+
+		return count - offset;
+	}
+
+	/**
+	 * <p>
+	 * Normaliza um texto. Caso o texto seja uma <code>String</code> já
+	 * normalizada, a própria instância é retornada.
+	 * </p>
+	 * 
+	 * @param text
+	 *            - Texto a ser normalizado, pode ser <code>null</code>.
+	 * @return texto normalizado ou <code>null</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public String normalize(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		final int length = text.length();
+
+		int first = 0;
+
+		while (first < length && normalize(text.charAt(first)) == text.charAt(first)) {
+			first++;
+		}
+
+		if (first == length) {
+			return text.toString();
+		}
+
+		final char[] chars = new char[length];
+
+		for (int i = 0; i < length; i++) {
+			chars[i] = text.charAt(i);
+		}
+
+		final int count = normalize(chars, first, length - first);
+
+		return new String(chars, 0, first + count);
+	}
+
+	/**
+	 * <p>
+	 * Escreve o valor normalizado como um campo de tamanho fixo diretamente no
+	 * array de destino (ex.: buffer de uma linha de remessa), em uma única
+	 * passagem: remove acentos, símbolos, converte para maiúsculas, trunca e
+	 * preenche até <code>width</code> posições. Substitui a sequência
+	 * "preencher, remover acentos, converter para maiúsculas" que cria uma
+	 * nova <code>String</code> a cada etapa.
+	 * </p>
+	 * <p>
+	 * Caso o valor normalizado seja maior que o campo, são mantidos os
+	 * caracteres mais à esquerda quando o preenchimento é à direita e os mais
+	 * à direita quando o preenchimento é à esquerda (ex.: <tt>"12345"</tt> em
+	 * 3 posições resulta em <tt>"345"</tt>), preservando a parte menos
+	 * significativa dos campos numéricos. O caractere de preenchimento é
+	 * escrito como informado, sem normalização.
+	 * </p>
+	 * 
+	 * <pre>
+	 * DEFAULT.fill(&quot;São João&quot;, 10, ' ', SideToFill.RIGHT, line, 0) =&gt; &quot;SAO JOAO  &quot;
+	 * DEFAULT.fill(&quot;12.345&quot;, 8, '0', SideToFill.LEFT, line, 0) =&gt; &quot;00012345&quot;
+	 * </pre>
+	 * 
+	 * @param value
+	 *            - Valor do campo, <code>null</code> é tratado como vazio.
+	 * @param width
+	 *            - Tamanho do campo.
+	 * @param padding
+	 *            - Caractere de preenchimento.
+	 * @param side
+	 *            - Lado do preenchimento.
+	 * @param dest
+	 *            - Array de destino.
+	 * @param offset
+	 *            - Posição inicial do campo no destino.
+	 * @return posição seguinte ao campo (<code>offset + width</code>).
+	 * 
+	 * @since 0.2
+	 */
+	public int fill(CharSequence value, int width, char padding,
+			SideToFill side, char[] dest, int offset) {
+
+		final int end = offset + width;
+
+		if (side == SideToFill.LEFT) {
+
+			int pos = end;
+
+			if (value != null) {
+
+				for (int i = value.length() - 1; i >= 0 && pos > offset; i--) {
+
+					final int c = normalize(value.charAt(i));
+
+					if (c != REMOVED) {
+						dest[--pos] = (char) c;
+					}
+				}
+			}
+
+			while (pos > offset) {
+				dest[--pos] = padding;
+			}
+
+		} else {
+
+			int pos = offset;
+
+			if (value != null) {
+
+				for (int i = 0, length = value.length(); i < length && pos < end; i++) {
+
+					final int c = normalize(value.charAt(i));
+
+					if (c != REMOVED) {
+						dest[pos++] = (char) c;
+					}
+				}
+			}
+
+			while (pos < end) {
+				dest[pos++] = padding;
+			}
+		}
+
+		return end;
+	}
+
+	/**
+	 * <p>
+	 * Acrescenta o valor normalizado como um campo de tamanho fixo ao
+	 * <code>StringBuilder</code>, nas mesmas condições de
+	 * {@linkplain #fill(CharSequence, int, char, SideToFill, char[], int)}.
+	 * </p>
+	 * 
+	 * @param value
+	 *            - Valor do campo, <code>null</code> é tratado como vazio.
+	 * @param width
+	 *            - Tamanho do campo.
+	 * @param padding
+	 *            - Caractere de preenchimento.
+	 * @param side
+	 *            - Lado do preenchimento.
+	 * @param out
+	 *            - Destino.
+	 * @return destino - O próprio <code>out</code>.
+	 * 
+	 * @since 0.2
+	 */
+	public StringBuilder fill(CharSequence value, int width, char padding,
+			SideToFill side, StringBuilder out) {
+
+		final int start = out.length();
+		final int end = start + width;
+
+		out.setLength(end);
+
+		if (side == SideToFill.LEFT) {
+
+			int pos = end;
+
+			if (value != null) {
+
+				for (int i = value.length() - 1; i >= 0 && pos > start; i--) {
+
+					final int c = normalize(value.charAt(i));
+
+					if (c != REMOVED) {
+						out.setCharAt(--pos, (char) c);
+					}
+				}
+			}
+
+			while (pos > start) {
+				out.setCharAt(--pos, padding);
+			}
+
+		} else {
+
+			int pos = start;
+
+			if (value != null) {
+
+				for (int i = 0, length = value.length(); i < length && pos < end; i++) {
+
+					final int c = normalize(value.charAt(i));
+
+					if (c != REMOVED) {
+						out.setCharAt(pos++, (char) c);
+					}
+				}
+			}
+
+			while (pos < end) {
+				out.setCharAt(pos++, padding);
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * @return <code>true</code> se a acentuação é removida.
+	 */
+	public boolean isEliminateAccent() {
+
+		return eliminateAccent;
+	}
+
+	/**
+	 * @return removedor de símbolos ou <code>null</code> caso os símbolos sejam
+	 *         mantidos.
+	 */
+	public SymbolStripper getSymbolStripper() {
+
+		return symbolStripper;
+	}
+
+	/**
+	 * @return <code>true</code> se o texto é convertido para letras
+	 *         maiúsculas.
+	 */
+	public boolean isUpperCase() {
+
+		return upperCase;
+	}
+
+	private static char toUpperCase(char c) {
+
+		if (c < 0x80) {
+			return (c >= 'a' && c <= 'z') ? (char) (c - ('a' - 'A')) : c;
+		}
+
+		return Character.toUpperCase(c);
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:05:59
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:05:59
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.LSHL;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+import static jdk.incubator.vector.VectorOperators.NE;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_GE;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_GT;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * Kernel de texto vetorial (Vector API), compilado apenas para a camada Java
+ * 17 do jar <i>multi-release</i>.
+ * </p>
+ * <p>
+ * Cada bloco de caracteres é analisado de uma só vez. Blocos que não precisam
+ * de alteração (sem acentos, sem símbolos) são descartados ou copiados
+ * inteiros; os demais, assim como o final do trecho, são tratados pela
+ * implementação escalar, o que garante resultados idênticos.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+final class VectorTextKernel implements TextKernel {
+
+	private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+	private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Caso a plataforma não tenha registradores vetoriais de ao
+	 *             menos 128 bits, situação em que a Vector API seria emulada e
+	 *             mais lenta que o kernel escalar.
+	 */
+	VectorTextKernel() {
+
+		if (CHARS.vectorBitSize() < 128) {
+			throw new UnsupportedOperationException(
+					"Vector API sem suporte de hardware!");
+		}
+	}
+
+	public void eliminateAccent(char[] chars, int offset, int length) {
+
+		final int step = CHARS.length();
+		final int bound = offset + CHARS.loopBound(length);
+
+		int i = offset;
+
+		for (; i < bound; i += step) {
+
+			final ShortVector block = ShortVector.fromCharArray(CHARS, chars, i);
+
+			if (block.compare(UNSIGNED_GE, (short) Strings.FIRST_ACCENTED_CHAR).anyTrue()) {
+				Strings.eliminateAccentScalar(chars, i, step);
+			}
+		}
+
+		Strings.eliminateAccentScalar(chars, i, offset + length - i);
+	}
+
+	public boolean isDigits(byte[] bytes, int offset, int length) {
+
+		if (length < BYTES.length()) {
+			return Digits.isDigitsScalar(bytes, offset, length);
+		}
+
+		final int step = BYTES.length();
+		final int bound = offset + BYTES.loopBound(length);
+
+		int i = offset;
+
+		for (; i < bound; i += step) {
+
+			final ByteVector block = ByteVector.fromArray(BYTES, bytes, i);
+
+			if (block.sub((byte) '0').compare(UNSIGNED_GT, (byte) 9).anyTrue()) {
+				return false;
+			}
+		}
+
+		return i == offset + length
+				|| Digits.isDigitsScalar(bytes, i, offset + length - i);
+	}
+
+	public boolean isDigits(char[] chars, int offset, int length) {
+
+		if (length < CHARS.length()) {
+			return Digits.isDigitsScalar(chars, offset, length);
+		}
+
+		final int step = CHARS.length();
+		final int bound = offset + CHARS.loopBound(length);
+
+		int i = offset;
+
+		for (; i < bound; i += step) {
+
+			final ShortVector block = ShortVector.fromCharArray(CHARS, chars, i);
+
+			if (block.sub((short) '0').compare(UNSIGNED_GT, (short) 9).anyTrue()) {
+				return false;
+			}
+		}
+
+		return i == offset + length
+				|| Digits.isDigitsScalar(chars, i, offset + length - i);
+	}
+
+	/**
+	 * Um caractere ASCII <code>c</code> é símbolo se o bit <code>c &amp; 15</code>
+	 * da linha <code>c &gt;&gt; 4</code> do mapa de bits estiver ligado. As
+	 * linhas são selecionadas por comparação (no máximo 8) e o bit por
+	 * deslocamento, ambos para todo o bloco de uma só vez.
+	 */
+	public int strip(SymbolStripper stripper, char[] chars, int offset,
+			int length) {
+
+		if (length < CHARS.length()) {
+			return stripper.stripScalar(chars, offset, length);
+		}
+
+		final ShortVector zero = ShortVector.zero(CHARS);
+		final ShortVector one = ShortVector.broadcast(CHARS, (short) 1);
+
+		final int step = CHARS.length();
+		final int bound = offset + CHARS.loopBound(length);
+
+		int count = offset;
+		int i = offset;
+
+		for (; i < bound; i += step) {
+
+			final ShortVector block = ShortVector.fromCharArray(CHARS, chars, i);
+			final ShortVector high = block.lanewise(LSHR, 4);
+
+			ShortVector row = zero;
+
+			for (int r = 0; r < SymbolStripper.ASCII_ROWS; r++) {
+
+				final short bits = stripper.asciiRow(r);
+
+				if (bits != 0) {
+					row = row.blend(bits, high.compare(EQ, (short) r));
+				}
+			}
+
+			final ShortVector bit = one.lanewise(LSHL, block.and((short) 0xF));
+
+			final VectorMask<Short> slow = block.compare(UNSIGNED_GE, (short) 0x80)
+					.or(row.and(bit).compare(NE, (short) 0));
+
+			if (slow.anyTrue()) {
+
+				count = compact(stripper, chars, i, i + step, count);
+
+			} else {
+
+				if (count != i) {
+					block.intoCharArray(chars, count);
+				}
+
+				count += step;
+			}
+		}
+
+		return compact(stripper, chars, i, offset + length, count) - offset;
+	}
+
+	/**
+	 * Copia os caracteres de <code>[from, to)</code> que não são símbolos para
+	 * a partir de <code>count</code> (nunca posterior a <code>from</code>).
+	 */
+	private static int compact(SymbolStripper stripper, char[] chars,
+			int from, int to, int count) {
+
+		for (int i = from; i < to; i++) {
+
+			final char c = chars[i];
+
+			if (!stripper.isSymbol(c)) {
+				chars[count++] = c;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public String toString() {
+
+		return "vector[" + CHARS.vectorBitSize() + " bits]";
+	}
+}
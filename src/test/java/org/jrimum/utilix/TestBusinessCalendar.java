@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:43:45
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:43:45
+ *
+ */
+
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o calendário de dias úteis.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestBusinessCalendar {
+
+	private static final BusinessCalendar NATIONAL = BusinessCalendar.NATIONAL;
+
+	@Test
+	public void testEaster() {
+
+		assertEquals(day(2000, 4, 23), BusinessCalendar.easter(2000));
+		assertEquals(day(2024, 3, 31), BusinessCalendar.easter(2024));
+		assertEquals(day(2025, 4, 20), BusinessCalendar.easter(2025));
+		assertEquals(day(2026, 4, 5), BusinessCalendar.easter(2026));
+	}
+
+	@Test
+	public void testIsBusinessDay() {
+
+		assertTrue(NATIONAL.isBusinessDay(day(2025, 2, 28)));
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 3, 1))); // sábado
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 3, 2))); // domingo
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 3, 3))); // Carnaval
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 3, 4))); // Carnaval
+		assertTrue(NATIONAL.isBusinessDay(day(2025, 3, 5)));
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 4, 18))); // Sexta-feira Santa
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 6, 19))); // Corpus Christi
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 4, 21)));
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 12, 25)));
+	}
+
+	@Test
+	public void testConscienciaNegra() {
+
+		assertTrue(NATIONAL.isBusinessDay(day(2023, 11, 20)));
+		assertFalse(NATIONAL.isBusinessDay(day(2024, 11, 20)));
+		assertFalse(NATIONAL.isBusinessDay(day(2025, 11, 20)));
+	}
+
+	@Test
+	public void testNextBusinessDay() {
+
+		assertEquals(day(2025, 2, 28), NATIONAL.nextBusinessDay(day(2025, 2, 28)));
+		assertEquals(day(2025, 3, 5), NATIONAL.nextBusinessDay(day(2025, 3, 1)));
+		assertEquals(day(2025, 2, 28), NATIONAL.previousBusinessDay(day(2025, 3, 4)));
+		assertEquals(day(2025, 3, 5), NATIONAL.previousBusinessDay(day(2025, 3, 5)));
+	}
+
+	@Test
+	public void testAddBusinessDays() {
+
+		assertEquals(day(2025, 3, 5), NATIONAL.addBusinessDays(day(2025, 2, 27), 2));
+		assertEquals(day(2025, 2, 28), NATIONAL.addBusinessDays(day(2025, 3, 5), -1));
+		assertEquals(day(2025, 3, 5), NATIONAL.addBusinessDays(day(2025, 3, 1), 0));
+		assertEquals(day(2025, 3, 5), NATIONAL.addBusinessDays(day(2025, 3, 1), 1));
+		assertEquals(day(2025, 2, 28), NATIONAL.addBusinessDays(day(2025, 3, 1), -1));
+	}
+
+	@Test
+	public void testBusinessDaysBetween() {
+
+		assertEquals(2, NATIONAL.businessDaysBetween(day(2025, 2, 27), day(2025, 3, 5)));
+		assertEquals(-2, NATIONAL.businessDaysBetween(day(2025, 3, 5), day(2025, 2, 27)));
+		assertEquals(0, NATIONAL.businessDaysBetween(day(2025, 2, 28), day(2025, 3, 4)));
+	}
+
+	@Test
+	public void testWith() {
+
+		final BusinessCalendar saoPaulo = NATIONAL.with(
+				BusinessCalendar.annual(1, 25), BusinessCalendar.annual(7, 9));
+
+		assertTrue(NATIONAL.isBusinessDay(day(2027, 1, 25)));
+		assertFalse(saoPaulo.isBusinessDay(day(2027, 1, 25)));
+		assertEquals(day(2027, 1, 26), saoPaulo.nextBusinessDay(day(2027, 1, 25)));
+
+		final BusinessCalendar decreto = saoPaulo.with(BusinessCalendar.dates(day(2027, 1, 26)));
+
+		assertEquals(day(2027, 1, 27), decreto.nextBusinessDay(day(2027, 1, 25)));
+		assertEquals(NATIONAL.getFirstYear(), decreto.getFirstYear());
+		assertEquals(NATIONAL.getLastYear(), decreto.getLastYear());
+	}
+
+	@Test
+	public void testEquivalenteAoCalculoDiaADia() {
+
+		final Random random = new Random(20261017L);
+		final int first = day(2000, 1, 1);
+		final int last = day(2098, 12, 1);
+
+		for (int n = 0; n < 20000; n++) {
+
+			final int from = first + random.nextInt(last - first);
+			final int to = from + random.nextInt(60) - 30;
+			final int days = random.nextInt(41) - 20;
+
+			int count = 0;
+
+			for (int d = Math.min(from, to) + 1; d <= Math.max(from, to); d++) {
+				if (NATIONAL.isBusinessDay(d)) {
+					count++;
+				}
+			}
+
+			assertEquals(from < to ? count : -count, NATIONAL.businessDaysBetween(from, to));
+
+			int expected = from;
+
+			while (!NATIONAL.isBusinessDay(expected)) {
+				expected++;
+			}
+
+			assertEquals(expected, NATIONAL.nextBusinessDay(from));
+
+			expected = from;
+
+			for (int i = 0; i < Math.abs(days); i++) {
+				do {
+					expected += Integer.signum(days);
+				} while (!NATIONAL.isBusinessDay(expected));
+			}
+
+			if (days != 0) {
+				assertEquals(expected, NATIONAL.addBusinessDays(from, days));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testForaDoCalendario() {
+
+		NATIONAL.isBusinessDay(day(1996, 12, 31));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testResultadoForaDoCalendario() {
+
+		NATIONAL.addBusinessDays(day(2099, 12, 30), 5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIntervaloInvalido() {
+
+		BusinessCalendar.of(2030, 2020);
+	}
+
+	private static int day(int year, int month, int dayOfMonth) {
+
+		return (int) EpochDays.of(year, month, dayOfMonth);
+	}
+}
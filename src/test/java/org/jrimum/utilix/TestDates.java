@@ -30,12 +30,18 @@
 package org.jrimum.utilix;
 import static org.jrimum.utilix.text.DateFormat.DDMMYYYY_B;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
 
+import org.apache.commons.lang.time.DateUtils;
+import org.jrimum.utilix.text.CompiledDateFormat;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -95,6 +101,18 @@ public class TestDates {
 		Dates.calculeDiferencaEmDias(dataInicial, null);
 	}
 
+	@Test
+	public void testCalculeDiferencaEmDiasHorarioDeVerao() {
+		TimeZone fuso = TimeZone.getTimeZone("America/Sao_Paulo");
+		Calendar calendar = Calendar.getInstance(fuso);
+		calendar.clear();
+		calendar.set(2018, Calendar.NOVEMBER, 3);
+		Date inicio = calendar.getTime();
+		calendar.set(2018, Calendar.NOVEMBER, 5);
+		assertEquals(2, Dates.calculeDiferencaEmDias(inicio, calendar.getTime(), fuso));
+		assertEquals(2, Dates.calculeDiferencaEmDias(calendar.getTime(), inicio, fuso));
+	}
+
 	@Test
 	public void testCalculeDiferencaEmDiasGaranteModulo() {
 
@@ -152,10 +170,102 @@ public class TestDates {
 		assertNotNull(Dates.parse(null, formato));
 	}
 
+	@Test
+	public void testParseCharSequenceString() {
+		assertEquals(Dates.parse("17/10/2026", "dd/MM/yyyy"),
+				Dates.parse(new StringBuilder("2026-10-17"), "yyyy-MM-dd"));
+		assertEquals(Dates.parse("17/10/2026", "dd/MM/yyyy"),
+				Dates.parse(new StringBuilder("17/10/2026 (sábado)"), "d/M/yyyy '(sábado)'"));
+	}
+
+	@Test
+	public void testParseStringStringFusoPadrao() throws Exception {
+		TimeZone padrao = TimeZone.getDefault();
+		long meiaNoiteUtc = EpochDays.toMillis(EpochDays.of(2026, 10, 17));
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+			Thread.sleep(CompiledDateFormat.DEFAULTS_CHECK_INTERVAL + 10);
+			assertEquals(meiaNoiteUtc + 3 * DateUtils.MILLIS_PER_HOUR,
+					Dates.parse("2026-10-17", "yyyy-MM-dd").getTime());
+			assertEquals(meiaNoiteUtc + 3 * DateUtils.MILLIS_PER_HOUR,
+					Dates.parse("17/10/2026 (sábado)", "d/M/yyyy '(sábado)'").getTime());
+			TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+			Thread.sleep(CompiledDateFormat.DEFAULTS_CHECK_INTERVAL + 10);
+			assertEquals(meiaNoiteUtc, Dates.parse("2026-10-17", "yyyy-MM-dd").getTime());
+			assertEquals(meiaNoiteUtc,
+					Dates.parse("17/10/2026 (sábado)", "d/M/yyyy '(sábado)'").getTime());
+		} finally {
+			TimeZone.setDefault(padrao);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseCharSequenceStringIllegalArgumentException() {
+		Dates.parse(new StringBuilder("2026/10/17"), "yyyy-MM-dd");
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testParseStringStringIllegalArgumentException() {
 		assertNotNull(Dates.parse("", "yyyy-MM-dd"));
 		assertNotNull(Dates.parse("01/01/2000", ""));
 		assertNotNull(Dates.parse("01/01/2000", "yyyy-MM-dd"));
 	}
+
+	@Test
+	public void testInvalidDate() {
+		assertTrue(Dates.equalsInvalidDate(Dates.INVALID_DATE));
+		assertTrue(Dates.equalsInvalidDate(Dates.invalidDate()));
+		assertTrue(Dates.isInvalidDate(Dates.INVALID_DATE.getTime()));
+		assertFalse(Dates.isInvalidDate(0));
+		assertNotSame(Dates.invalidDate(), Dates.invalidDate());
+		Date date = Dates.invalidDate();
+		date.setTime(0);
+		assertTrue(Dates.isInvalidDate(Dates.invalidDate().getTime()));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testInvalidDateImutavel() {
+		Dates.INVALID_DATE.setTime(0);
+	}
+
+	@Test
+	public void testTruncarDataComFuso() {
+		TimeZone fuso = TimeZone.getTimeZone("America/Sao_Paulo");
+		Calendar calendar = Calendar.getInstance(fuso);
+		calendar.clear();
+		calendar.set(2026, Calendar.OCTOBER, 17);
+		Date inicio = calendar.getTime();
+		calendar.set(2026, Calendar.OCTOBER, 17, 23, 59, 59);
+		assertEquals(inicio, Dates.truncarData(calendar.getTime(), fuso));
+		assertEquals(inicio.getTime(), Dates.truncarData(inicio.getTime(), fuso));
+		// Início do horário de verão de 2018: 04/11 começa às 01:00.
+		calendar.set(2018, Calendar.NOVEMBER, 4, 12, 0, 0);
+		assertEquals(DateUtils.truncate(calendar, Calendar.DATE).getTime(),
+				Dates.truncarData(calendar.getTime(), fuso));
+		calendar.set(2018, Calendar.NOVEMBER, 4, 1, 0, 0);
+		assertEquals(calendar.getTime(), Dates.truncarData(calendar.getTime(), fuso));
+	}
+
+	@Test
+	public void testTruncarDataEquivalenteAoCalendar() {
+		Random random = new Random(20261017L);
+		long de = -2208988800000L; // 1900
+		long ate = 4102444800000L; // 2100
+		for (String id : new String[] { "America/Sao_Paulo", "UTC", "America/New_York",
+				"Europe/London", "America/Havana", "Asia/Tehran", "Pacific/Apia", "Asia/Kolkata" }) {
+			TimeZone fuso = TimeZone.getTimeZone(id);
+			Calendar calendar = Calendar.getInstance(fuso);
+			for (int i = 0; i < 20000; i++) {
+				long millis = de + (long) (random.nextDouble() * (ate - de));
+				calendar.setTimeInMillis(millis);
+				assertEquals(id + " " + millis, DateUtils.truncate(calendar, Calendar.DATE).getTimeInMillis(),
+						Dates.truncarData(millis, fuso));
+			}
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testTruncarDataFusoNull() {
+		Dates.truncarData(0L, null);
+	}
 }
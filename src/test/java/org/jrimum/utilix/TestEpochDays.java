@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:09:35
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:09:35
+ *
+ */
+
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para a aritmética de epoch days.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestEpochDays {
+
+	@Test
+	public void testOf() {
+
+		assertEquals(0, EpochDays.of(1970, 1, 1));
+		assertEquals(-1, EpochDays.of(1969, 12, 31));
+		assertEquals(10141, EpochDays.of(1997, 10, 7));
+		assertEquals(20141, EpochDays.of(2025, 2, 22));
+		assertEquals(11016, EpochDays.of(2000, 2, 29));
+	}
+
+	@Test
+	public void testOfLeniente() {
+
+		assertEquals(EpochDays.of(2025, 3, 3), EpochDays.of(2025, 2, 31));
+		assertEquals(EpochDays.of(2024, 3, 2), EpochDays.of(2024, 2, 31));
+		assertEquals(EpochDays.of(2026, 1, 15), EpochDays.of(2025, 13, 15));
+		assertEquals(EpochDays.of(2024, 12, 15), EpochDays.of(2025, 0, 15));
+		assertEquals(EpochDays.of(2025, 1, 31), EpochDays.of(2025, 2, 0));
+		assertEquals(EpochDays.of(2023, 11, 1), EpochDays.of(2025, -13, 1));
+	}
+
+	@Test
+	public void testEquivalenteAoCalendar() {
+
+		final GregorianCalendar calendar = new GregorianCalendar(TimeZone
+				.getTimeZone("UTC"));
+
+		// Gregoriano proléptico.
+		calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+		calendar.clear();
+		calendar.set(1, Calendar.JANUARY, 1);
+
+		final long first = EpochDays.ofMillis(calendar.getTimeInMillis());
+
+		for (long day = first; day < first + 4000000; day += 7) {
+
+			calendar.setTimeInMillis(EpochDays.toMillis(day));
+
+			final int year = calendar.get(Calendar.YEAR);
+			final int month = calendar.get(Calendar.MONTH) + 1;
+			final int dayOfMonth = calendar.get(Calendar.DAY_OF_MONTH);
+
+			assertEquals(year * 10000 + month * 100 + dayOfMonth, EpochDays
+					.toYyyyMmDd(day));
+			assertEquals(day, EpochDays.of(year, month, dayOfMonth));
+			assertEquals(calendar.get(Calendar.DAY_OF_WEEK), EpochDays
+					.dayOfWeek(day));
+		}
+	}
+
+	@Test
+	public void testCampos() {
+
+		final long day = EpochDays.ofYyyyMmDd(20250222);
+
+		assertEquals(2025, EpochDays.year(day));
+		assertEquals(2, EpochDays.month(day));
+		assertEquals(22, EpochDays.dayOfMonth(day));
+		assertEquals(Calendar.SATURDAY, EpochDays.dayOfWeek(day));
+	}
+
+	@Test
+	public void testMillis() {
+
+		assertEquals(-1, EpochDays.ofMillis(-1));
+		assertEquals(0, EpochDays.ofMillis(EpochDays.MILLIS_PER_DAY - 1));
+		assertEquals(1, EpochDays.ofMillis(EpochDays.MILLIS_PER_DAY));
+		assertEquals(-EpochDays.MILLIS_PER_DAY, EpochDays.toMillis(-1));
+	}
+
+	@Test
+	public void testIsLeapYear() {
+
+		assertTrue(EpochDays.isLeapYear(2000));
+		assertTrue(EpochDays.isLeapYear(2024));
+		assertFalse(EpochDays.isLeapYear(1900));
+		assertFalse(EpochDays.isLeapYear(2025));
+	}
+
+	@Test
+	public void testDaysBetween() {
+
+		assertEquals(7, EpochDays.daysBetween(20141, 20148));
+		assertEquals(-7, EpochDays.daysBetween(20148, 20141));
+		assertEquals(0, EpochDays.daysBetween(20141, 20141));
+	}
+
+	@Test
+	public void testDaysBetweenHorarioDeVerao() {
+
+		// Início do horário de verão de 2018: 04/11 começa às 01:00.
+		final TimeZone zone = TimeZone.getTimeZone("America/Sao_Paulo");
+		final GregorianCalendar calendar = new GregorianCalendar(zone);
+
+		calendar.clear();
+		calendar.set(2018, Calendar.NOVEMBER, 3, 0, 0, 0);
+		final Date start = calendar.getTime();
+
+		calendar.set(2018, Calendar.NOVEMBER, 4, 1, 0, 0);
+		final Date dst = calendar.getTime();
+
+		calendar.set(2018, Calendar.NOVEMBER, 5, 0, 0, 0);
+		final Date end = calendar.getTime();
+
+		assertEquals(EpochDays.of(2018, 11, 4), EpochDays.of(dst, zone));
+		assertEquals(1, EpochDays.daysBetween(start, dst, zone));
+		assertEquals(2, EpochDays.daysBetween(start, end, zone));
+		assertEquals(-2, EpochDays.daysBetween(end, start, zone));
+	}
+
+	@Test
+	public void testDaysBetweenEmLote() {
+
+		final Random random = new Random(20261017L);
+		final int size = 100000;
+
+		final int[] from = new int[size];
+		final int[] to = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			from[i] = 10000 + random.nextInt(20000);
+			to[i] = 10000 + random.nextInt(20000);
+		}
+
+		final int[] sequential = new int[size];
+		final int[] parallel = new int[size];
+
+		EpochDays.daysBetween(from, to, sequential);
+		EpochDays.parallelDaysBetween(from, to, parallel);
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(to[i] - from[i], sequential[i]);
+		}
+
+		assertArrayEquals(sequential, parallel);
+
+		EpochDays.daysBetween(from, 20148, sequential);
+		EpochDays.parallelDaysBetween(from, 20148, parallel);
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(20148 - from[i], sequential[i]);
+		}
+
+		assertArrayEquals(sequential, parallel);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDaysBetweenEmLoteTamanhosDiferentes() {
+
+		EpochDays.daysBetween(new int[2], new int[2], new int[3]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDaysBetweenEmLoteFromNulo() {
+
+		EpochDays.daysBetween(null, 20148, new int[2]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParallelDaysBetweenEmLoteFromNulo() {
+
+		EpochDays.parallelDaysBetween(null, 20148, new int[2]);
+	}
+}
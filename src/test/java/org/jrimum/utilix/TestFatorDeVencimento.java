@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:41:23
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:41:23
+ *
+ */
+
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o cálculo do fator de vencimento.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestFatorDeVencimento {
+
+	@Test
+	public void testCalcule() {
+
+		assertEquals(0, FatorDeVencimento.calcule(day(1997, 10, 7)));
+		assertEquals(999, FatorDeVencimento.calcule(day(2000, 7, 2)));
+		assertEquals(1000, FatorDeVencimento.calcule(day(2000, 7, 3)));
+		assertEquals(1002, FatorDeVencimento.calcule(day(2000, 7, 5)));
+		assertEquals(1667, FatorDeVencimento.calcule(day(2002, 5, 1)));
+		assertEquals(9999, FatorDeVencimento.calcule(day(2025, 2, 21)));
+	}
+
+	@Test
+	public void testCalculeAposReinicio() {
+
+		assertEquals(1000, FatorDeVencimento.calcule(day(2025, 2, 22)));
+		assertEquals(1001, FatorDeVencimento.calcule(day(2025, 2, 23)));
+		assertEquals(1237, FatorDeVencimento.calcule(day(2025, 10, 17)));
+		assertEquals(9999, FatorDeVencimento.calcule(day(2025, 2, 21) + 9000));
+		assertEquals(1000, FatorDeVencimento.calcule(day(2025, 2, 22) + 9000));
+	}
+
+	@Test
+	public void testCalculeDate() {
+
+		final TimeZone zone = TimeZone.getTimeZone("America/Sao_Paulo");
+		final GregorianCalendar calendar = new GregorianCalendar(zone);
+
+		calendar.clear();
+		calendar.set(2025, 1, 22, 23, 59, 59);
+
+		assertEquals(1000, FatorDeVencimento.calcule(calendar.getTime(), zone));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCalculeAnteriorADataBase() {
+
+		FatorDeVencimento.calcule(day(1997, 10, 6));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCalculeDateNull() {
+
+		FatorDeVencimento.calcule(null, TimeZone.getDefault());
+	}
+
+	@Test
+	public void testCalculeEmLote() {
+
+		final int[] vencimentos = { day(2000, 7, 3), day(2025, 2, 21), day(2025, 2, 22) };
+		final int[] fatores = new int[3];
+
+		FatorDeVencimento.calcule(vencimentos, fatores);
+
+		assertArrayEquals(new int[] { 1000, 9999, 1000 }, fatores);
+	}
+
+	@Test
+	public void testFormatTo() {
+
+		final char[] chars = new char[6];
+
+		assertEquals(5, FatorDeVencimento.formatTo(day(2000, 1, 1), chars, 1));
+		assertEquals("0816", new String(chars, 1, 4));
+
+		FatorDeVencimento.formatTo(day(2025, 2, 22), chars, 2);
+		assertEquals("1000", new String(chars, 2, 4));
+	}
+
+	@Test
+	public void testVencimento() {
+
+		assertEquals(day(2025, 2, 22), FatorDeVencimento.vencimento(1000, day(2025, 3, 1)));
+		assertEquals(day(2000, 7, 3), FatorDeVencimento.vencimento(1000, day(2000, 7, 3)));
+		assertEquals(day(2025, 2, 21), FatorDeVencimento.vencimento(9999, day(2025, 3, 1)));
+		assertEquals(day(2000, 7, 3), FatorDeVencimento.vencimento(1000, day(1990, 1, 1)));
+		assertEquals(day(1999, 1, 1), FatorDeVencimento.vencimento(
+				FatorDeVencimento.calcule(day(1999, 1, 1)), day(2030, 1, 1)));
+	}
+
+	@Test
+	public void testVencimentoInversoDoCalcule() {
+
+		final Random random = new Random(20261017L);
+
+		for (int i = 0; i < 100000; i++) {
+
+			final int referencia = day(2000, 7, 3) + random.nextInt(40000);
+			final int vencimento = referencia - 4499 + random.nextInt(9000);
+
+			if (vencimento >= FatorDeVencimento.INICIO_DOS_CICLOS) {
+				assertEquals(vencimento, FatorDeVencimento.vencimento(
+						FatorDeVencimento.calcule(vencimento), referencia));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testVencimentoFatorInvalido() {
+
+		FatorDeVencimento.vencimento(10000, day(2025, 3, 1));
+	}
+
+	@Test
+	public void testCandidatos() {
+
+		assertArrayEquals(new int[] { day(2000, 7, 3), day(2025, 2, 22), day(2025, 2, 22) + 9000 },
+				FatorDeVencimento.candidatos(1000, day(1997, 1, 1), day(2060, 1, 1)));
+		assertArrayEquals(new int[] { day(2025, 2, 22) },
+				FatorDeVencimento.candidatos(1000, day(2025, 2, 22), day(2025, 2, 22)));
+		assertArrayEquals(new int[0],
+				FatorDeVencimento.candidatos(1000, day(2025, 2, 23), day(2049, 1, 1)));
+		assertArrayEquals(new int[] { day(1998, 7, 3) },
+				FatorDeVencimento.candidatos(269, day(1997, 1, 1), day(2060, 1, 1)));
+	}
+
+	private static int day(int year, int month, int dayOfMonth) {
+
+		return (int) EpochDays.of(year, month, dayOfMonth);
+	}
+}
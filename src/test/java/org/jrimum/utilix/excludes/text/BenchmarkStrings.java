@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:50:56
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:50:56
+ *
+ */
+
+package org.jrimum.utilix.excludes.text;
+
+import static org.apache.commons.lang.StringUtils.EMPTY;
+import static org.apache.commons.lang.StringUtils.replace;
+import static org.apache.commons.lang.StringUtils.replaceChars;
+import static org.apache.commons.lang.StringUtils.rightPad;
+import static org.apache.commons.lang.StringUtils.substring;
+
+import org.jrimum.utilix.text.SideToFill;
+import org.jrimum.utilix.text.Strings;
+import org.jrimum.utilix.text.TextNormalizer;
+
+/**
+ * <p>
+ * Benchmark (fora da suíte de testes) das operações de {@linkplain Strings}
+ * comparadas com as implementações anteriores. Execução:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.jrimum.utilix.excludes.text.BenchmarkStrings
+ * </pre>
+ *
+ * @since 0.2
+ *
+ * @version 0.2
+ */
+public class BenchmarkStrings {
+
+	private static final int ROUNDS = 5;
+
+	private static final int ITERATIONS = 200000;
+
+	private static final String[] FIELDS = {
+			"JOSÉ DA CONCEIÇÃO",
+			"RUA SÃO JOÃO, 123 - APTO 401",
+			"MARIA APARECIDA DOS SANTOS",
+			"AV. GUARARAPES, 1500",
+			"João Pessoa",
+			"00000000000012345",
+			"Pagamento referente à prestação nº 12 de 24",
+			"ITAÚ UNIBANCO S.A." };
+
+	private static final char[] LINE = new char[240];
+
+	/**
+	 * Mesmas etapas de <code>Field.write()</code>: acentos e maiúsculas.
+	 */
+	private static final TextNormalizer FIELD_NORMALIZER = new TextNormalizer(
+			true, null, true);
+
+	private static volatile Object sink;
+
+	public static void main(String[] args) {
+
+		for (int round = 1; round <= ROUNDS; round++) {
+
+			System.out.println("Rodada " + round);
+
+			run("eliminateAccent (anterior)", new Task() {
+				public Object run(String value) {
+					return previousEliminateAccent(value);
+				}
+			});
+
+			run("eliminateAccent", new Task() {
+				public Object run(String value) {
+					return Strings.eliminateAccent(value);
+				}
+			});
+
+			run("eliminateSymbols (anterior)", new Task() {
+				public Object run(String value) {
+					return previousEliminateSymbols(value);
+				}
+			});
+
+			run("eliminateSymbols", new Task() {
+				public Object run(String value) {
+					return Strings.eliminateSymbols(value);
+				}
+			});
+
+			run("fill + eliminateAccent + toUpperCase", new Task() {
+				public Object run(String value) {
+					return Strings.eliminateAccent(
+							rightPad(substring(value, 0, 30), 30)).toUpperCase();
+				}
+			});
+
+			run("TextNormalizer.fill", new Task() {
+				public Object run(String value) {
+					return FIELD_NORMALIZER.fill(value, 30, ' ',
+							SideToFill.RIGHT, LINE, 0);
+				}
+			});
+		}
+	}
+
+	private static void run(String name, Task task) {
+
+		final long start = System.nanoTime();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			for (String field : FIELDS) {
+				sink = task.run(field);
+			}
+		}
+
+		final long elapsed = System.nanoTime() - start;
+
+		System.out.println(String.format("  %-40s %8.1f ns/op", name,
+				(double) elapsed / (ITERATIONS * FIELDS.length)));
+	}
+
+	private interface Task {
+
+		Object run(String value);
+	}
+
+	/**
+	 * Implementação anterior de <code>Strings.eliminateAccent</code>, mantida
+	 * aqui apenas como referência de desempenho.
+	 */
+	static String previousEliminateAccent(final String value) {
+
+		String modifiedValue = value;
+
+		modifiedValue = replaceChars(modifiedValue, 'ç', 'c');
+		modifiedValue = replaceChars(modifiedValue, 'Ç', 'C');
+		modifiedValue = replaceChars(modifiedValue, 'à', 'a');
+		modifiedValue = replaceChars(modifiedValue, 'á', 'a');
+		modifiedValue = replaceChars(modifiedValue, 'â', 'a');
+		modifiedValue = replaceChars(modifiedValue, 'ã', 'a');
+		modifiedValue = replaceChars(modifiedValue, 'ä', 'a');
+		modifiedValue = replaceChars(modifiedValue, 'è', 'e');
+		modifiedValue = replaceChars(modifiedValue, 'é', 'e');
+		modifiedValue = replaceChars(modifiedValue, 'ê', 'e');
+		modifiedValue = replaceChars(modifiedValue, 'ë', 'e');
+		modifiedValue = replaceChars(modifiedValue, 'ì', 'i');
+		modifiedValue = replaceChars(modifiedValue, 'í', 'i');
+		modifiedValue = replaceChars(modifiedValue, 'î', 'i');
+		modifiedValue = replaceChars(modifiedValue, 'ï', 'i');
+		modifiedValue = replaceChars(modifiedValue, 'ò', 'o');
+		modifiedValue = replaceChars(modifiedValue, 'ó', 'o');
+		modifiedValue = replaceChars(modifiedValue, 'ô', 'o');
+		modifiedValue = replaceChars(modifiedValue, 'õ', 'o');
+		modifiedValue = replaceChars(modifiedValue, 'ö', 'o');
+		modifiedValue = replaceChars(modifiedValue, 'ù', 'u');
+		modifiedValue = replaceChars(modifiedValue, 'ú', 'u');
+		modifiedValue = replaceChars(modifiedValue, 'û', 'u');
+		modifiedValue = replaceChars(modifiedValue, 'ü', 'u');
+		modifiedValue = replaceChars(modifiedValue, 'À', 'A');
+		modifiedValue = replaceChars(modifiedValue, 'Á', 'A');
+		modifiedValue = replaceChars(modifiedValue, 'Â', 'A');
+		modifiedValue = replaceChars(modifiedValue, 'Ã', 'A');
+		modifiedValue = replaceChars(modifiedValue, 'Ä', 'A');
+		modifiedValue = replaceChars(modifiedValue, 'È', 'E');
+		modifiedValue = replaceChars(modifiedValue, 'É', 'E');
+		modifiedValue = replaceChars(modifiedValue, 'Ê', 'E');
+		modifiedValue = replaceChars(modifiedValue, 'Ë', 'E');
+		modifiedValue = replaceChars(modifiedValue, 'Ì', 'I');
+		modifiedValue = replaceChars(modifiedValue, 'Í', 'I');
+		modifiedValue = replaceChars(modifiedValue, 'Î', 'I');
+		modifiedValue = replaceChars(modifiedValue, 'Ï', 'I');
+		modifiedValue = replaceChars(modifiedValue, 'Ò', 'O');
+		modifiedValue = replaceChars(modifiedValue, 'Ó', 'O');
+		modifiedValue = replaceChars(modifiedValue, 'Ô', 'O');
+		modifiedValue = replaceChars(modifiedValue, 'Õ', 'O');
+		modifiedValue = replaceChars(modifiedValue, 'Ö', 'O');
+		modifiedValue = replaceChars(modifiedValue, 'Ù', 'U');
+		modifiedValue = replaceChars(modifiedValue, 'Ú', 'U');
+		modifiedValue = replaceChars(modifiedValue, 'Û', 'U');
+		modifiedValue = replaceChars(modifiedValue, 'Ü', 'U');
+
+		return modifiedValue;
+	}
+
+	/**
+	 * Implementação anterior de <code>Strings.eliminateSymbols</code>, mantida
+	 * aqui apenas como referência de desempenho.
+	 */
+	static String previousEliminateSymbols(final String str) {
+
+		String modifiedStr = str;
+
+		for (char symbol : "-_=+%*@#&:.;,!?(){}[]/\\><\"'`".toCharArray()) {
+			modifiedStr = replace(modifiedStr, String.valueOf(symbol), EMPTY);
+		}
+
+		return modifiedStr;
+	}
+}
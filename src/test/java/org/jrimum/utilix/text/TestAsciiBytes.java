@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:58:06
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:58:06
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para as operações sobre bytes ASCII/Latin-1.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestAsciiBytes {
+
+	private static final String LATIN1 = "ISO-8859-1";
+
+	@Test
+	public void testEliminateAccent() throws UnsupportedEncodingException {
+
+		final byte[] bytes = "[São João Açaí ÑÿÆ]".getBytes(LATIN1);
+
+		AsciiBytes.eliminateAccent(bytes, 1, bytes.length - 2);
+
+		assertEquals("[Sao Joao Acai NyÆ]", new String(bytes, LATIN1));
+	}
+
+	@Test
+	public void testEliminateAccentByteBuffer() throws UnsupportedEncodingException {
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(8);
+
+		direct.put("ÁÉÍÓÚçãõ".getBytes(LATIN1)).flip();
+		AsciiBytes.eliminateAccent(direct);
+
+		final byte[] result = new byte[8];
+		direct.get(result);
+
+		assertEquals("AEIOUcao", new String(result, LATIN1));
+	}
+
+	@Test
+	public void testToUpperCase() throws UnsupportedEncodingException {
+
+		final byte[] bytes = "são joão ß ÿ ÷ 123".getBytes(LATIN1);
+
+		AsciiBytes.toUpperCase(bytes, 0, bytes.length);
+
+		assertEquals("SÃO JOÃO ß ÿ ÷ 123", new String(bytes, LATIN1));
+	}
+
+	@Test
+	public void testToUpperCaseByteBuffer() throws UnsupportedEncodingException {
+
+		final ByteBuffer buffer = ByteBuffer.wrap("xxabcxx".getBytes(LATIN1), 2, 3);
+
+		AsciiBytes.toUpperCase(buffer.slice());
+
+		assertEquals("xxABCxx", new String(buffer.array(), LATIN1));
+	}
+
+	@Test
+	public void testNormalize() throws UnsupportedEncodingException {
+
+		final byte[] bytes = "Rua São João, 12-A".getBytes(LATIN1);
+
+		final int length = AsciiBytes.normalize(bytes, 0, bytes.length, TextNormalizer.DEFAULT);
+
+		assertEquals("RUA SAO JOAO 12A", new String(bytes, 0, length, LATIN1));
+	}
+
+	@Test
+	public void testIsNumeric() throws UnsupportedEncodingException {
+
+		final byte[] bytes = "AB0123456789CD".getBytes(LATIN1);
+
+		assertTrue(AsciiBytes.isNumeric(bytes, 2, 10));
+		assertFalse(AsciiBytes.isNumeric(bytes, 1, 10));
+		assertFalse(AsciiBytes.isNumeric(bytes, 2, 0));
+		assertTrue(AsciiBytes.isNumeric(ByteBuffer.wrap(bytes, 2, 10)));
+		assertFalse(AsciiBytes.isNumeric(ByteBuffer.wrap(bytes)));
+	}
+
+	@Test
+	public void testFillWithZeroLeft() throws UnsupportedEncodingException {
+
+		final byte[] line = "[......]".getBytes(LATIN1);
+
+		assertEquals(7, AsciiBytes.fillWithZeroLeft(1234L, 6, line, 1));
+		assertEquals("[001234]", new String(line, LATIN1));
+	}
+
+	@Test
+	public void testFillWithZeroLeftByteBuffer() throws UnsupportedEncodingException {
+
+		final ByteBuffer heap = ByteBuffer.allocate(10);
+
+		AsciiBytes.fillWithZeroLeft(12L, 4, heap);
+		AsciiBytes.fillWithZeroLeft(345678L, 6, heap);
+
+		assertArrayEquals("0012345678".getBytes(LATIN1), heap.array());
+		assertEquals(10, heap.position());
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(5);
+
+		AsciiBytes.fillWithZeroLeft(42L, 5, direct);
+		direct.flip();
+
+		final byte[] result = new byte[5];
+		direct.get(result);
+
+		assertEquals("00042", new String(result, LATIN1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFillWithZeroLeftOverflow() {
+
+		AsciiBytes.fillWithZeroLeft(123456L, 5, new byte[5], 0);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:20:41
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:20:41
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o cache de datas formatadas e interpretadas.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestCachedDateFormat {
+
+	private static final long FROM = -2208988800000L; // 1900
+
+	private static final long TO = 4102444800000L; // 2100
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testCachedCompartilhado() {
+
+		assertSame(DateFormat.DDMMYYYY.cached(), DateFormat.DDMMYYYY.cached());
+		assertSame(DateFormat.DDMMYYYY, DateFormat.DDMMYYYY.cached().getFormat());
+		assertEquals(CachedDateFormat.DEFAULT_CAPACITY, DateFormat.DDMMYYYY
+				.cached().getCapacity());
+		assertNotSame(DateFormat.DDMMYYYY.cached(), DateFormat.DDMMYYYY.cached(16));
+		assertEquals(16, DateFormat.DDMMYYYY.cached(10).getCapacity());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCapacidadeInvalida() {
+
+		DateFormat.DDMMYYYY.cached(0);
+	}
+
+	@Test
+	public void testFormat() throws Exception {
+
+		final CachedDateFormat cache = DateFormat.DDMMYYYY_B.cached(64);
+		final Date date = DateFormat.DDMMYYYY_B.parse("22/02/2025");
+		final char[] line = new char[12];
+
+		assertEquals("22/02/2025", cache.format(date));
+		assertEquals("22/02/2025", cache.format(new Date(date.getTime() + 1000)));
+		assertEquals(11, cache.formatTo(date, line, 1));
+		assertEquals("22/02/2025", new String(line, 1, 10));
+		assertEquals("22/02/2025", cache.formatTo(date, new StringBuilder()).toString());
+		assertEquals("22/02/2025", cache.formatTo(date, (Appendable) new StringBuilder()).toString());
+		assertEquals(4, cache.getFormatHits());
+		assertEquals(1, cache.getFormatMisses());
+		assertEquals(0.8, cache.getHitRate(), 0);
+	}
+
+	@Test
+	public void testParse() {
+
+		final CachedDateFormat cache = DateFormat.DDMMYYYY.cached(64);
+		final String line = "22022025|22022025";
+
+		final Date first = cache.parse(line, 0, 8);
+		final Date second = cache.parse(line, 9, 17);
+
+		assertEquals(DateFormat.DDMMYYYY.parse("22022025"), first);
+		assertEquals(first, second);
+		assertNotSame(first, second);
+		assertEquals(1, cache.getParseHits());
+		assertEquals(1, cache.getParseMisses());
+
+		// A data devolvida pode ser alterada sem afetar o cache.
+		second.setTime(0);
+		assertEquals(first, cache.parse("22022025"));
+	}
+
+	@Test
+	public void testTryParse() {
+
+		final CachedDateFormat cache = DateFormat.DDMMYYYY.cached(64);
+
+		assertNull(cache.tryParse("XX022025", 0, 8));
+		assertNull(cache.tryParse("XX022025", 0, 8));
+		assertEquals(0, cache.getParseMisses());
+		assertEquals(DateFormat.DDMMYYYY.parse("22022025"), cache.tryParse("22022025", 0, 8));
+		assertEquals(1, cache.getParseMisses());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseInvalido() {
+
+		DateFormat.DDMMYYYY.cached(64).parse("XX022025");
+	}
+
+	@Test
+	public void testPadraoComHorarioNaoArmazenado() {
+
+		final CachedDateFormat cache = DateFormat.HHMMSS_24C.cached(64);
+		final Date date = new Date();
+
+		assertEquals(DateFormat.HHMMSS_24C.format(date), cache.format(date));
+		assertEquals(DateFormat.HHMMSS_24C.parse("10:20:30"), cache.parse("10:20:30"));
+		assertEquals(0, cache.getFormatMisses());
+		assertEquals(0, cache.getParseMisses());
+	}
+
+	@Test
+	public void testClear() {
+
+		final CachedDateFormat cache = DateFormat.YYYYMMDD.cached(64);
+
+		cache.format(new Date());
+		cache.format(new Date());
+		cache.clear();
+
+		assertEquals(0, cache.getFormatHits());
+		assertEquals(0, cache.getFormatMisses());
+		assertEquals(0, cache.getHitRate(), 0);
+
+		cache.format(new Date());
+
+		assertEquals(1, cache.getFormatMisses());
+	}
+
+	@Test
+	public void testEquivalenteAoDateFormat() {
+
+		for (DateFormat format : DateFormat.values()) {
+
+			// Capacidade pequena para forçar colisões.
+			final CachedDateFormat cache = format.cached(8);
+
+			for (int i = 0; i < 5000; i++) {
+
+				final Date date = new Date(FROM
+						+ (long) (random.nextDouble() * (TO - FROM)));
+				final String text = format.format(date);
+
+				assertEquals(format + " " + date, text, cache.format(date));
+				assertEquals(format + " " + text, format.parse(text), cache.parse(text));
+			}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:37:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:37:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jrimum.utilix.EpochDays;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o formatador de datas compilado a partir de um padrão.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestCompiledDateFormat {
+
+	private static final long FROM = -2208988800000L; // 1900
+
+	private static final long TO = 4102444800000L; // 2100
+
+	private static final String[] PATTERNS = { "yyyy-MM-dd", "dd.MM.yy",
+			"yyyyMMddHHmmss", "dd/MM/yyyy HH:mm", "hh:mm:ss",
+			"dd 'de' MMMM 'de' yyyy", "EEE, d MMM yyyy", "yyyy-MM-dd'T'HH:mm:ss.SSS" };
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testCompileCompartilhado() {
+
+		assertSame(CompiledDateFormat.compile("yyyy-MM-dd"),
+				CompiledDateFormat.compile("yyyy-MM-dd"));
+		assertEquals("dd 'de' MMMM", CompiledDateFormat.compile("dd 'de' MMMM")
+				.getPattern());
+	}
+
+	@Test
+	public void testCompileFusoPadrao() throws Exception {
+
+		final TimeZone padrao = TimeZone.getDefault();
+		final long meiaNoiteUtc = EpochDays.toMillis(EpochDays.of(2026, 10, 17));
+
+		try {
+
+			TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+			Thread.sleep(CompiledDateFormat.DEFAULTS_CHECK_INTERVAL + 10);
+
+			final CompiledDateFormat fixo = CompiledDateFormat.compile("yyyy-MM-dd");
+			final CompiledDateFormat variavel = CompiledDateFormat.compile("d/M/yyyy");
+
+			assertEquals(meiaNoiteUtc + 3 * 3600000L, fixo.parse("2026-10-17").getTime());
+			assertEquals(meiaNoiteUtc + 3 * 3600000L, variavel.parse("17/10/2026").getTime());
+
+			TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+			Thread.sleep(CompiledDateFormat.DEFAULTS_CHECK_INTERVAL + 10);
+
+			assertNotSame(fixo, CompiledDateFormat.compile("yyyy-MM-dd"));
+			assertEquals(meiaNoiteUtc, CompiledDateFormat.compile("yyyy-MM-dd").parse("2026-10-17").getTime());
+			assertEquals(meiaNoiteUtc, CompiledDateFormat.compile("d/M/yyyy").parse("17/10/2026").getTime());
+			assertEquals("2026-10-17", CompiledDateFormat.compile("yyyy-MM-dd").format(new Date(meiaNoiteUtc)));
+
+		} finally {
+			TimeZone.setDefault(padrao);
+		}
+	}
+
+	@Test
+	public void testIsFixedLength() {
+
+		assertTrue(CompiledDateFormat.compile("yyyy-MM-dd").isFixedLength());
+		assertTrue(CompiledDateFormat.compile("HH:mm:ss").isFixedLength());
+		assertFalse(CompiledDateFormat.compile("d/M/yyyy").isFixedLength());
+		assertFalse(CompiledDateFormat.compile("dd 'de' MMMM").isFixedLength());
+		assertFalse(CompiledDateFormat.compile("").isFixedLength());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompilePadraoInvalido() {
+
+		CompiledDateFormat.compile("yyyy-MM-dd b");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompileNull() {
+
+		CompiledDateFormat.compile(null);
+	}
+
+	@Test
+	public void testEquivalenteAoSimpleDateFormat() {
+
+		for (String pattern : PATTERNS) {
+
+			final CompiledDateFormat format = CompiledDateFormat.compile(pattern);
+			final SimpleDateFormat expected = format.copy();
+
+			assertEquals(pattern, new SimpleDateFormat(pattern).toPattern(),
+					expected.toPattern());
+
+			for (int i = 0; i < 2000; i++) {
+
+				final Date date = new Date(FROM + (long) (random.nextDouble() * (TO - FROM)));
+				final String text = expected.format(date);
+
+				assertEquals(pattern, text, format.format(date));
+				assertEquals(pattern, expected.parse(text, new ParsePosition(0)),
+						format.tryParse(text, 0, text.length()));
+				assertEquals(pattern, expected.parse(text, new ParsePosition(0)),
+						format.tryParse("|" + text + "|", 1, text.length() + 1));
+			}
+		}
+	}
+
+	@Test
+	public void testParse() {
+
+		assertEquals(new SimpleDateFormat("dd/MM/yyyy").format(
+				CompiledDateFormat.compile("yyyy-MM-dd").parse("2026-10-17")),
+				"17/10/2026");
+		assertNull(CompiledDateFormat.compile("yyyy-MM-dd").tryParse("17/10/2026", 0, 10));
+		assertNull(CompiledDateFormat.compile("EEE, d MMM yyyy").tryParse("2026", 0, 4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseInvalido() {
+
+		CompiledDateFormat.compile("dd 'de' MMMM 'de' yyyy").parse("17/10/2026");
+	}
+}
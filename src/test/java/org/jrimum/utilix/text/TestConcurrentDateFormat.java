@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:48:47
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:48:47
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.text.FieldPosition;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jrimum.utilix.Dates;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o substituto seguro para threads do
+ * <code>SimpleDateFormat</code>, incluindo uso concorrente.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestConcurrentDateFormat {
+
+	private static final long FROM = -2208988800000L; // 1900
+
+	private static final long TO = 4102444800000L; // 2100
+
+	private static final String[] PATTERNS = { "yyyyMMdd", "yyMMdd", "dd/MM/yyyy",
+			"dd/MM/yyyy HH:mm:ss", "dd 'de' MMMM 'de' yyyy", "d/M/yy" };
+
+	private static final int THREADS = 16;
+
+	private static final int ITERATIONS = 20000;
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testConstantesDeDates() {
+
+		assertTrue(Dates.FORMAT_YYMMDD instanceof ConcurrentDateFormat);
+		assertTrue(Dates.FORMAT_YYYYMMDD instanceof ConcurrentDateFormat);
+		assertEquals("yyyyMMdd", ((ConcurrentDateFormat) Dates.FORMAT_YYYYMMDD).toPattern());
+	}
+
+	@Test
+	public void testEquivalenteAoSimpleDateFormat() {
+
+		for (String pattern : PATTERNS) {
+
+			final ConcurrentDateFormat format = new ConcurrentDateFormat(pattern);
+			final SimpleDateFormat expected = (SimpleDateFormat) format.clone();
+
+			for (int i = 0; i < 2000; i++) {
+
+				final Date date = new Date(FROM + (long) (random.nextDouble() * (TO - FROM)));
+				final String text = expected.format(date);
+
+				assertEquals(pattern, text, format.format(date));
+				assertEquals(pattern, text, format.format((Object) date));
+
+				assertParse(pattern, expected, format, text, 0);
+				assertParse(pattern, expected, format, "|" + text, 1);
+				assertParse(pattern, expected, format, text + "1", 0);
+				assertParse(pattern, expected, format, text + "|", 0);
+			}
+
+			assertParse(pattern, expected, format, "XX", 0);
+		}
+	}
+
+	@Test
+	public void testFieldPosition() {
+
+		final ConcurrentDateFormat format = new ConcurrentDateFormat("dd/MM/yyyy");
+		final SimpleDateFormat expected = (SimpleDateFormat) format.clone();
+		final Date date = new Date();
+
+		final FieldPosition position = new FieldPosition(java.text.DateFormat.YEAR_FIELD);
+		final FieldPosition expectedPosition = new FieldPosition(java.text.DateFormat.YEAR_FIELD);
+
+		assertEquals(expected.format(date, new StringBuffer(), expectedPosition).toString(),
+				format.format(date, new StringBuffer(), position).toString());
+		assertEquals(expectedPosition, position);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testImutavel() {
+
+		Dates.FORMAT_YYYYMMDD.setTimeZone(TimeZone.getTimeZone("UTC"));
+	}
+
+	@Test
+	public void testCloneAlteravel() {
+
+		final SimpleDateFormat copy = (SimpleDateFormat) Dates.FORMAT_YYYYMMDD.clone();
+
+		copy.setLenient(false);
+
+		assertEquals("yyyyMMdd", copy.toPattern());
+		assertTrue(Dates.FORMAT_YYYYMMDD.isLenient());
+
+		Dates.FORMAT_YYYYMMDD.getCalendar().setLenient(false);
+		Dates.FORMAT_YYYYMMDD.getTimeZone().setRawOffset(1);
+
+		assertTrue(Dates.FORMAT_YYYYMMDD.isLenient());
+		assertEquals(TimeZone.getDefault().getRawOffset(), Dates.FORMAT_YYYYMMDD
+				.getTimeZone().getRawOffset());
+	}
+
+	@Test
+	public void testUsoConcorrente() throws Exception {
+
+		final java.text.DateFormat[] formats = { Dates.FORMAT_YYYYMMDD,
+				Dates.FORMAT_YYMMDD, new ConcurrentDateFormat("dd 'de' MMMM 'de' yyyy") };
+
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		try {
+
+			final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+
+			for (int t = 0; t < THREADS; t++) {
+
+				final long seed = 20261017L + t;
+
+				results.add(executor.submit(new Callable<Integer>() {
+
+					public Integer call() throws Exception {
+
+						final Random random = new Random(seed);
+						final SimpleDateFormat[] expected = new SimpleDateFormat[formats.length];
+
+						for (int i = 0; i < formats.length; i++) {
+							expected[i] = (SimpleDateFormat) formats[i].clone();
+						}
+
+						start.await();
+
+						for (int i = 0; i < ITERATIONS; i++) {
+
+							final int f = random.nextInt(formats.length);
+							final Date date = new Date(FROM + (long) (random.nextDouble() * (TO - FROM)));
+							final String text = expected[f].format(date);
+
+							assertEquals(text, formats[f].format(date));
+							assertEquals(expected[f].parse(text), formats[f].parse(text));
+						}
+
+						return ITERATIONS;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			for (Future<Integer> result : results) {
+				assertEquals(ITERATIONS, result.get().intValue());
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void assertParse(String pattern, SimpleDateFormat expected,
+			ConcurrentDateFormat format, String text, int index) {
+
+		final ParsePosition expectedPosition = new ParsePosition(index);
+		final ParsePosition position = new ParsePosition(index);
+
+		final Date expectedDate = expected.parse(text, expectedPosition);
+		final Date date = format.parse(text, position);
+
+		if (expectedDate == null) {
+			assertNull(pattern + " " + text, date);
+		} else {
+			assertEquals(pattern + " " + text, expectedDate, date);
+		}
+
+		assertEquals(pattern + " " + text, expectedPosition.getIndex(), position.getIndex());
+		assertEquals(pattern + " " + text, expectedPosition.getErrorIndex(), position.getErrorIndex());
+	}
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:09:35
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:09:35
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para os formatadores de data e seus codecs, comparados com o
+ * <code>SimpleDateFormat</code> de mesmo padrão.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestDateFormat {
+
+	/**
+	 * Fusos com e sem horário de verão, inclusive com mudança à meia-noite
+	 * (America/Sao_Paulo até 2019).
+	 */
+	private static final String[] ZONES = { "America/Sao_Paulo", "UTC",
+			"America/New_York", "Asia/Kolkata", "Australia/Lord_Howe" };
+
+	private static final long FROM = -2208988800000L; // 1900
+
+	private static final long TO = 4102444800000L; // 2100
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testFormatEParse() {
+
+		assertEquals("22/02/2025", DateFormat.DDMMYYYY_B.format(DateFormat.YYYYMMDD.parse("20250222")));
+		assertEquals("250222", DateFormat.YYMMDD.format(DateFormat.DDMMYYYY_H.parse("22-02-2025")));
+		assertEquals("12:05:09", DateFormat.HHMMSS_C.format(DateFormat.HHMMSS_24C.parse("00:05:09")));
+		assertEquals("13:05:09", DateFormat.HHMMSS_24C.format(DateFormat.HHMMSS.parse("130509")));
+	}
+
+	@Test
+	public void testParseLeniente() {
+
+		assertEquals("03/03/2025", DateFormat.DDMMYYYY_B.format(DateFormat.DDMMYYYY_B.parse("31/02/2025")));
+		assertEquals("15/01/2026", DateFormat.DDMMYYYY_B.format(DateFormat.DDMMYYYY_B.parse("15/13/2025")));
+		assertEquals("01/02/2025", DateFormat.DDMMYYYY_B.format(DateFormat.DDMMYYYY_B.parse("1/2/2025")));
+	}
+
+	@Test
+	public void testParseTrecho() {
+
+		final String line = "000123722022025X1/2/2025";
+
+		assertEquals(DateFormat.DDMMYYYY.parse("22022025"), DateFormat.DDMMYYYY.parse(line, 7, 15));
+		assertEquals(DateFormat.DDMMYYYY_B.parse("01/02/2025"), DateFormat.DDMMYYYY_B.parse(new StringBuilder(line), 16, 24));
+	}
+
+	@Test
+	public void testTryParse() {
+
+		final String line = "000123722022025X1/2/2025";
+
+		assertEquals(DateFormat.DDMMYYYY.parse("22022025"), DateFormat.DDMMYYYY.tryParse(line, 7, 15));
+		assertEquals(DateFormat.DDMMYYYY_B.parse("01/02/2025"), DateFormat.DDMMYYYY_B.tryParse(line, 16, 24));
+		assertNull(DateFormat.DDMMYYYY.tryParse(line, 15, 23));
+		assertNull(DateFormat.DDMMYYYY.tryParse(line, 0, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseInvalido() {
+
+		DateFormat.DDMMYYYY_B.parse("A1/02/2025");
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testParseNull() {
+
+		DateFormat.DDMMYYYY_B.parse(null);
+	}
+
+	@Test
+	public void testCopy() {
+
+		final SimpleDateFormat copy = DateFormat.YYYYMMDD_H.copy();
+
+		assertEquals("yyyy-MM-dd", copy.toPattern());
+		assertEquals(TimeZone.getDefault(), copy.getTimeZone());
+	}
+
+	@Test
+	public void testFormatEquivalenteAoSimpleDateFormat() {
+
+		for (String id : ZONES) {
+
+			final TimeZone zone = TimeZone.getTimeZone(id);
+
+			for (DateFormat format : DateFormat.values()) {
+
+				final DateCodec codec = codec(format, zone);
+				final SimpleDateFormat expected = codec.newSimpleDateFormat();
+
+				for (int i = 0; i < 2000; i++) {
+
+					final Date date = new Date(FROM
+							+ (long) (random.nextDouble() * (TO - FROM)));
+
+					assertEquals(id + " " + format, expected.format(date),
+							codec.format(date));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFormatTo() throws Exception {
+
+		final Date date = DateFormat.DDMMYYYY_B.parse("07/10/1997");
+		final char[] line = "XX__________XX".toCharArray();
+
+		assertEquals(12, DateFormat.DDMMYYYY_B.formatTo(date, line, 2));
+		assertEquals("XX07/10/1997XX", new String(line));
+		assertEquals("[971007]", DateFormat.YYMMDD.formatTo(date,
+				new StringBuilder("[")).append(']').toString());
+		assertEquals("1997-10-07", DateFormat.YYYYMMDD_H.formatTo(date,
+				(Appendable) new StringBuffer()).toString());
+	}
+
+	@Test
+	public void testFormatToEquivalenteAoFormat() throws Exception {
+
+		final char[] chars = new char[16];
+
+		for (String id : ZONES) {
+
+			final TimeZone zone = TimeZone.getTimeZone(id);
+
+			for (DateFormat format : DateFormat.values()) {
+
+				final DateCodec codec = codec(format, zone);
+
+				for (int i = 0; i < 2000; i++) {
+
+					// Inclui anos fora da faixa de 1600 a 9999.
+					final Date date = new Date((long) ((random.nextDouble() - 0.5)
+							* 2 * 300000000000000L));
+
+					final String expected = codec.format(date);
+					final StringBuilder out = new StringBuilder();
+
+					codec.format(date, out);
+
+					assertEquals(id + " " + format, expected, out.toString());
+					assertEquals(expected.length() + 1, codec.format(date,
+							chars, 1));
+					assertEquals(expected, new String(chars, 1, expected
+							.length()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParseEquivalenteAoSimpleDateFormat() {
+
+		for (String id : ZONES) {
+
+			final TimeZone zone = TimeZone.getTimeZone(id);
+
+			for (DateFormat format : DateFormat.values()) {
+
+				final DateCodec codec = codec(format, zone);
+				final SimpleDateFormat expected = codec.newSimpleDateFormat();
+
+				for (int i = 0; i < 2000; i++) {
+
+					final String text = randomText(codec.getPattern());
+
+					assertEquals(id + " " + format + " " + text,
+							parse(expected, text), parse(codec, text));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMeiaNoiteInexistente() throws ParseException {
+
+		// Início do horário de verão de 2018: 04/11 00:00 => 01:00.
+		final DateCodec codec = codec(DateFormat.DDMMYYYY_B, TimeZone
+				.getTimeZone("America/Sao_Paulo"));
+
+		assertEquals(codec.newSimpleDateFormat().parse("04/11/2018"), codec
+				.parse("04/11/2018"));
+	}
+
+	@Test
+	public void testJavaTime() {
+
+		assertEquals("22/02/2025", DateFormat.DDMMYYYY_B.format(LocalDate.of(2025, 2, 22)));
+		assertEquals("250222", DateFormat.YYMMDD.format(LocalDate.of(2025, 2, 22)));
+		assertEquals("01:02:03", DateFormat.HHMMSS_C.format(LocalDateTime.of(2025, 2, 22, 13, 2, 3)));
+		assertEquals("13:02:03", DateFormat.HHMMSS_24C.format(LocalDateTime.of(2025, 2, 22, 13, 2, 3, 999999999)));
+		assertEquals("2025-02-22", DateFormat.YYYYMMDD_H.format(LocalDateTime.of(2025, 2, 22, 13, 2, 3)));
+
+		assertEquals(LocalDate.of(2025, 2, 22), DateFormat.DDMMYYYY.parseLocalDate("22022025"));
+		assertEquals(LocalDate.of(2025, 3, 3), DateFormat.DDMMYYYY_B.parseLocalDate(new StringBuilder("31/02/2025")));
+		assertEquals(LocalDate.of(1, 1, 1), DateFormat.YYYYMMDD.parseLocalDate("00010101"));
+	}
+
+	@Test
+	public void testEpochDay() {
+
+		final String record = "0001237002220220251234";
+		final char[] line = new char[12];
+
+		assertEquals(LocalDate.of(2025, 2, 22).toEpochDay(), DateFormat.DDMMYYYY.parseEpochDay(record, 10));
+		assertEquals(10, DateFormat.YYMMDD.formatEpochDay(20141, line, 4));
+		assertEquals("\u0000\u0000\u0000\u0000250222\u0000\u0000", new String(line));
+
+		for (DateFormat format : DateFormat.values()) {
+
+			if (format.name().startsWith("HH")) {
+				continue;
+			}
+
+			final char[] chars = new char[format.copy().toPattern().length()];
+
+			// Intervalo coberto também pelos padrões com ano de 2 dígitos.
+			for (int day = -7305; day < 25567; day += 3) { // 1950 a 2039
+
+				format.formatEpochDay(day, chars, 0);
+
+				assertEquals(format.copy().format(Date.from(LocalDate.ofEpochDay(day)
+						.atStartOfDay(ZoneId.systemDefault()).toInstant())), new String(chars));
+				assertEquals(day, format.parseEpochDay(new String(chars), 0));
+			}
+		}
+	}
+
+	@Test
+	public void testParseLocalDateEquivalenteAoParse() {
+
+		for (DateFormat format : DateFormat.values()) {
+
+			if (format.name().startsWith("HH")) {
+				continue;
+			}
+
+			for (int i = 0; i < 2000; i++) {
+
+				final String text = randomText(format.copy().toPattern());
+
+				if (text.length() != format.copy().toPattern().length()) {
+					continue;
+				}
+
+				final String iso = DateFormat.YYYYMMDD_H.format(format.parse(text));
+
+				if (iso.length() != 10 || iso.compareTo("1600") < 0) {
+					// Fora do calendário gregoriano ou de 4 dígitos.
+					continue;
+				}
+
+				final LocalDate expected = DateFormat.YYYYMMDD_H.parseLocalDate(iso);
+
+				assertEquals(format + " " + text, expected, format.parseLocalDate(text));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseLocalDateForaDoLeiaute() {
+
+		DateFormat.DDMMYYYY_B.parseLocalDate("1/2/2025");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseEpochDaySemData() {
+
+		DateFormat.HHMMSS.parseEpochDay("120000", 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFormatAnoForaDoIntervalo() {
+
+		DateFormat.DDMMYYYY.format(LocalDate.of(10000, 1, 1));
+	}
+
+	@Test
+	public void testConcorrencia() throws Exception {
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		final List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+		try {
+			for (int t = 0; t < 8; t++) {
+
+				final long seed = t;
+
+				results.add(executor.submit(new Callable<Void>() {
+					public Void call() throws ParseException {
+
+						final Random random = new Random(seed);
+						final SimpleDateFormat expected = DateFormat.DDMMYYYY_B.copy();
+
+						for (int i = 0; i < 5000; i++) {
+
+							final Date date = new Date(FROM
+									+ (long) (random.nextDouble() * (TO - FROM)));
+							final String text = DateFormat.DDMMYYYY_B.format(date);
+
+							assertEquals(expected.format(date), text);
+							assertEquals(expected.parse(text), DateFormat.DDMMYYYY_B.parse(text));
+						}
+						return null;
+					}
+				}));
+			}
+
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static Object parse(SimpleDateFormat format, String text) {
+
+		try {
+			return format.parse(text);
+		} catch (ParseException e) {
+			return "inválida";
+		}
+	}
+
+	private static Object parse(DateCodec codec, String text) {
+
+		try {
+			return codec.parse(text);
+		} catch (IllegalArgumentException e) {
+			return "inválida";
+		}
+	}
+
+	private static DateCodec codec(DateFormat format, TimeZone zone) {
+
+		return new DateCodec(format.copy().toPattern(), zone, new Date(
+				-757382400000L)); // 1946-01-01
+	}
+
+	/**
+	 * Texto no leiaute do padrão, com dígitos quaisquer (inclusive fora dos
+	 * limites de cada campo) e, eventualmente, um caractere inválido ou um
+	 * campo mais curto.
+	 */
+	private String randomText(String pattern) {
+
+		final StringBuilder text = new StringBuilder(pattern.length());
+
+		for (int i = 0; i < pattern.length(); i++) {
+
+			final char c = pattern.charAt(i);
+
+			text.append(Character.isLetter(c) ? (char) ('0' + random
+					.nextInt(10)) : c);
+		}
+
+		if (random.nextInt(10) == 0) {
+			text.deleteCharAt(random.nextInt(text.length()));
+		}
+
+		return text.toString();
+	}
+}
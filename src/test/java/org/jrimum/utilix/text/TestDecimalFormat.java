@@ -0,0 +1,412 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:15:26
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:15:26
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para os formatadores decimais, comparados com o
+ * <code>java.text.DecimalFormat</code> de mesmo padrão.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestDecimalFormat {
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testParse() {
+
+		assertEquals(1500L, DecimalFormat.NUMBER_DD_BR.parse("1.500,00"));
+		assertEquals(1500.99, DecimalFormat.NUMBER_DD_BR.parse("1.500,99"));
+		assertEquals(-0.5, DecimalFormat.NUMBER_D_BR.parse("-0,5"));
+		assertEquals(-0.0, DecimalFormat.NUMBER_D_BR.parse("-0"));
+		assertEquals(10L, DecimalFormat.MONEY_DD_BR.parse("R$ 10,00"));
+		assertEquals(-1234.5, DecimalFormat.MONEY_D_BR.parse("-R$ 1.234,5"));
+	}
+
+	@Test
+	public void testParseTrecho() {
+
+		final String line = "0001R$ 1.234,56-00,50XYZ";
+
+		assertEquals(1234.56, DecimalFormat.MONEY_DD_BR.parse(line, 4, 15));
+		assertEquals(-0.5, DecimalFormat.NUMBER_DD_BR.parse(line, 15, 21));
+		assertEquals(1L, DecimalFormat.NUMBER_DD_BR.parse(new StringBuilder(line), 0, 4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseTrechoInvalido() {
+
+		DecimalFormat.NUMBER_DD_BR.parse("0001XYZ", 4, 7);
+	}
+
+	@Test
+	public void testTryParse() {
+
+		assertNull(DecimalFormat.NUMBER_DD_BR.tryParse("0001XYZ", 4, 7));
+		assertNull(DecimalFormat.MONEY_DD_BR.tryParse("10,00", 0, 5));
+		assertEquals(10L, DecimalFormat.MONEY_DD_BR.tryParse("R$ 10,00", 0, 8));
+	}
+
+	@Test
+	public void testFormatTo() throws Exception {
+
+		final char[] line = "X________________X".toCharArray();
+
+		assertEquals(17, DecimalFormat.MONEY_DD_BR.formatTo(-1234567, line, 1));
+		assertEquals("X-R$ 1.234.567,00X", new String(line));
+		assertEquals("[1.500,99]", DecimalFormat.NUMBER_DD_BR.formatTo(1500.99,
+				new StringBuilder("[")).append(']').toString());
+		assertEquals("R$ 0,0", DecimalFormat.MONEY_D_BR.formatTo(0L,
+				(Appendable) new StringBuffer()).toString());
+	}
+
+	@Test
+	public void testFormatToEquivalenteAoDecimalFormat() throws Exception {
+
+		final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH + 1];
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+
+			final java.text.DecimalFormat expected = format.copy();
+
+			for (int i = 0; i < 20000; i++) {
+
+				final Number number = randomInteger();
+				final String text = expected.format(number);
+
+				assertEquals(format + " " + number, text, format.formatTo(
+						number, new StringBuilder()).toString());
+				assertEquals(format + " " + number, text, format.formatTo(
+						number, (Appendable) new StringBuilder()).toString());
+				assertEquals(text.length() + 1, format.formatTo(number, chars, 1));
+				assertEquals(text, new String(chars, 1, text.length()));
+			}
+
+			for (long value : new long[] { Long.MIN_VALUE, Long.MAX_VALUE, 0, -1 }) {
+				assertEquals(expected.format(value), format.formatTo(value,
+						new StringBuilder()).toString());
+			}
+		}
+	}
+
+	@Test
+	public void testFormatCents() {
+
+		assertEquals("1.500,99", DecimalFormat.NUMBER_DD_BR.formatCents(150099));
+		assertEquals("R$ 0,05", DecimalFormat.MONEY_DD_BR.formatCents(5));
+		assertEquals("-R$ 1.234.567,89", DecimalFormat.MONEY_DD_BR.formatCents(-123456789));
+		assertEquals("10,0", DecimalFormat.NUMBER_D_BR.formatCents(1005));
+		assertEquals("10,2", DecimalFormat.NUMBER_D_BR.formatCents(1015));
+		assertEquals("-0,0", DecimalFormat.NUMBER_D_BR.formatCents(-1));
+		assertEquals("[R$ 1,00]", DecimalFormat.MONEY_DD_BR.formatCentsTo(100,
+				new StringBuilder("[")).append(']').toString());
+	}
+
+	@Test
+	public void testFormatEquivalenteAoDecimalFormat() {
+
+		final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+
+			final java.text.DecimalFormat expected = format.copy();
+
+			for (int i = 0; i < 20000; i++) {
+
+				final BigDecimal number = randomDecimal();
+
+				assertEquals(format + " " + number, expected.format(number),
+						format.format(number));
+
+				final long cents = number.unscaledValue().longValue();
+				final String text = expected.format(BigDecimal.valueOf(cents, 2));
+
+				assertEquals(format + " " + cents, text, format.formatCents(cents));
+				assertEquals(text.length(), format.formatCentsTo(cents, chars, 0));
+				assertEquals(text, new String(chars, 0, text.length()));
+			}
+
+			assertEquals(expected.format(BigDecimal.valueOf(Long.MIN_VALUE, 2)),
+					format.formatCents(Long.MIN_VALUE));
+		}
+	}
+
+	@Test
+	public void testFormatEquivalenteComOutrosPadroes() {
+
+		final String[] patterns = { "#,##0.00", "#,##0.0##", "0.00", "#,##0",
+				"#,##0.#", "00000", "#,##0.00;(#,##0.00)", "#,##0.###E0" };
+
+		final char[] chars = new char[DecimalCodec.MAX_FORMATTED_LENGTH];
+
+		for (String pattern : patterns) {
+			for (RoundingMode mode : RoundingMode.values()) {
+
+				if (mode == RoundingMode.UNNECESSARY) {
+					continue;
+				}
+
+				final java.text.DecimalFormat expected = new java.text.DecimalFormat(
+						pattern, DecimalFormatSymbols.BRASIL.copy());
+
+				expected.setRoundingMode(mode);
+
+				final DecimalCodec codec = new DecimalCodec(expected);
+
+				for (int i = 0; i < 5000; i++) {
+
+					final BigDecimal number = randomDecimal();
+
+					if (codec.canFormat(number)) {
+						assertEquals(pattern + " " + mode + " " + number,
+								expected.format(number), new String(chars, 0,
+										codec.format(number, chars, 0)));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParseCents() {
+
+		assertEquals(150099, DecimalFormat.NUMBER_DD_BR.parseCents("1.500,99"));
+		assertEquals(150000, DecimalFormat.NUMBER_DD_BR.parseCents("1500"));
+		assertEquals(150, DecimalFormat.NUMBER_D_BR.parseCents("1,5"));
+		assertEquals(1000, DecimalFormat.MONEY_DD_BR.parseCents("R$ 10,00"));
+		assertEquals(-50, DecimalFormat.MONEY_D_BR.parseCents("-R$ 0,5"));
+		assertEquals(123456, DecimalFormat.NUMBER_DD_BR.parseCents("XXX1.234,56|", 3, 11));
+		assertEquals(Long.MAX_VALUE, DecimalFormat.NUMBER_DD_BR.parseCents("92.233.720.368.547.758,07"));
+		assertEquals(-Long.MAX_VALUE, DecimalFormat.NUMBER_DD_BR.parseCents("-92233720368547758,07"));
+	}
+
+	@Test
+	public void testParseCentsInvalido() {
+
+		final String[] invalid = { "", "-", ",50", "1,", "1,999", "1.50,00",
+				"15.00,00", "1.5000", "1..500", ".500", "1.500.", " 1,00",
+				"1,00 ", "+1,00", "1,0,0", "R$ 1,00", "92233720368547758,08",
+				"1.500,9X" };
+
+		for (String text : invalid) {
+			assertEquals(text, DecimalFormat.INVALID_CENTS, DecimalFormat.NUMBER_DD_BR.parseCents(text));
+		}
+
+		assertEquals(DecimalFormat.INVALID_CENTS, DecimalFormat.MONEY_DD_BR.parseCents("10,00"));
+		assertEquals(DecimalFormat.INVALID_CENTS, DecimalFormat.MONEY_DD_BR.parseCents("R$10,00"));
+	}
+
+	@Test
+	public void testParseBigDecimal() {
+
+		assertEquals(new BigDecimal("1500.90"), DecimalFormat.MONEY_DD_BR.parseBigDecimal("R$ 1.500,90"));
+		assertEquals(new BigDecimal("-0.5"), DecimalFormat.NUMBER_DD_BR.parseBigDecimal("-0,5"));
+		assertEquals(new BigDecimal("0.00"), DecimalFormat.NUMBER_DD_BR.parseBigDecimal("-0,00"));
+		assertEquals(new BigDecimal("1500"), DecimalFormat.NUMBER_DD_BR.parseBigDecimal("1.500"));
+		assertEquals(new BigDecimal("-123456789012345678901.25"),
+				DecimalFormat.NUMBER_DD_BR.parseBigDecimal("-123.456.789.012.345.678.901,25"));
+		assertEquals(new BigDecimal("0.123456789"),
+				DecimalFormat.NUMBER_DD_BR.parseBigDecimal("|0,123456789|", 1, 12));
+		assertNull(DecimalFormat.NUMBER_DD_BR.parseBigDecimal("1.50,00"));
+		assertNull(DecimalFormat.NUMBER_DD_BR.parseBigDecimal("1,00E3"));
+	}
+
+	@Test
+	public void testParseEstritoEquivalenteAoDecimalFormat() {
+
+		final String alphabet = "0000123456789.,.,-R$ E";
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+
+			final java.text.DecimalFormat expected = format.copy();
+
+			expected.setParseBigDecimal(true);
+
+			for (int i = 0; i < 20000; i++) {
+
+				final BigDecimal number = randomDecimal();
+				final BigDecimal rounded = number.setScale(
+						expected.getMaximumFractionDigits(), RoundingMode.HALF_EVEN);
+				final String formatted = format.format(number);
+
+				assertEquals(formatted, rounded, format.parseBigDecimal(formatted));
+				final BigInteger exact = rounded.movePointRight(2).toBigIntegerExact();
+
+				assertEquals(formatted, (exact.bitLength() < Long.SIZE && exact
+						.longValue() != Long.MIN_VALUE) ? exact.longValue()
+						: DecimalFormat.INVALID_CENTS, format.parseCents(formatted));
+
+				final String text = randomNumber(format, alphabet);
+				final BigDecimal strict = format.parseBigDecimal(text);
+
+				if (strict != null) {
+
+					final ParsePosition position = new ParsePosition(0);
+					final Number lenient = expected.parse(text, position);
+
+					assertEquals(text, text.length(), position.getIndex());
+					assertEquals(text, 0, strict.compareTo((BigDecimal) lenient));
+				}
+
+				final long cents = format.parseCents(text);
+
+				if (cents != DecimalFormat.INVALID_CENTS) {
+					assertNotNull(text, strict);
+					assertEquals(text, 0, strict.compareTo(BigDecimal.valueOf(cents, 2)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParseEquivalenteAoDecimalFormat() {
+
+		final String alphabet = "0000123456789.,.,-R$ E";
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+
+			final java.text.DecimalFormat expected = format.copy();
+
+			for (int i = 0; i < 20000; i++) {
+
+				final String text = randomNumber(format, alphabet);
+
+				final ParsePosition position = new ParsePosition(0);
+				final Number number = expected.parse(text, position);
+
+				assertEquals(format + " \"" + text + "\"",
+						(position.getIndex() == 0) ? null : number,
+						format.tryParse(text, 0, text.length()));
+			}
+		}
+	}
+
+	/**
+	 * Decimal com escala de 0 a 6 e valor não escalado de até 18 dígitos,
+	 * com frequência de meios (ex.: 0,125) e de valores próximos de zero.
+	 */
+	private BigDecimal randomDecimal() {
+
+		final int scale = random.nextInt(7);
+
+		long unscaled = random.nextLong() >> random.nextInt(64);
+
+		switch (random.nextInt(4)) {
+
+		case 0:
+			unscaled = unscaled / 10 * 10 + 5;
+			break;
+
+		case 1:
+			unscaled = unscaled % 100;
+			break;
+
+		default:
+			break;
+		}
+
+		return BigDecimal.valueOf(unscaled, scale);
+	}
+
+	/**
+	 * Inteiro de tipo e quantidade de dígitos sorteados.
+	 */
+	private Number randomInteger() {
+
+		final long value = random.nextLong() >> random.nextInt(64);
+
+		switch (random.nextInt(4)) {
+
+		case 0:
+			return Long.valueOf(value);
+
+		case 1:
+			return Integer.valueOf((int) value);
+
+		case 2:
+			return Short.valueOf((short) value);
+
+		default:
+			return Byte.valueOf((byte) value);
+		}
+	}
+
+	/**
+	 * Número com prefixo, grupos e casas decimais sorteados e, eventualmente,
+	 * caracteres em posições inválidas.
+	 */
+	private String randomNumber(DecimalFormat format, String alphabet) {
+
+		final StringBuilder text = new StringBuilder();
+
+		if (random.nextInt(4) == 0) {
+			text.append('-');
+		}
+
+		if (format.name().startsWith("MONEY")) {
+			text.append("R$ ");
+		}
+
+		final int length = 1 + random.nextInt(22);
+
+		for (int i = 0; i < length; i++) {
+
+			final int kind = random.nextInt(20);
+
+			if (kind == 0) {
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			} else if (kind == 1) {
+				text.append('.');
+			} else if (kind == 2 && text.indexOf(",") < 0) {
+				text.append(',');
+			} else {
+				text.append((char) ('0' + random.nextInt(10)));
+			}
+		}
+
+		return text.toString();
+	}
+}
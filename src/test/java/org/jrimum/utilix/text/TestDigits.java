@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:59:55
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:59:55
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para a validação de dígitos ASCII.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestDigits {
+
+	private static final String LATIN1 = "ISO-8859-1";
+
+	@Test
+	public void testIsDigits() {
+
+		assertTrue(Digits.isDigits("0"));
+		assertTrue(Digits.isDigits("0123456789"));
+		assertTrue(Digits.isDigits("99999999999999999999999"));
+
+		assertFalse(Digits.isDigits((CharSequence) null));
+		assertFalse(Digits.isDigits(""));
+		assertFalse(Digits.isDigits("1234 5678"));
+		assertFalse(Digits.isDigits("12345678/"));
+		assertFalse(Digits.isDigits("12345678:"));
+		assertFalse(Digits.isDigits("-1234567"));
+	}
+
+	@Test
+	public void testIsDigitsRejeitaDigitosUnicode() {
+
+		// Dígitos arábico-índicos e de largura total são aceitos por
+		// checkNotNumeric, mas não são dígitos ASCII.
+		assertFalse(Digits.isDigits("1234١"));
+		assertFalse(Digits.isDigits("１２３４５６７８"));
+	}
+
+	@Test
+	public void testIsDigitsEquivalenteAoEscalar() throws UnsupportedEncodingException {
+
+		// Cada caractere que cerca os dígitos, em cada posição de palavras de
+		// 8 bytes e 4 caracteres, inclusive os que causariam vai-um/empréstimo.
+		final char[] probes = { 0, '/', '0', '9', ':', 0x7F, 0x80, 0xB9,
+				0xBA, 0xFF, 0x130, 0x7FFF, 0x8000, 0xFFFF };
+
+		for (int length = 1; length <= 17; length++) {
+			for (int position = 0; position < length; position++) {
+				for (char probe : probes) {
+
+					final char[] chars = new char[length + 2];
+
+					for (int i = 0; i < chars.length; i++) {
+						chars[i] = (char) ('0' + i % 10);
+					}
+
+					chars[1 + position] = probe;
+
+					final boolean expected = probe >= '0' && probe <= '9';
+					final String text = new String(chars);
+
+					assertEquals(expected, Digits.isDigits(chars, 1, length));
+					assertEquals(expected, Digits.isDigits(text, 1, length + 1));
+
+					if (probe <= 0xFF) {
+						assertEquals(expected, Digits.isDigits(
+								text.getBytes(LATIN1), 1, length));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFindNotDigitsBytes() throws UnsupportedEncodingException {
+
+		final String records = "A0012345678Z\n"
+				+ "A00123 5678Z\n"
+				+ "A9999999999Z\n"
+				+ "AX012345678Z\n";
+
+		final BitSet invalid = Digits.findNotDigits(records.getBytes(LATIN1),
+				0, 13, 4, 1, 10);
+
+		assertEquals(2, invalid.cardinality());
+		assertTrue(invalid.get(1));
+		assertTrue(invalid.get(3));
+	}
+
+	@Test
+	public void testFindNotDigitsCharSequences() {
+
+		final CharSequence[] records = { "0012345", "00A2345", null, "001",
+				new StringBuilder("9999999") };
+
+		final BitSet invalid = Digits.findNotDigits(records, 2, 5);
+
+		assertEquals(3, invalid.cardinality());
+		assertTrue(invalid.get(1));
+		assertTrue(invalid.get(2));
+		assertTrue(invalid.get(3));
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:31:17
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:31:17
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para os fornecedores de formatadores.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestFormatProvider {
+
+	private static final Supplier<StringBuilder> FACTORY = new Supplier<StringBuilder>() {
+
+		public StringBuilder get() {
+
+			return new StringBuilder();
+		}
+	};
+
+	@Test
+	public void testThreadLocal() {
+
+		final FormatProvider<StringBuilder> provider = FormatProvider.newThreadLocal(FACTORY);
+
+		final StringBuilder first = provider.acquire();
+		provider.release(first);
+
+		assertSame(first, provider.acquire());
+		assertEquals(FormatStrategy.THREAD_LOCAL, provider.getStrategy());
+		assertEquals(1, provider.getCreated());
+		assertEquals(0, provider.getContended());
+	}
+
+	@Test
+	public void testPool() {
+
+		final FormatProvider<StringBuilder> provider = FormatProvider.newPool(FACTORY, 1);
+
+		final StringBuilder first = provider.acquire();
+		final StringBuilder second = provider.acquire();
+
+		assertNotSame(first, second);
+		assertEquals(2, provider.getCreated());
+		assertEquals(2, provider.getContended());
+
+		provider.release(first);
+		provider.release(second);
+
+		assertEquals(1, provider.getDiscarded());
+		assertSame(first, provider.acquire());
+		assertEquals(2, provider.getCreated());
+		assertEquals(FormatStrategy.POOL, provider.getStrategy());
+	}
+
+	@Test
+	public void testStriped() throws Exception {
+
+		final FormatProvider<StringBuilder> provider = FormatProvider.newStriped(FACTORY, 1);
+
+		final StringBuilder first = provider.acquire();
+		provider.release(first);
+
+		assertSame(first, provider.acquire());
+
+		// Uso aninhado não devolve a instância já em uso.
+		try {
+			provider.acquire();
+			fail("Uso aninhado da faixa deveria falhar.");
+		} catch (IllegalStateException e) {
+			assertEquals(1, provider.getCreated());
+		}
+
+		// Outra thread aguarda a liberação da única faixa.
+		final CountDownLatch started = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			final Future<StringBuilder> other = executor.submit(new Callable<StringBuilder>() {
+
+				public StringBuilder call() {
+
+					started.countDown();
+
+					final StringBuilder instance = provider.acquire();
+					provider.release(instance);
+
+					return instance;
+				}
+			});
+
+			started.await();
+
+			while (provider.getContended() == 0 && !other.isDone()) {
+				Thread.sleep(1);
+			}
+
+			provider.release(first);
+
+			assertSame(first, other.get());
+			assertEquals(1, provider.getContended());
+			assertEquals(1, provider.getCreated());
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCapacidadeInvalida() {
+
+		FormatProvider.newPool(FACTORY, 0);
+	}
+
+	@Test
+	public void testDefault() {
+
+		try {
+
+			System.setProperty(FormatStrategy.STRATEGY_PROPERTY, "striped");
+			assertEquals(FormatStrategy.STRIPED, FormatStrategy.getDefault());
+
+			System.setProperty(FormatStrategy.STRATEGY_PROPERTY, "x");
+			assertEquals(FormatStrategy.THREAD_LOCAL, FormatStrategy.getDefault());
+
+		} finally {
+			System.clearProperty(FormatStrategy.STRATEGY_PROPERTY);
+		}
+	}
+
+	@Test
+	public void testEstrategiaPorFormato() {
+
+		final String property = FormatStrategy.STRATEGY_PROPERTY + ".TEST_MOEDA";
+
+		try {
+
+			System.setProperty(FormatStrategy.STRATEGY_PROPERTY, "pool");
+			assertEquals(FormatStrategy.POOL, FormatStrategy.getDefault("TEST_MOEDA"));
+
+			System.setProperty(property, "striped");
+			assertEquals(FormatStrategy.STRIPED, FormatStrategy.getDefault("TEST_MOEDA"));
+			assertEquals(FormatStrategy.POOL, FormatStrategy.getDefault("TEST_OUTRA"));
+
+			final DecimalFormatter registered = FormatRegistry.register(
+					"TEST_MOEDA", "#,##0.00", java.text.DecimalFormatSymbols.getInstance(java.util.Locale.US));
+
+			assertEquals(FormatStrategy.STRIPED, registered.getProvider().getStrategy());
+
+			System.setProperty(property, "x");
+			assertEquals(FormatStrategy.POOL, FormatStrategy.getDefault("TEST_MOEDA"));
+
+		} finally {
+			FormatRegistry.unregister("TEST_MOEDA");
+			System.clearProperty(property);
+			System.clearProperty(FormatStrategy.STRATEGY_PROPERTY);
+		}
+	}
+
+	@Test
+	public void testConcorrencia() throws Exception {
+
+		final DecimalFormatter money = DecimalFormat.MONEY_DD_BR.getFormatter();
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			for (FormatStrategy strategy : FormatStrategy.values()) {
+
+				final DecimalFormatter format = FormatRegistry.register(
+						"TEST_MONEY_" + strategy, money.getPattern(),
+						money.getSymbols(), strategy);
+
+				assertEquals(strategy, format.getProvider().getStrategy());
+
+				final List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+				for (int t = 0; t < 8; t++) {
+
+					final int seed = t;
+
+					results.add(executor.submit(new Callable<Boolean>() {
+
+						public Boolean call() {
+
+							final java.text.DecimalFormat expected = format.copy();
+
+							for (int i = 0; i < 5000; i++) {
+
+								final double value = (seed * 5000 + i) / 100.0;
+
+								if (!expected.format(value).equals(format.format(value))
+										|| !Double.valueOf(value).equals(format.parse(expected.format(value)).doubleValue())) {
+									return false;
+								}
+							}
+
+							return true;
+						}
+					}));
+				}
+
+				for (Future<Boolean> result : results) {
+					assertTrue(strategy.name(), result.get());
+				}
+			}
+
+		} finally {
+
+			executor.shutdown();
+
+			for (FormatStrategy strategy : FormatStrategy.values()) {
+				FormatRegistry.unregister("TEST_MONEY_" + strategy);
+			}
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:34:31
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:34:31
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o registro de formatadores decimais.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestFormatRegistry {
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testConstantesRegistradas() {
+
+		for (DecimalFormat format : DecimalFormat.values()) {
+			assertSame(format.getFormatter(), FormatRegistry.get(format.name()));
+		}
+
+		assertTrue(FormatRegistry.names().contains("MONEY_DD_BR"));
+	}
+
+	@Test
+	public void testRegister() {
+
+		final DecimalFormatter usd = FormatRegistry.register("TEST_USD",
+				"'US$ '#,##0.00", Locale.US);
+
+		try {
+
+			assertSame(usd, FormatRegistry.get("TEST_USD"));
+			assertEquals("US$ 1,500.99", usd.format(new BigDecimal("1500.99")));
+			assertEquals("-US$ 0.50", usd.formatCents(-50));
+			assertEquals(new BigDecimal("1500.99"), usd.parseBigDecimal("US$ 1,500.99"));
+			assertEquals(150099, usd.parseCents("US$ 1,500.99"));
+
+			// Mesma definição: o formatador já registrado.
+			assertSame(usd, FormatRegistry.register("TEST_USD", "'US$ '#,##0.00", Locale.US));
+
+		} finally {
+			FormatRegistry.unregister("TEST_USD");
+		}
+
+		assertFalse(FormatRegistry.contains("TEST_USD"));
+	}
+
+	@Test
+	public void testRegisterEstrategia() {
+
+		final java.text.DecimalFormatSymbols symbols = java.text.DecimalFormatSymbols.getInstance(Locale.US);
+		final DecimalFormatter pool = FormatRegistry.register("TEST_POOL",
+				"#,##0.00", symbols, FormatStrategy.POOL);
+
+		try {
+
+			assertEquals(FormatStrategy.POOL, pool.getProvider().getStrategy());
+			assertEquals("1,500.99", pool.format(1500.99d));
+			assertSame(pool, FormatRegistry.register("TEST_POOL", "#,##0.00", symbols, FormatStrategy.POOL));
+
+			try {
+				FormatRegistry.register("TEST_POOL", "#,##0.00", symbols, FormatStrategy.STRIPED);
+				fail("Estratégia diferente é outra definição.");
+			} catch (IllegalArgumentException e) {
+				assertSame(pool, FormatRegistry.get("TEST_POOL"));
+			}
+
+		} finally {
+			FormatRegistry.unregister("TEST_POOL");
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRegisterOutraDefinicao() {
+
+		FormatRegistry.register("MONEY_DD_BR", "#,##0.00", Locale.US);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetNaoRegistrado() {
+
+		FormatRegistry.get("TEST_INEXISTENTE");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnregisterConstante() {
+
+		FormatRegistry.unregister("NUMBER_DD_BR");
+	}
+
+	@Test
+	public void testEquivalenteAoDecimalFormat() {
+
+		final Locale[] locales = { Locale.US, new Locale("pt", "PT"),
+				Locale.GERMANY, Locale.FRANCE, new Locale("pt", "BR") };
+
+		final String[] patterns = { "#,##0.00", "¤ #,##0.00", "#,##0.0" };
+
+		for (Locale locale : locales) {
+			for (String pattern : patterns) {
+
+				final String name = "TEST_" + locale + "_" + pattern;
+				final DecimalFormatter formatter = FormatRegistry.register(name, pattern, locale);
+
+				try {
+
+					final java.text.DecimalFormat expected = new java.text.DecimalFormat(
+							pattern, java.text.DecimalFormatSymbols.getInstance(locale));
+
+					expected.setParseBigDecimal(true);
+
+					for (int i = 0; i < 2000; i++) {
+
+						final BigDecimal number = BigDecimal.valueOf(
+								random.nextLong() >> random.nextInt(64), random.nextInt(4));
+						final String text = expected.format(number);
+
+						assertEquals(name, text, formatter.format(number));
+						assertEquals(name + " " + text, 0, ((BigDecimal) expected.parse(text
+								, new java.text.ParsePosition(0))).compareTo(formatter.parseBigDecimal(text)));
+					}
+
+				} finally {
+					FormatRegistry.unregister(name);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDecimalFormatSymbolsImutavel() {
+
+		final java.text.DecimalFormatSymbols copy = DecimalFormatSymbols.BRASIL.copy();
+
+		copy.setGroupingSeparator(' ');
+
+		assertNotSame(copy, DecimalFormatSymbols.BRASIL.copy());
+		assertEquals('.', DecimalFormatSymbols.BRASIL.copy().getGroupingSeparator());
+		assertEquals("R$", DecimalFormatSymbols.BRASIL.copy().getCurrencySymbol());
+	}
+}
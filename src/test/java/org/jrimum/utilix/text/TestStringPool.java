@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:00:56
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:00:56
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o pool de deduplicação de <code>Strings</code>.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestStringPool {
+
+	@Test
+	public void testInternChars() {
+
+		final StringPool pool = new StringPool(64, 8);
+		final char[] line = "001237002PE001".toCharArray();
+
+		final String banco = pool.intern(line, 0, 3);
+
+		assertEquals("001", banco);
+		assertSame(banco, pool.intern(line, 11, 3));
+		assertSame(banco, pool.intern("001"));
+		assertEquals(2, pool.getHits());
+		assertEquals(1, pool.getMisses());
+	}
+
+	@Test
+	public void testInternBytes() throws UnsupportedEncodingException {
+
+		final StringPool pool = new StringPool(64, 8);
+		final byte[] line = "SÃO|SÃO".getBytes("ISO-8859-1");
+
+		final String first = pool.intern(line, 0, 3);
+
+		assertEquals("SÃO", first);
+		assertSame(first, pool.intern(line, 4, 3));
+		assertSame(first, pool.intern("xSÃOx", 1, 4));
+	}
+
+	@Test
+	public void testInternMaiorQueTamanhoMaximo() {
+
+		final StringPool pool = new StringPool(64, 2);
+		final char[] line = "ABCABC".toCharArray();
+
+		final String first = pool.intern(line, 0, 3);
+
+		assertEquals("ABC", first);
+		assertNotSame(first, pool.intern(line, 3, 3));
+		assertEquals(0, pool.size());
+		assertEquals(0, pool.getHits() + pool.getMisses());
+	}
+
+	@Test
+	public void testInternNull() {
+
+		assertNull(new StringPool(1, 1).intern((String) null));
+	}
+
+	@Test
+	public void testCapacidadeLimitada() {
+
+		final StringPool pool = new StringPool(10, 8);
+
+		assertEquals(16, pool.getCapacity());
+
+		for (int i = 0; i < 1000; i++) {
+			pool.intern(String.valueOf(i));
+		}
+
+		assertTrue(pool.size() <= 16);
+		assertEquals(1000, pool.getMisses());
+
+		pool.clear();
+
+		assertEquals(0, pool.size());
+		assertEquals(0, pool.getMisses());
+	}
+
+	@Test
+	public void testHitRate() {
+
+		final StringPool pool = new StringPool(16, 8);
+
+		assertEquals(0, pool.getHitRate(), 0);
+
+		pool.intern("237");
+		pool.intern("237");
+		pool.intern("237");
+		pool.intern("341");
+
+		assertEquals(0.5, pool.getHitRate(), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCapacidadeInvalida() {
+
+		new StringPool(0, 8);
+	}
+
+	@Test
+	public void testConcorrencia() throws Exception {
+
+		final StringPool pool = new StringPool(256, 8);
+		final char[] codes = "001033104237341399409422745756".toCharArray();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+		try {
+			for (int t = 0; t < 4; t++) {
+				results.add(executor.submit(new Callable<Void>() {
+					public Void call() {
+						for (int i = 0; i < 10000; i++) {
+
+							final int offset = (i % 10) * 3;
+
+							assertEquals(new String(codes, offset, 3),
+									pool.intern(codes, offset, 3));
+						}
+						return null;
+					}
+				}));
+			}
+
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(40000, pool.getHits() + pool.getMisses());
+	}
+}
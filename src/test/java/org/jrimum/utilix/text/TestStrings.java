@@ -31,6 +31,11 @@ package org.jrimum.utilix.text;
 
 import static org.apache.commons.lang.StringUtils.EMPTY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.StringWriter;
 
 import org.junit.Test;
 
@@ -115,6 +120,39 @@ public class TestStrings {
 		assertEquals("U", Strings.eliminateAccent("Ü"));
 	}
 	
+	@Test
+	public void testEliminateAccentLatinExtended() {
+
+		assertEquals("Nn", Strings.eliminateAccent("Ññ"));
+		assertEquals("AaOoYy", Strings.eliminateAccent("ÅåØøÝÿ"));
+		assertEquals("CcSsZzLl", Strings.eliminateAccent("ČčŠšŽžŁł"));
+		assertEquals("Oo", Strings.eliminateAccent("Őő"));
+		assertEquals("ÆæßŒ×", Strings.eliminateAccent("ÆæßŒ×"));
+		assertEquals("SAO JOAO DA ACAI", Strings.eliminateAccent("SÃO JOÃO DA AÇAÍ"));
+	}
+
+	@Test
+	public void testEliminateAccentSemAcentoRetornaMesmaInstancia() {
+
+		final String value = "SEM ACENTO 123";
+
+		assertSame(value, Strings.eliminateAccent(value));
+		assertSame(EMPTY, Strings.eliminateAccent(EMPTY));
+		assertNull(Strings.eliminateAccent((String) null));
+	}
+
+	@Test
+	public void testEliminateAccentCharArray() {
+
+		final char[] chars = "[Ação]".toCharArray();
+
+		Strings.eliminateAccent(chars, 1, 4);
+
+		assertEquals("[Acao]", new String(chars));
+		assertEquals('E', Strings.eliminateAccent('\u00C9'));
+		assertEquals('\u4E2D', Strings.eliminateAccent('\u4E2D'));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testCheckNotNumericNull() {
 		Strings.checkNotNumeric(null);
@@ -169,4 +207,95 @@ public class TestStrings {
 	public void testFillWithZeroLeftLong(){
 		assertEquals("012345678901",Strings.fillWithZeroLeft(12345678901L, 12));
 	}
+	
+	@Test
+	public void testFillWithZeroLeftCharArray(){
+		
+		final char[] line = "[........]".toCharArray();
+		
+		assertEquals(9, Strings.fillWithZeroLeft(1234567L, 8, line, 1));
+		assertEquals("[01234567]", new String(line));
+		
+		Strings.fillWithZeroLeft(0L, 8, line, 1);
+		assertEquals("[00000000]", new String(line));
+	}
+	
+	@Test
+	public void testFillWithZeroLeftStringBuilder(){
+		
+		assertEquals(">0009223372036854775807", Strings.fillWithZeroLeft(Long.MAX_VALUE, 22, new StringBuilder(">")).toString());
+		assertEquals("05", Strings.fillWithZeroLeft(5L, 2, new StringBuilder()).toString());
+	}
+	
+	@Test
+	public void testFillWithZeroLeftAppendable() throws IOException{
+		
+		assertEquals("000123", Strings.fillWithZeroLeft(123L, 6, new StringWriter()).toString());
+		assertEquals("9223372036854775807", Strings.fillWithZeroLeft(Long.MAX_VALUE, 19, new StringWriter()).toString());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testFillWithZeroLeftOverflow(){
+		Strings.fillWithZeroLeft(12345L, 4, new char[4], 0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testFillWithZeroLeftNegative(){
+		Strings.fillWithZeroLeft(-1L, 4, new StringBuilder());
+	}
+	
+	@Test
+	public void testFillWithZeroLeftMantemComportamentoDaString(){
+		assertEquals("12345", Strings.fillWithZeroLeft(12345, 3));
+		assertEquals("00-5", Strings.fillWithZeroLeft(-5, 4));
+		assertEquals("0000000000", Strings.fillWithZeroLeft(0L, 10));
+	}
+	
+	@Test
+	public void testRemoveStartWithZeros(){
+		assertEquals("0", Strings.removeStartWithZeros("00000"));
+		assertEquals("23", Strings.removeStartWithZeros("00023"));
+		assertEquals("2003", Strings.removeStartWithZeros("02003"));
+		assertEquals("0", Strings.removeStartWithZeros("000  "));
+		assertEquals("A0", Strings.removeStartWithZeros("0A0"));
+		assertEquals(EMPTY, Strings.removeStartWithZeros(null));
+		assertEquals(EMPTY, Strings.removeStartWithZeros(EMPTY));
+	}
+	
+	@Test
+	public void testIndexOfSignificantDigit(){
+		assertEquals(4, Strings.indexOfSignificantDigit("00000", 0, 5));
+		assertEquals(3, Strings.indexOfSignificantDigit("00023", 0, 5));
+		assertEquals(4, Strings.indexOfSignificantDigit("AB0020CD", 2, 6));
+		assertEquals(2, Strings.indexOfSignificantDigit("AB", 2, 2));
+	}
+	
+	@Test
+	public void testRemoveStartWithZerosCharSequence(){
+		assertEquals("20", Strings.removeStartWithZeros(new StringBuilder("AB0020CD"), 2, 6).toString());
+		assertEquals("0", Strings.removeStartWithZeros("|000|", 1, 4).toString());
+	}
+	
+	@Test
+	public void testParseUnsignedLongSkippingZeros(){
+		assertEquals(12345L, Strings.parseUnsignedLongSkippingZeros("0000012345", 0, 10));
+		assertEquals(0L, Strings.parseUnsignedLongSkippingZeros("0000000000", 0, 10));
+		assertEquals(20L, Strings.parseUnsignedLongSkippingZeros("AB0020CD", 2, 6));
+		assertEquals(Long.MAX_VALUE, Strings.parseUnsignedLongSkippingZeros("0009223372036854775807", 0, 22));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseUnsignedLongSkippingZerosNaoNumerico(){
+		Strings.parseUnsignedLongSkippingZeros("00 12", 0, 5);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseUnsignedLongSkippingZerosOverflow(){
+		Strings.parseUnsignedLongSkippingZeros("9223372036854775808", 0, 19);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseUnsignedLongSkippingZerosVazio(){
+		Strings.parseUnsignedLongSkippingZeros("123", 1, 1);
+	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:52:40
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:52:40
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o removedor de símbolos.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestSymbolStripper {
+
+	@Test
+	public void testDefault() {
+
+		assertEquals("", SymbolStripper.DEFAULT.strip("><,;.:!*&%+-_<>[]\\/"));
+		assertEquals("RUA A 10B", SymbolStripper.DEFAULT.strip("RUA A, 10/B"));
+		assertEquals("Cafe", SymbolStripper.DEFAULT.strip("(Cafe)'`\"{}=@#?"));
+	}
+
+	@Test
+	public void testStripSemSimbolosRetornaMesmaInstancia() {
+
+		final String value = "SEM SIMBOLOS 123";
+
+		assertSame(value, SymbolStripper.DEFAULT.strip(value));
+		assertNull(SymbolStripper.DEFAULT.strip(null));
+	}
+
+	@Test
+	public void testKeeping() {
+
+		final SymbolStripper address = SymbolStripper.DEFAULT.keeping("/");
+
+		assertEquals("RUA A 10/B", address.strip("RUA A, 10/B"));
+		assertFalse(address.isSymbol('/'));
+		assertTrue(address.isSymbol(','));
+		assertTrue(SymbolStripper.DEFAULT.isSymbol('/'));
+	}
+
+	@Test
+	public void testAdding() {
+
+		final SymbolStripper stripper = SymbolStripper.compile("-").adding("ªº");
+
+		assertEquals("1 ANDAR 2 SALA", stripper.strip("1ª ANDAR -2º SALA"));
+		assertEquals("-ªº", stripper.getSymbols());
+	}
+
+	@Test
+	public void testStripCharArray() {
+
+		final char[] chars = "[12.345-6]".toCharArray();
+
+		final int length = SymbolStripper.DEFAULT.strip(chars, 1, 8);
+
+		assertEquals(6, length);
+		assertEquals("123456", new String(chars, 1, length));
+	}
+
+	@Test
+	public void testStripTo() throws IOException {
+
+		assertEquals(">123456", SymbolStripper.DEFAULT.stripTo("12.345-6", new StringBuilder(">")).toString());
+		assertEquals("123456", SymbolStripper.DEFAULT.stripTo("12.345-6", new StringWriter()).toString());
+	}
+
+	@Test
+	public void testEqualsIndependeDaOrdem() {
+
+		assertEquals(SymbolStripper.compile("abc"), SymbolStripper.compile("cba"));
+		assertEquals(SymbolStripper.DEFAULT, SymbolStripper.DEFAULT.keeping("").adding(""));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompileNull() {
+
+		SymbolStripper.compile(null);
+	}
+}
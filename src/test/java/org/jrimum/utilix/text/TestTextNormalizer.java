@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 01:53:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 01:53:44
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário para o normalizador de textos e seus leitores/escritores.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestTextNormalizer {
+
+	private static final String TEXT = "Rua São João, 123 - Apto. 401\nAçaí & Cia.";
+
+	private static final String NORMALIZED = "RUA SAO JOAO 123  APTO 401\nACAI  CIA";
+
+	@Test
+	public void testNormalize() {
+
+		assertEquals(NORMALIZED, TextNormalizer.DEFAULT.normalize(TEXT));
+	}
+
+	@Test
+	public void testNormalizeSemAlteracaoRetornaMesmaInstancia() {
+
+		final String value = "JA NORMALIZADO 123";
+
+		assertSame(value, TextNormalizer.DEFAULT.normalize(value));
+	}
+
+	@Test
+	public void testNormalizeSomenteAcentos() {
+
+		final TextNormalizer normalizer = new TextNormalizer(true, null, false);
+
+		assertEquals("Rua Sao Joao, 123 - Apto. 401\nAcai & Cia.", normalizer.normalize(TEXT));
+	}
+
+	@Test
+	public void testNormalizingReaderBulk() throws IOException {
+
+		assertEquals(NORMALIZED, readAll(new NormalizingReader(new StringReader(TEXT)), 7));
+	}
+
+	@Test
+	public void testNormalizingReaderSomenteSimbolos() throws IOException {
+
+		final Reader reader = new NormalizingReader(new StringReader("...--..."));
+
+		assertEquals(-1, reader.read(new char[4], 0, 4));
+	}
+
+	@Test
+	public void testNormalizingReaderCharByChar() throws IOException {
+
+		final Reader reader = new NormalizingReader(new StringReader(TEXT));
+		final StringBuilder result = new StringBuilder();
+
+		int c;
+
+		while ((c = reader.read()) != -1) {
+			result.append((char) c);
+		}
+
+		assertEquals(NORMALIZED, result.toString());
+	}
+
+	@Test
+	public void testNormalizingReaderSkip() throws IOException {
+
+		final Reader reader = new NormalizingReader(new StringReader("-R-U-A-X"));
+
+		assertEquals(3, reader.skip(3));
+		assertEquals('X', reader.read());
+	}
+
+	@Test
+	public void testNormalizingWriter() throws IOException {
+
+		final StringWriter result = new StringWriter();
+		final Writer writer = new NormalizingWriter(result);
+
+		final char[] chars = TEXT.toCharArray();
+
+		writer.write(chars, 0, 10);
+		writer.write(TEXT, 10, TEXT.length() - 11);
+		writer.write(TEXT.charAt(TEXT.length() - 1));
+		writer.close();
+
+		assertEquals(NORMALIZED, result.toString());
+		assertEquals("Modificou o array do chamador!", TEXT, new String(chars));
+	}
+
+	@Test
+	public void testNormalizingWriterTextoMaiorQueBuffer() throws IOException {
+
+		final StringBuilder text = new StringBuilder();
+		final StringBuilder expected = new StringBuilder();
+
+		for (int i = 0; i < 1000; i++) {
+			text.append("ção.");
+			expected.append("CAO");
+		}
+
+		final StringWriter result = new StringWriter();
+		final Writer writer = new NormalizingWriter(result);
+
+		writer.write(text.toString());
+		writer.flush();
+
+		assertEquals(expected.toString(), result.toString());
+	}
+
+	@Test
+	public void testFillCharArray() {
+
+		final char[] line = new char[20];
+
+		int pos = TextNormalizer.DEFAULT.fill("São João", 10, ' ', SideToFill.RIGHT, line, 0);
+		pos = TextNormalizer.DEFAULT.fill("12.345", 8, '0', SideToFill.LEFT, line, pos);
+		pos = TextNormalizer.DEFAULT.fill(null, 2, ' ', SideToFill.LEFT, line, pos);
+
+		assertEquals(20, pos);
+		assertEquals("SAO JOAO  00012345  ", new String(line));
+	}
+
+	@Test
+	public void testFillTrunca() {
+
+		final char[] line = new char[5];
+
+		TextNormalizer.DEFAULT.fill("Açaí-Peixe", 5, ' ', SideToFill.RIGHT, line, 0);
+		assertEquals("ACAIP", new String(line));
+
+		TextNormalizer.DEFAULT.fill("Açaí-Peixe", 5, ' ', SideToFill.LEFT, line, 0);
+		assertEquals("PEIXE", new String(line));
+
+		TextNormalizer.DEFAULT.fill("12345", 3, '0', SideToFill.LEFT, line, 1);
+		assertEquals("P345E", new String(line));
+
+		TextNormalizer.DEFAULT.fill("Açaí", 4, ' ', SideToFill.LEFT, line, 1);
+		assertEquals("PACAI", new String(line));
+	}
+
+	@Test
+	public void testFillStringBuilder() {
+
+		final StringBuilder line = new StringBuilder(">");
+
+		TextNormalizer.DEFAULT.fill("São João", 10, ' ', SideToFill.RIGHT, line);
+		TextNormalizer.DEFAULT.fill("1.5", 6, '0', SideToFill.LEFT, line);
+		TextNormalizer.DEFAULT.fill("Ação, Ltda.", 6, ' ', SideToFill.LEFT, line);
+		TextNormalizer.DEFAULT.fill("Ação, Ltda.", 6, ' ', SideToFill.RIGHT, line);
+		TextNormalizer.DEFAULT.fill("12345", 3, '0', SideToFill.LEFT, line);
+
+		assertEquals(">SAO JOAO  000015O LTDAACAO L345", line.toString());
+	}
+
+	private static String readAll(Reader reader, int bufferSize) throws IOException {
+
+		final StringBuilder result = new StringBuilder();
+		final char[] buffer = new char[bufferSize];
+
+		int count;
+
+		while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+			result.append(buffer, 0, count);
+		}
+
+		return result.toString();
+	}
+}
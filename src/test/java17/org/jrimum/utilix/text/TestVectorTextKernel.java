@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 17/10/2026 - 02:05:59
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 17/10/2026 - 02:05:59
+ *
+ */
+
+package org.jrimum.utilix.text;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste de equivalência entre o kernel vetorial (camada Java 17) e o kernel
+ * escalar.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TestVectorTextKernel {
+
+	private static final int SAMPLES = 2000;
+
+	/**
+	 * Caracteres sorteados: dígitos, letras, acentuados, símbolos, controle e
+	 * valores nos limites das faixas testadas pelo kernel vetorial.
+	 */
+	private static final String ALPHABET = "0123456789ABCXYZabcxyz "
+			+ "ÀÁÂÃÇÉÊÍÓÔÕÚÜàáâãçéêíóôõúüÆßñł"
+			+ "-_=+%*@#&:.;,!?(){}[]/\\><\"'`~^|$"
+			+ "ºª\u0000\u001F\u007F\u0080¿ÿſƀ翿耀￿";
+
+	private final TextKernel scalar = new ScalarTextKernel();
+
+	private final TextKernel vector = new VectorTextKernel();
+
+	private final Random random = new Random(20261017L);
+
+	@Test
+	public void testKernelCarregado() {
+
+		assertEquals(VectorTextKernel.class, TextKernels.KERNEL.getClass());
+	}
+
+	@Test
+	public void testEliminateAccent() {
+
+		for (int sample = 0; sample < SAMPLES; sample++) {
+
+			final char[] expected = randomChars(ALPHABET);
+			final char[] actual = expected.clone();
+			final int offset = random.nextInt(4);
+			final int length = expected.length - offset - random.nextInt(4);
+
+			scalar.eliminateAccent(expected, offset, Math.max(length, 0));
+			vector.eliminateAccent(actual, offset, Math.max(length, 0));
+
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testIsDigits() {
+
+		for (int sample = 0; sample < SAMPLES; sample++) {
+
+			final char[] chars = randomChars("0123456789");
+
+			if (chars.length > 0 && random.nextBoolean()) {
+				chars[random.nextInt(chars.length)] = ALPHABET.charAt(random
+						.nextInt(ALPHABET.length()));
+			}
+
+			final byte[] bytes = new byte[chars.length];
+
+			for (int i = 0; i < chars.length; i++) {
+				bytes[i] = (byte) chars[i];
+			}
+
+			final int offset = Math.min(random.nextInt(4), chars.length);
+			final int length = chars.length - offset;
+
+			assertEquals(scalar.isDigits(chars, offset, length),
+					vector.isDigits(chars, offset, length));
+			assertEquals(scalar.isDigits(bytes, offset, length),
+					vector.isDigits(bytes, offset, length));
+		}
+	}
+
+	@Test
+	public void testStrip() {
+
+		final SymbolStripper[] strippers = { SymbolStripper.DEFAULT,
+				SymbolStripper.DEFAULT.keeping("/").adding("ºª "),
+				SymbolStripper.compile("") };
+
+		for (SymbolStripper stripper : strippers) {
+			for (int sample = 0; sample < SAMPLES; sample++) {
+
+				final char[] expected = randomChars(ALPHABET);
+				final char[] actual = expected.clone();
+				final int offset = Math.min(random.nextInt(4), expected.length);
+				final int length = expected.length - offset;
+
+				assertEquals(stripper.toString(),
+						scalar.strip(stripper, expected, offset, length),
+						vector.strip(stripper, actual, offset, length));
+				assertArrayEquals(expected, actual);
+			}
+		}
+	}
+
+	private char[] randomChars(String alphabet) {
+
+		final char[] chars = new char[random.nextInt(200)];
+
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+		}
+
+		return chars;
+	}
+}